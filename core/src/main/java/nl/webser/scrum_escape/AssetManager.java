@@ -1,19 +1,44 @@
 package nl.webser.scrum_escape;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import nl.webser.scrum_escape.cache.AssetCache;
+import nl.webser.scrum_escape.cache.CachedTextureLoader;
+import nl.webser.scrum_escape.cache.CachedTiledMapLoader;
 
 public class AssetManager {
+    // Lijst van de build (transcodeAudio) met de geluiden die gestreamd worden als Music
+    // in plaats van volledig in het geheugen geladen als Sound; één naam per regel
+    public static final String STREAMED_AUDIO_LIST = "streamed-audio.txt";
+
     private static AssetManager instance;
     private final com.badlogic.gdx.assets.AssetManager manager;
+    private final Map<String, String> audioFiles = new HashMap<>();  // Logische naam -> geladen bestand
+    private final Map<String, Boolean> streamedAudio = new HashMap<>();
+    private Set<String> longAudio;   // Uit STREAMED_AUDIO_LIST, bij het eerste geluid gelezen
     private TextureAtlas atlas;
 
     private AssetManager() {
         manager = new com.badlogic.gdx.assets.AssetManager();
+        if (AssetCache.isEnabled()) {
+            // Textures en kaarten uit de cache met voorgedecodeerde data, als die er is
+            manager.setLoader(Texture.class, new CachedTextureLoader(manager.getFileHandleResolver()));
+            manager.setLoader(TiledMap.class, new CachedTiledMapLoader(manager.getFileHandleResolver()));
+        } else {
+            manager.setLoader(TiledMap.class, new TmxMapLoader());
+        }
         loadAssets();
     }
 
@@ -44,14 +69,13 @@ public class AssetManager {
         manager.load("adaptation.png", Texture.class);    // Tandwiel
         
         // Load tilemap
-        manager.setLoader(TiledMap.class, new TmxMapLoader());
         manager.load("scrum.tmx", TiledMap.class);
         
-        // Load sounds
-        manager.load("correct.wav", Sound.class);
-        manager.load("wrong.wav", Sound.class);
-        manager.load("welcome.wav", Sound.class);
-        manager.load("winner.wav", Sound.class);
+        // Load sounds (korte effecten als Sound, lange clips worden gestreamd)
+        loadAudio("correct.wav");
+        loadAudio("wrong.wav");
+        loadAudio("welcome.wav");
+        loadAudio("winner.wav");
         
         // Wait for all assets to load
         manager.finishLoading();
@@ -72,8 +96,101 @@ public class AssetManager {
         return manager.get(name, TiledMap.class);
     }
 
+    /**
+     * Zet een kaart in de laadwachtrij zonder te wachten.
+     * Het laden gaat verder bij elke aanroep van {@link #update()}.
+     */
+    public void loadTiledMapAsync(String name) {
+        manager.load(name, TiledMap.class);
+    }
+
+    /**
+     * Laat de laadwachtrij een stukje verder werken zonder de render thread te blokkeren.
+     * @return true als alles in de wachtrij geladen is
+     */
+    public boolean update() {
+        return manager.update();
+    }
+
+    /**
+     * Wacht tot één specifiek asset geladen is.
+     */
+    public void finishLoadingAsset(String name) {
+        manager.finishLoadingAsset(name);
+    }
+
+    public boolean isLoaded(String name) {
+        return manager.isLoaded(name);
+    }
+
+    /**
+     * Verlaagt de referentie van een asset; bij nul wordt het uit het geheugen verwijderd.
+     */
+    public void unload(String name) {
+        manager.unload(name);
+    }
+
+    /**
+     * Laadt een geluid volgens het audio beleid:
+     * 1. Als de build een gecomprimeerde .ogg versie heeft gemaakt, wordt die gebruikt
+     * 2. Geluiden uit {@link #STREAMED_AUDIO_LIST} worden als Music gestreamd
+     * 3. Korte effecten blijven als Sound in het geheugen voor directe weergave
+     *
+     * Welke geluiden lang zijn beslist de build, met de drempel uit gradle.properties.
+     * De build maakt alleen een .ogg van lange fragmenten, dus een .ogg wordt altijd
+     * gestreamd, ook als de lijst ontbreekt.
+     *
+     * @param name De logische naam van het geluid, zoals "welcome.wav"
+     */
+    private void loadAudio(String name) {
+        if (audioFiles.containsKey(name)) {
+            return;
+        }
+        String file = name;
+        boolean streamed = getLongAudio().contains(name);
+        FileHandle compressed = Gdx.files.internal(name.replaceFirst("\\.wav$", ".ogg"));
+        if (!compressed.path().equals(name) && compressed.exists()) {
+            file = compressed.path();
+            streamed = true;
+        }
+        audioFiles.put(name, file);
+        streamedAudio.put(name, streamed);
+        if (streamed) {
+            manager.load(file, Music.class);
+        } else {
+            manager.load(file, Sound.class);
+        }
+    }
+
+    private Set<String> getLongAudio() {
+        if (longAudio == null) {
+            longAudio = new HashSet<>();
+            FileHandle list = Gdx.files.internal(STREAMED_AUDIO_LIST);
+            if (list.exists()) {
+                for (String line : list.readString("UTF-8").split("\\r?\\n")) {
+                    if (!line.trim().isEmpty()) {
+                        longAudio.add(line.trim());
+                    }
+                }
+            }
+        }
+        return longAudio;
+    }
+
+    /**
+     * Geeft aan of een geluid als Music wordt gestreamd.
+     * @param name De logische naam van het geluid
+     */
+    public boolean isStreamed(String name) {
+        return streamedAudio.getOrDefault(name, false);
+    }
+
     public Sound getSound(String name) {
-        return manager.get(name, Sound.class);
+        return manager.get(audioFiles.getOrDefault(name, name), Sound.class);
+    }
+
+    public Music getMusic(String name) {
+        return manager.get(audioFiles.getOrDefault(name, name), Music.class);
     }
 
     public void dispose() {
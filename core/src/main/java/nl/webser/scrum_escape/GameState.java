@@ -1,17 +1,23 @@
 package nl.webser.scrum_escape;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.HashMap;
 import java.util.Map;
+import nl.webser.scrum_escape.questions.PlayerModel;
 
 /**
  * GameState houdt de huidige status van het spel bij.
  * Singleton pattern voor één centrale spelstatus.
  */
 public class GameState {
+    /** Maximaal aantal spelers dat samen op één scherm speelt. */
+    public static final int MAX_PLAYERS = 2;
+
     private static GameState instance;
     private int score;
+    private final int[] playerScores = new int[MAX_PLAYERS];
     private final Set<String> answeredQuestions;
     private final Set<String> openedDoors;
     private final Map<String, Integer> failedAttempts;
@@ -19,6 +25,12 @@ public class GameState {
     private boolean monsterActive;
     private float monsterAlpha;
     private final Set<Integer> foundTIAObjects;
+    private int extraLives;
+    // Voor de ranglijst: tellers over het hele potje
+    private int totalFailedAttempts;
+    private int jokersUsed;
+    // Blijft over spellen heen bestaan: wat de speler kent verandert niet bij een nieuw potje
+    private final PlayerModel playerModel = new PlayerModel();
 
     private GameState() {
         this.score = 0;
@@ -36,14 +48,27 @@ public class GameState {
         return instance;
     }
 
-    public void addScore(int points) {
+    /**
+     * Telt punten op bij een speler en bij de score van het team.
+     *
+     * @param player De speler (0 = speler 1)
+     */
+    public void addScore(int player, int points) {
         score += points;
+        playerScores[player] += points;
     }
 
+    /**
+     * De score van het team: alle spelers samen.
+     */
     public int getScore() {
         return score;
     }
 
+    public int getScore(int player) {
+        return playerScores[player];
+    }
+
     public boolean isQuestionAnswered(String questionId) {
         return answeredQuestions.contains(questionId);
     }
@@ -62,6 +87,7 @@ public class GameState {
 
     public void reset() {
         score = 0;
+        Arrays.fill(playerScores, 0);
         answeredQuestions.clear();
         openedDoors.clear();
         failedAttempts.clear();
@@ -69,10 +95,53 @@ public class GameState {
         activeQuestion = null;
         monsterActive = false;
         monsterAlpha = 0f;
+        extraLives = 0;
+        totalFailedAttempts = 0;
+        jokersUsed = 0;
+    }
+
+    public void addExtraLife() {
+        extraLives++;
+    }
+
+    public int getExtraLives() {
+        return extraLives;
+    }
+
+    /**
+     * Gebruikt een extra leven, als de speler er een heeft.
+     * @return true als het spel door mag gaan
+     */
+    public boolean useExtraLife() {
+        if (extraLives == 0) {
+            return false;
+        }
+        extraLives--;
+        return true;
+    }
+
+    public PlayerModel getPlayerModel() {
+        return playerModel;
     }
 
     public void markQuestionFailed(String questionId) {
         failedAttempts.put(questionId, failedAttempts.getOrDefault(questionId, 0) + 1);
+        totalFailedAttempts++;
+    }
+
+    /**
+     * Aantal foute antwoorden in het hele potje; blijft staan als een vraag later goed gaat.
+     */
+    public int getTotalFailedAttempts() {
+        return totalFailedAttempts;
+    }
+
+    public void markJokerUsed() {
+        jokersUsed++;
+    }
+
+    public int getJokersUsed() {
+        return jokersUsed;
     }
 
     public boolean isQuestionFailed(String questionId) {
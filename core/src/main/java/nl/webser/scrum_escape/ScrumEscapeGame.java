@@ -1,18 +1,40 @@
 package nl.webser.scrum_escape;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.util.Locale;
 
+import nl.webser.scrum_escape.animation.AnimationLibrary;
+import nl.webser.scrum_escape.audio.AudioService;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.leaderboard.Leaderboard;
+import nl.webser.scrum_escape.questions.QuestionManager;
 import nl.webser.scrum_escape.screens.GameScreen;
 import nl.webser.scrum_escape.screens.EndScreen;
 import nl.webser.scrum_escape.screens.SuccessScreen;
+import nl.webser.scrum_escape.ui.FontService;
 
 /**
  * ScrumEscapeGame is de hoofdklasse van het spel.
  * Deze klasse erft over van LibGDX's Game klasse en beheert de verschillende schermen.
  */
 public class ScrumEscapeGame extends Game {
+    /** Systeemeigenschap om een taal te kiezen, bijvoorbeeld -Dscrumescape.language=en. */
+    public static final String LANGUAGE_PROPERTY = "scrumescape.language";
+    /** Systeemeigenschap voor samen spelen op één scherm, bijvoorbeeld -Dscrumescape.players=2. */
+    public static final String PLAYERS_PROPERTY = "scrumescape.players";
+    /** Systeemeigenschap voor een moeilijker spel met meer monsters tegelijk, bijvoorbeeld -Dscrumescape.monsters=5. */
+    public static final String MONSTERS_PROPERTY = "scrumescape.monsters";
+    /** Bovengrens voor {@link #MONSTERS_PROPERTY}. */
+    public static final int MAX_MONSTERS = 256;
+
+    /** Virtuele afmetingen van het spel; viewports schalen dit naar het echte venster. */
+    public static final int VIRTUAL_WIDTH = 800;
+    public static final int VIRTUAL_HEIGHT = 640;
+
     private SpriteBatch batch;
+    private SmokeRun smokeRun;
 
     /**
      * Wordt aangeroepen bij het starten van het spel.
@@ -20,9 +42,38 @@ public class ScrumEscapeGame extends Game {
      */
     @Override
     public void create() {
+        // Tot hier: venster, OpenGL context en de natives van LWJGL
+        StartupTrace.mark("window");
         batch = new SpriteBatch();
         AssetManager.getInstance().loadAssets();
+        StartupTrace.mark("assets");
+        // Teksten van de taal van het systeem, tenzij er een taal is meegegeven
+        Localization.getInstance().load(System.getProperty(LANGUAGE_PROPERTY, Locale.getDefault().getLanguage()));
+        // Vragen kunnen tijdens het draaien worden bijgewerkt; nieuwe spellen krijgen de nieuwste versie
+        QuestionManager.getInstance().startWatching(Gdx.files.local(QuestionManager.CATALOGUE_FILE).file());
+        StartupTrace.mark("text & questions");
         setScreen(new GameScreen());
+        StartupTrace.mark("game screen");
+        if (SmokeRun.isEnabled()) {
+            smokeRun = new SmokeRun();
+        }
+    }
+
+    /**
+     * Rendert het actieve scherm en werkt de audio mixer bij.
+     */
+    @Override
+    public void render() {
+        AudioService.getInstance().update(Gdx.graphics.getDeltaTime());
+        super.render();
+        if (StartupTrace.firstFrame() && StartupTrace.isTraining()) {
+            // Trainingsstart voor het class-data-sharing archief: klaar na het eerste frame
+            Gdx.app.exit();
+        }
+        if (smokeRun != null && smokeRun.update()) {
+            smokeRun = null;
+            Gdx.app.exit();
+        }
     }
 
     /**
@@ -32,9 +83,31 @@ public class ScrumEscapeGame extends Game {
     public void dispose() {
         super.dispose();
         batch.dispose();
+        QuestionManager.getInstance().stopWatching();
+        AudioService.getInstance().dispose();
+        AnimationLibrary.getInstance().dispose();
+        FontService.getInstance().dispose();
+        Leaderboard.getInstance().dispose();
         AssetManager.getInstance().dispose();
     }
 
+    /**
+     * Het aantal spelers op één scherm: 1, of tot {@link GameState#MAX_PLAYERS} met {@link #PLAYERS_PROPERTY}.
+     */
+    public static int getPlayerCount() {
+        int players = Integer.getInteger(PLAYERS_PROPERTY, 1);
+        return Math.max(1, Math.min(GameState.MAX_PLAYERS, players));
+    }
+
+    /**
+     * Hoeveel monsters er tegelijk achter de spelers aan mogen: 1, of meer met {@link #MONSTERS_PROPERTY}.
+     * Bij elk fout antwoord komt er een bij, tot dit aantal.
+     */
+    public static int getMaxMonsters() {
+        int monsters = Integer.getInteger(MONSTERS_PROPERTY, 1);
+        return Math.max(1, Math.min(MAX_MONSTERS, monsters));
+    }
+
     /**
      * Toont het game over scherm.
      * Wordt aangeroepen wanneer de speler het spel verliest.
@@ -0,0 +1,127 @@
+package nl.webser.scrum_escape;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import nl.webser.scrum_escape.audio.AudioService;
+import nl.webser.scrum_escape.audio.SoundCue;
+import nl.webser.scrum_escape.hints.HintService;
+import nl.webser.scrum_escape.hints.HintTier;
+import nl.webser.scrum_escape.map.WorldMap;
+import nl.webser.scrum_escape.questions.QuestionCatalogue;
+import nl.webser.scrum_escape.questions.QuestionManager;
+import nl.webser.scrum_escape.questions.QuestionStrategy;
+import nl.webser.scrum_escape.ui.FontService;
+import nl.webser.scrum_escape.ui.FontStyle;
+
+/**
+ * Loopt zonder speler alle onderdelen van het spel één keer door en sluit dan af.
+ *
+ * Bedoeld voor de native-image build: tijdens deze run verzamelt de GraalVM
+ * agent welke klassen, resources en JNI-aanroepen nodig zijn, en daarna
+ * controleert dezelfde run dat het native programma werkt. Elke stap draait in
+ * een eigen frame, zodat ook het renderen van het spel meegenomen wordt.
+ * Een fout breekt de run af met een exception.
+ */
+public class SmokeRun {
+    public static final String PROPERTY = "scrumescape.smoke";
+
+    // Alle werelden van het spel; elke kaart daarin wordt geladen
+    private static final String[] WORLD_FILES = {"scrum.world", "maps/level1.world"};
+
+    private int step = 0;
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Voert de volgende stap uit.
+     *
+     * @return true als alle stappen klaar zijn
+     */
+    public boolean update() {
+        switch (step++) {
+            case 0:
+                loadMaps();
+                return false;
+            case 1:
+                playSounds();
+                return false;
+            case 2:
+                answerQuestions();
+                return false;
+            case 3:
+                for (FontStyle style : FontStyle.values()) {
+                    FontService.getInstance().get(style);
+                }
+                return false;
+            default:
+                AudioService.getInstance().stopAll();
+                GameState.getInstance().reset();
+                System.out.println("Smoke run geslaagd");
+                return true;
+        }
+    }
+
+    private static void loadMaps() {
+        AssetManager assets = AssetManager.getInstance();
+        for (String worldFile : WORLD_FILES) {
+            for (WorldMap.Room room : WorldMap.load(worldFile).getRooms()) {
+                // Laden en weer vrijgeven houdt de referenties van het spel zelf intact
+                assets.loadTiledMapAsync(room.getFileName());
+                assets.finishLoadingAsset(room.getFileName());
+                TiledMap map = assets.getTiledMap(room.getFileName());
+                if (map.getLayers().getCount() == 0) {
+                    throw new IllegalStateException("Kaart zonder lagen: " + room.getFileName());
+                }
+                assets.unload(room.getFileName());
+            }
+        }
+    }
+
+    private static void playSounds() {
+        AudioService audio = AudioService.getInstance();
+        for (SoundCue cue : SoundCue.values()) {
+            audio.play(cue);
+        }
+        audio.update(Gdx.graphics.getDeltaTime());
+    }
+
+    /**
+     * Beantwoordt elke vraag eerst fout en dan goed, en vraagt de hints op.
+     */
+    private static void answerQuestions() {
+        QuestionCatalogue catalogue = QuestionManager.getInstance().getCatalogue();
+        HintService hints = HintService.getInstance();
+        for (String id : catalogue.getQuestionIds()) {
+            answer(catalogue.getQuestion(id));
+            for (HintTier tier : HintTier.values()) {
+                hints.getHint(catalogue.getQuestion(id), catalogue.getBaseId(id), tier);
+            }
+        }
+        for (int i = 0; i < catalogue.getFinalQuestionCount(); i++) {
+            answer(catalogue.getFinalQuestion(i));
+            for (HintTier tier : HintTier.values()) {
+                hints.getHint(catalogue.getFinalQuestion(i), catalogue.getFinalQuestion(i).getQuestionId(), tier);
+            }
+        }
+        // Ook het inlezen van een vragenbestand, zoals de watcher dat doet
+        QuestionCatalogue.parse("{\"questions\":[{\"id\":\"smoke\",\"question\":\"?\",\"options\":[\"a\",\"b\"],\"correct\":1}]}", 0);
+    }
+
+    private static void answer(QuestionStrategy question) {
+        int correct = -1;
+        for (int option = 0; option < question.getOptions().length; option++) {
+            if (question.isCorrectAnswer(option)) {
+                correct = option;
+            }
+        }
+        if (correct < 0) {
+            throw new IllegalStateException("Vraag zonder goed antwoord: " + question.getQuestionId());
+        }
+        if (question.checkAnswer((correct + 1) % question.getOptions().length)) {
+            throw new IllegalStateException("Fout antwoord goedgekeurd: " + question.getQuestionId());
+        }
+        question.checkAnswer(correct);
+    }
+}
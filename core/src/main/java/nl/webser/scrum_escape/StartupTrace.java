@@ -0,0 +1,103 @@
+package nl.webser.scrum_escape;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Meet hoe lang elke fase van het opstarten duurt, tot en met het eerste frame.
+ *
+ * Fasen worden afgesloten met {@link #mark(String)}; de tijd loopt steeds vanaf
+ * de vorige markering. Bij het eerste frame wordt het overzicht afgedrukt als
+ * {@code -Dscrumescape.startupTrace=true} is meegegeven. Met
+ * {@code -Dscrumescape.startupTarget=<ms>} komt er een waarschuwing als het
+ * eerste frame later komt dan het doel.
+ *
+ * Met {@code -Dscrumescape.training=true} sluit het spel na het eerste frame af.
+ * Zo'n trainingsstart wordt gebruikt om een class-data-sharing archief te maken.
+ */
+public final class StartupTrace {
+    public static final String TRACE_PROPERTY = "scrumescape.startupTrace";
+    public static final String TARGET_PROPERTY = "scrumescape.startupTarget";
+    public static final String TRAINING_PROPERTY = "scrumescape.training";
+
+    private static final List<String> phases = new ArrayList<>();
+    private static final List<Long> durations = new ArrayList<>();
+    private static long startNanos = System.nanoTime();
+    private static long lastNanos = startNanos;
+    private static long offsetMillis = 0;
+    private static boolean firstFrameSeen = false;
+
+    private StartupTrace() {
+    }
+
+    /**
+     * Start de meting. De tijd die de JVM al draaide wordt als eerste fase meegeteld.
+     *
+     * @param jvmUptimeMillis Hoe lang de JVM al draait, of 0 als dat onbekend is
+     */
+    public static void start(long jvmUptimeMillis) {
+        phases.clear();
+        durations.clear();
+        startNanos = System.nanoTime();
+        lastNanos = startNanos;
+        offsetMillis = jvmUptimeMillis;
+        firstFrameSeen = false;
+        if (jvmUptimeMillis > 0) {
+            phases.add("jvm");
+            durations.add(jvmUptimeMillis * 1_000_000L);
+        }
+    }
+
+    /**
+     * Sluit een fase af.
+     */
+    public static void mark(String phase) {
+        long now = System.nanoTime();
+        phases.add(phase);
+        durations.add(now - lastNanos);
+        lastNanos = now;
+    }
+
+    /**
+     * Wordt na elk frame aangeroepen; alleen het eerste frame telt.
+     *
+     * @return true als dit het eerste frame was
+     */
+    public static boolean firstFrame() {
+        if (firstFrameSeen) {
+            return false;
+        }
+        firstFrameSeen = true;
+        mark("first frame");
+        if (Boolean.getBoolean(TRACE_PROPERTY) || isTraining()) {
+            report();
+        }
+        return true;
+    }
+
+    /**
+     * Tijd tot het eerste frame (of tot nu) in milliseconden, inclusief de JVM.
+     */
+    public static long getTotalMillis() {
+        return offsetMillis + (lastNanos - startNanos) / 1_000_000L;
+    }
+
+    public static boolean isTraining() {
+        return Boolean.getBoolean(TRAINING_PROPERTY);
+    }
+
+    private static void report() {
+        StringBuilder out = new StringBuilder("Opstarttijd per fase:\n");
+        for (int i = 0; i < phases.size(); i++) {
+            out.append(String.format("  %-16s %6d ms%n", phases.get(i), durations.get(i) / 1_000_000L));
+        }
+        long total = getTotalMillis();
+        out.append(String.format("  %-16s %6d ms", "totaal", total));
+        System.out.println(out);
+
+        long target = Long.getLong(TARGET_PROPERTY, 0L);
+        if (target > 0 && total > target) {
+            System.err.println("Eerste frame na " + total + " ms; doel is " + target + " ms");
+        }
+    }
+}
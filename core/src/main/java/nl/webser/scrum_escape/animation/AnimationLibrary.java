@@ -0,0 +1,68 @@
+package nl.webser.scrum_escape.animation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import nl.webser.scrum_escape.AssetManager;
+
+/**
+ * AnimationLibrary bouwt per soort sprite één {@link FrameTable} op en deelt
+ * die met alle entiteiten. De frames komen uit de AssetManager (uit de atlas
+ * als die geladen is) en worden dus maar één keer aangemaakt.
+ */
+public class AnimationLibrary {
+    private static final float WALK_FRAME_DURATION = 0.15f;
+    private static final float DOOR_FRAME_DURATION = 0.1f;
+
+    private static AnimationLibrary instance;
+    private final Map<SpriteKind, FrameTable> tables = new EnumMap<>(SpriteKind.class);
+
+    private AnimationLibrary() {
+    }
+
+    public static AnimationLibrary getInstance() {
+        if (instance == null) {
+            instance = new AnimationLibrary();
+        }
+        return instance;
+    }
+
+    /**
+     * Geeft de gedeelde frametabel voor een soort sprite.
+     */
+    public FrameTable get(SpriteKind kind) {
+        FrameTable table = tables.get(kind);
+        if (table == null) {
+            table = build(kind);
+            tables.put(kind, table);
+        }
+        return table;
+    }
+
+    private FrameTable build(SpriteKind kind) {
+        AssetManager assets = AssetManager.getInstance();
+        switch (kind) {
+            case PLAYER:
+                return FrameTable.walkCycle(WALK_FRAME_DURATION,
+                    assets.getTextureRegion("player1.png"),
+                    assets.getTextureRegion("player2.png"),
+                    assets.getTextureRegion("player3.png"),
+                    assets.getTextureRegion("player4.png"));
+            case MONSTER:
+                return FrameTable.walkCycle(WALK_FRAME_DURATION, assets.getTextureRegion("monster.png"));
+            case DOOR:
+                return FrameTable.sequence(DOOR_FRAME_DURATION,
+                    assets.getTextureRegion("door_closed.png"),
+                    assets.getTextureRegion("door_open.png"));
+            default:
+                throw new IllegalArgumentException("Onbekende sprite: " + kind);
+        }
+    }
+
+    /**
+     * Vergeet alle tabellen. De textures zelf horen bij de AssetManager.
+     */
+    public void dispose() {
+        tables.clear();
+        instance = null;
+    }
+}
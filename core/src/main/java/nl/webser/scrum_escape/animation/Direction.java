@@ -0,0 +1,25 @@
+package nl.webser.scrum_escape.animation;
+
+/**
+ * Looprichting van een animatie. De volgorde is de rij in een {@link FrameTable}.
+ */
+public enum Direction {
+    DOWN,
+    LEFT,
+    RIGHT,
+    UP;
+
+    /**
+     * Geeft de richting die past bij een verplaatsing.
+     * Horizontale beweging gaat voor, zodat schuin lopen opzij kijkt.
+     *
+     * @param current Huidige richting, voor als er niet bewogen wordt
+     */
+    public static Direction fromMovement(float dx, float dy, Direction current) {
+        if (dx < 0) return LEFT;
+        if (dx > 0) return RIGHT;
+        if (dy > 0) return UP;
+        if (dy < 0) return DOWN;
+        return current;
+    }
+}
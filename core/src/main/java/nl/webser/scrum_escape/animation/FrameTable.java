@@ -0,0 +1,99 @@
+package nl.webser.scrum_escape.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Een tabel met animatieframes per looprichting.
+ *
+ * Een tabel wordt één keer per soort sprite opgebouwd en gedeeld door alle
+ * entiteiten van die soort. Een entiteit houdt zelf alleen een statetime bij;
+ * het opzoeken van een frame maakt geen nieuwe objecten aan.
+ */
+public class FrameTable {
+    private final TextureRegion[][] frames; // [richting][frame]
+    private final float frameDuration;
+    private final boolean looping;
+
+    private FrameTable(TextureRegion[][] frames, float frameDuration, boolean looping) {
+        this.frames = frames;
+        this.frameDuration = frameDuration;
+        this.looping = looping;
+    }
+
+    /**
+     * Maakt een herhalende loopcyclus voor alle richtingen.
+     * De frames zijn getekend naar rechts; voor links worden gespiegelde kopieën
+     * gemaakt. Omhoog en omlaag gebruiken dezelfde frames zolang er geen
+     * aparte tekeningen zijn.
+     */
+    public static FrameTable walkCycle(float frameDuration, TextureRegion... rightFrames) {
+        TextureRegion[] leftFrames = new TextureRegion[rightFrames.length];
+        for (int i = 0; i < rightFrames.length; i++) {
+            leftFrames[i] = new TextureRegion(rightFrames[i]);
+            leftFrames[i].flip(true, false);
+        }
+        TextureRegion[][] frames = new TextureRegion[Direction.values().length][];
+        frames[Direction.DOWN.ordinal()] = rightFrames;
+        frames[Direction.LEFT.ordinal()] = leftFrames;
+        frames[Direction.RIGHT.ordinal()] = rightFrames;
+        frames[Direction.UP.ordinal()] = rightFrames;
+        return new FrameTable(frames, frameDuration, true);
+    }
+
+    /**
+     * Maakt een animatie zonder richting die één keer afspeelt en op het
+     * laatste frame blijft staan, zoals een deur die opengaat.
+     */
+    public static FrameTable sequence(float frameDuration, TextureRegion... frames) {
+        TextureRegion[][] rows = new TextureRegion[Direction.values().length][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = frames;
+        }
+        return new FrameTable(rows, frameDuration, false);
+    }
+
+    /**
+     * Geeft het frame voor een richting en statetime.
+     */
+    public TextureRegion getFrame(Direction direction, float stateTime) {
+        TextureRegion[] row = frames[direction.ordinal()];
+        return row[frameIndex(row.length, stateTime)];
+    }
+
+    /**
+     * Geeft het frame voor een animatie zonder richting.
+     */
+    public TextureRegion getFrame(float stateTime) {
+        return getFrame(Direction.DOWN, stateTime);
+    }
+
+    /**
+     * Geeft het eerste frame, bijvoorbeeld voor stilstaan of een gesloten deur.
+     */
+    public TextureRegion getFirstFrame(Direction direction) {
+        return frames[direction.ordinal()][0];
+    }
+
+    /**
+     * Geeft het laatste frame, bijvoorbeeld voor een open deur.
+     */
+    public TextureRegion getLastFrame() {
+        TextureRegion[] row = frames[Direction.DOWN.ordinal()];
+        return row[row.length - 1];
+    }
+
+    /**
+     * Geeft aan of een niet-herhalende animatie klaar is.
+     */
+    public boolean isFinished(float stateTime) {
+        return !looping && stateTime >= frameDuration * frames[0].length;
+    }
+
+    private int frameIndex(int frameCount, float stateTime) {
+        int index = (int) (stateTime / frameDuration);
+        if (looping) {
+            return index % frameCount;
+        }
+        return Math.min(index, frameCount - 1);
+    }
+}
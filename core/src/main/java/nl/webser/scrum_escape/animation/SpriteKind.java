@@ -0,0 +1,10 @@
+package nl.webser.scrum_escape.animation;
+
+/**
+ * Soorten sprites met een eigen, gedeelde {@link FrameTable}.
+ */
+public enum SpriteKind {
+    PLAYER,
+    MONSTER,
+    DOOR
+}
@@ -0,0 +1,260 @@
+package nl.webser.scrum_escape.audio;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+
+import nl.webser.scrum_escape.AssetManager;
+import nl.webser.scrum_escape.observer.GameEvent;
+import nl.webser.scrum_escape.observer.GameEventListener;
+
+/**
+ * AudioService speelt alle geluiden van het spel af.
+ * Singleton pattern: er is één mixer voor het hele spel, ook over schermen heen.
+ *
+ * De service:
+ * 1. Haalt alle geluiden één keer op uit de {@link AssetManager}: korte effecten als
+ *    gedecodeerde Sound, lange clips als gestreamde Music
+ * 2. Houdt per geluid een vast aantal voices bij; is het maximum bereikt, dan wordt de oudste gestopt
+ * 3. Dempt geluiden met een lagere prioriteit zolang een belangrijk geluid speelt (ducking)
+ * 4. Reageert op gebeurtenissen van de event bus, zodat schermen geen geluiden meer zelf afspelen
+ *
+ * Alle administratie staat in vaste arrays, dus afspelen maakt geen objecten aan.
+ */
+public class AudioService implements GameEventListener {
+    private static final SoundCue[] CUES = SoundCue.values();
+    private static final float DUCK_VOLUME = 0.3f;   // Volume van gedempte geluiden
+    private static final long NO_VOICE = -1L;
+
+    private static AudioService instance;
+
+    private final Sound[] sounds;
+    private final Music[] streams;          // Gestreamde clips (null als het geluid een Sound is)
+    private final long[][] voiceIds;        // Actieve voice IDs per geluid
+    private final float[][] voiceTimers;    // Resterende speeltijd per voice
+    private final int[] nextVoice;          // Volgende slot per geluid (round robin = oudste voice)
+    private float duckTimer;                // Hoe lang er nog gedempt wordt
+    private int duckPriority = -1;          // Prioriteit van het geluid dat dempt
+    private float volume = 1f;
+
+    private AudioService() {
+        sounds = new Sound[CUES.length];
+        streams = new Music[CUES.length];
+        voiceIds = new long[CUES.length][];
+        voiceTimers = new float[CUES.length][];
+        nextVoice = new int[CUES.length];
+        for (SoundCue cue : CUES) {
+            int index = cue.ordinal();
+            if (AssetManager.getInstance().isStreamed(cue.getFileName())) {
+                streams[index] = AssetManager.getInstance().getMusic(cue.getFileName());
+            } else {
+                sounds[index] = AssetManager.getInstance().getSound(cue.getFileName());
+            }
+            voiceIds[index] = new long[cue.getMaxVoices()];
+            voiceTimers[index] = new float[cue.getMaxVoices()];
+            Arrays.fill(voiceIds[index], NO_VOICE);
+        }
+    }
+
+    public static AudioService getInstance() {
+        if (instance == null) {
+            instance = new AudioService();
+        }
+        return instance;
+    }
+
+    /**
+     * Speelt een geluid af volgens de regels van de cue.
+     *
+     * @param cue Het geluid om af te spelen
+     * @return De voice ID, of -1 als er geen voice beschikbaar was
+     */
+    public long play(SoundCue cue) {
+        int index = cue.ordinal();
+        if (streams[index] != null) {
+            return playStream(cue);
+        }
+        Sound sound = sounds[index];
+        if (sound == null) {
+            return NO_VOICE;
+        }
+
+        // Kies een vrije voice, of steel de oudste als alles bezet is
+        int slot = nextVoice[index];
+        long[] ids = voiceIds[index];
+        float[] timers = voiceTimers[index];
+        for (int i = 0; i < ids.length; i++) {
+            if (timers[i] <= 0f) {
+                slot = i;
+                break;
+            }
+        }
+        if (ids[slot] != NO_VOICE && timers[slot] > 0f) {
+            sound.stop(ids[slot]);
+        }
+        nextVoice[index] = (slot + 1) % ids.length;
+
+        // Belangrijke geluiden dempen alles met een lagere prioriteit
+        if (cue.getPriority() > 0 && cue.getPriority() >= duckPriority) {
+            startDucking(cue);
+        }
+
+        long id = sound.play(volumeFor(cue));
+        ids[slot] = id;
+        timers[slot] = id == NO_VOICE ? 0f : cue.getDuration();
+        return id;
+    }
+
+    /**
+     * Stopt alle voices van één geluid.
+     */
+    public void stop(SoundCue cue) {
+        int index = cue.ordinal();
+        if (sounds[index] != null) {
+            sounds[index].stop();
+        }
+        if (streams[index] != null) {
+            streams[index].stop();
+        }
+        Arrays.fill(voiceIds[index], NO_VOICE);
+        Arrays.fill(voiceTimers[index], 0f);
+        if (duckPriority == cue.getPriority()) {
+            duckTimer = 0f;
+        }
+    }
+
+    /**
+     * Stopt alle geluiden, bijvoorbeeld bij het wisselen van scherm.
+     */
+    public void stopAll() {
+        for (SoundCue cue : CUES) {
+            stop(cue);
+        }
+        duckTimer = 0f;
+        duckPriority = -1;
+    }
+
+    /**
+     * Werkt de voice timers en de demping bij. Wordt elke frame aangeroepen.
+     * @param delta Tijd sinds de laatste frame in seconden
+     */
+    public void update(float delta) {
+        for (int c = 0; c < CUES.length; c++) {
+            float[] timers = voiceTimers[c];
+            long[] ids = voiceIds[c];
+            for (int i = 0; i < timers.length; i++) {
+                if (timers[i] > 0f) {
+                    timers[i] -= delta;
+                    if (timers[i] <= 0f) {
+                        timers[i] = 0f;
+                        ids[i] = NO_VOICE;
+                    }
+                }
+            }
+        }
+        if (duckTimer > 0f) {
+            duckTimer -= delta;
+            if (duckTimer <= 0f) {
+                duckTimer = 0f;
+                duckPriority = -1;
+                applyVolumes();
+            }
+        }
+    }
+
+    /**
+     * Stelt het hoofdvolume in (0 - 1).
+     */
+    public void setVolume(float volume) {
+        this.volume = Math.max(0f, Math.min(1f, volume));
+        applyVolumes();
+    }
+
+    public float getVolume() {
+        return volume;
+    }
+
+    /**
+     * Koppelt spelgebeurtenissen aan geluiden.
+     */
+    @Override
+    public void onEvent(GameEvent event, String subjectId, int value) {
+        switch (event) {
+            case ANSWER_CORRECT:
+                play(SoundCue.CORRECT);
+                break;
+            case ANSWER_WRONG:
+            case GAME_OVER:
+                play(SoundCue.WRONG);
+                break;
+            case GAME_COMPLETED:
+                play(SoundCue.WINNER);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Stopt alle geluiden en laat de geluiden los.
+     * De geluiden zelf worden opgeruimd door de {@link AssetManager}.
+     */
+    public void dispose() {
+        stopAll();
+        instance = null;
+    }
+
+    /**
+     * Speelt een gestreamde clip af. Een stream heeft maar één voice,
+     * dus opnieuw afspelen begint de clip opnieuw in plaats van te stapelen.
+     */
+    private long playStream(SoundCue cue) {
+        int index = cue.ordinal();
+        Music stream = streams[index];
+        stream.stop();
+        if (cue.getPriority() > 0 && cue.getPriority() >= duckPriority) {
+            startDucking(cue);
+        }
+        stream.setVolume(volumeFor(cue));
+        stream.play();
+        voiceIds[index][0] = 0L;
+        voiceTimers[index][0] = cue.getDuration();
+        return 0L;
+    }
+
+    private void startDucking(SoundCue cue) {
+        duckPriority = cue.getPriority();
+        duckTimer = Math.max(duckTimer, cue.getDuration());
+        applyVolumes();
+    }
+
+    private float volumeFor(SoundCue cue) {
+        if (duckTimer > 0f && cue.getPriority() < duckPriority) {
+            return volume * DUCK_VOLUME;
+        }
+        return volume;
+    }
+
+    private void applyVolumes() {
+        for (SoundCue cue : CUES) {
+            int index = cue.ordinal();
+            float cueVolume = volumeFor(cue);
+            if (streams[index] != null) {
+                streams[index].setVolume(cueVolume);
+                continue;
+            }
+            Sound sound = sounds[index];
+            if (sound == null) {
+                continue;
+            }
+            long[] ids = voiceIds[index];
+            float[] timers = voiceTimers[index];
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] != NO_VOICE && timers[i] > 0f) {
+                    sound.setVolume(ids[i], cueVolume);
+                }
+            }
+        }
+    }
+}
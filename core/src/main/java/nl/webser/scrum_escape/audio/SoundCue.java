@@ -0,0 +1,47 @@
+package nl.webser.scrum_escape.audio;
+
+/**
+ * Alle geluiden die het spel kan afspelen, met hun afspeelregels.
+ * De ordinal wordt door de {@link AudioService} gebruikt als index,
+ * zodat het afspelen geen map lookups nodig heeft.
+ */
+public enum SoundCue {
+    CORRECT("correct.wav", 2, 0, 0.5f),
+    WRONG("wrong.wav", 2, 0, 0.5f),
+    WELCOME("welcome.wav", 1, 1, 11.5f),
+    WINNER("winner.wav", 1, 1, 6.4f);
+
+    private final String fileName;
+    private final int maxVoices;
+    private final int priority;
+    private final float duration;
+
+    /**
+     * @param fileName Bestandsnaam van het geluid in de assets
+     * @param maxVoices Maximaal aantal keer dat dit geluid tegelijk mag klinken
+     * @param priority Geluiden met een hogere prioriteit dempen lagere prioriteiten
+     * @param duration Lengte van het geluid in seconden
+     */
+    SoundCue(String fileName, int maxVoices, int priority, float duration) {
+        this.fileName = fileName;
+        this.maxVoices = maxVoices;
+        this.priority = priority;
+        this.duration = duration;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public float getDuration() {
+        return duration;
+    }
+}
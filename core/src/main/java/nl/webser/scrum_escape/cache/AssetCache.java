@@ -0,0 +1,137 @@
+package nl.webser.scrum_escape.cache;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Gedeelde hulpmiddelen voor de cache met voorgedecodeerde assets.
+ *
+ * Elk cachebestand hoort bij één asset en heeft de hash van de bronbestanden
+ * in zijn naam, bijvoorbeeld {@code scrum.tmx_1a2b3c4d.bin}. Verandert een
+ * bronbestand, dan verandert de hash en wordt het oude cachebestand niet meer
+ * gevonden; de loader valt dan terug op het gewone laden en schrijft een nieuw
+ * bestand. Cachebestanden worden met memory-mapping gelezen, zodat er bij het
+ * opstarten niets gekopieerd of geparsed hoeft te worden.
+ */
+public final class AssetCache {
+    public static final String CACHE_DIR = "cache/assets/";
+    public static final String ENABLED_PROPERTY = "scrumescape.assetCache";
+
+    // Ophogen als de opbouw van een cachebestand verandert
+    static final int VERSION = 1;
+    static final int MAGIC = 0x53454143; // "SEAC"
+
+    private AssetCache() {
+    }
+
+    /**
+     * De cache staat aan, tenzij het spel gestart is met -Dscrumescape.assetCache=false.
+     */
+    public static boolean isEnabled() {
+        return !"false".equals(System.getProperty(ENABLED_PROPERTY));
+    }
+
+    /**
+     * CRC32 over de inhoud van een of meer bronbestanden.
+     */
+    public static long hash(byte[]... contents) {
+        CRC32 crc = new CRC32();
+        for (byte[] content : contents) {
+            crc.update(content);
+        }
+        crc.update(VERSION);
+        return crc.getValue();
+    }
+
+    /**
+     * Het cachebestand voor een asset met een bepaalde hash.
+     */
+    public static FileHandle getCacheFile(String assetName, long hash) {
+        return Gdx.files.local(CACHE_DIR + prefix(assetName) + Long.toHexString(hash) + ".bin");
+    }
+
+    /**
+     * Opent een cachebestand met memory-mapping en controleert de kop.
+     *
+     * @return De inhoud na de kop, of null als het bestand niet bestaat of niet past
+     */
+    public static ByteBuffer map(FileHandle cacheFile, long hash) {
+        if (!cacheFile.exists()) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(cacheFile.file().toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 16 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != hash) {
+                return null;
+            }
+            return buffer;
+        } catch (IOException e) {
+            System.err.println("Assetcache " + cacheFile.path() + " niet leesbaar: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Schrijft een cachebestand met kop en verwijdert oudere versies van dezelfde asset.
+     * Een fout bij het schrijven wordt gemeld maar is niet erg: de volgende start
+     * laadt de asset dan gewoon opnieuw uit de bron.
+     */
+    public static void write(String assetName, long hash, ByteArrayOutputStream body) {
+        FileHandle cacheFile = getCacheFile(assetName, hash);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.size() + 16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(hash);
+            body.writeTo(out);
+            out.flush();
+
+            String prefix = prefix(assetName);
+            for (FileHandle old : cacheFile.parent().list()) {
+                if (old.name().startsWith(prefix) && !old.name().equals(cacheFile.name())) {
+                    old.delete();
+                }
+            }
+            // Eerst naar een tijdelijk bestand, zodat een half bestand nooit gelezen wordt
+            FileHandle temp = cacheFile.sibling(cacheFile.name() + ".tmp");
+            temp.writeBytes(bytes.toByteArray(), false);
+            temp.moveTo(cacheFile);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Assetcache " + cacheFile.path() + " niet geschreven: " + e.getMessage());
+        }
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Mappen in de naam worden underscores, zodat alle cachebestanden in één map staan
+    private static String prefix(String assetName) {
+        return assetName.replace("..", "").replace('/', '_').replace('\\', '_') + "_";
+    }
+}
@@ -0,0 +1,109 @@
+package nl.webser.scrum_escape.cache;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Laadt PNG textures via de assetcache.
+ *
+ * De eerste keer wordt de PNG gedecodeerd en worden de ruwe pixels in de cache
+ * gezet. Daarna worden de pixels direct uit het gemapte cachebestand naar de
+ * pixmap gekopieerd; er hoeft niets meer gedecomprimeerd te worden. Andere
+ * formaten en textures met eigen {@code TextureData} gaan via de gewone
+ * {@link TextureLoader}.
+ */
+public class CachedTextureLoader extends TextureLoader {
+    private Pixmap pixmap;
+
+    public CachedTextureLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        pixmap = null;
+        boolean custom = parameter != null && (parameter.textureData != null || parameter.texture != null);
+        if (custom || !file.extension().equalsIgnoreCase("png")) {
+            super.loadAsync(manager, fileName, file, parameter);
+            return;
+        }
+
+        byte[] png = file.readBytes();
+        long hash = AssetCache.hash(png);
+        ByteBuffer cached = AssetCache.map(AssetCache.getCacheFile(fileName, hash), hash);
+        if (cached != null) {
+            try {
+                pixmap = read(cached);
+            } catch (RuntimeException e) {
+                System.err.println("Assetcache voor " + fileName + " niet bruikbaar: " + e.getMessage());
+            }
+        }
+        if (pixmap == null) {
+            pixmap = new Pixmap(png, 0, png.length);
+            write(fileName, hash, pixmap);
+        }
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        if (pixmap == null) {
+            return super.loadSync(manager, fileName, file, parameter);
+        }
+        Pixmap.Format format = parameter != null && parameter.format != null ? parameter.format : pixmap.getFormat();
+        boolean mipMaps = parameter != null && parameter.genMipMaps;
+        Texture texture = new Texture(pixmap, format, mipMaps);
+        pixmap.dispose();
+        pixmap = null;
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        return texture;
+    }
+
+    private static Pixmap read(ByteBuffer cached) {
+        int width = cached.getInt();
+        int height = cached.getInt();
+        int format = cached.getInt();
+        if (format < 0 || format >= Pixmap.Format.values().length) {
+            return null;
+        }
+        Pixmap result = new Pixmap(width, height, Pixmap.Format.values()[format]);
+        ByteBuffer pixels = result.getPixels();
+        if (cached.remaining() != pixels.capacity()) {
+            result.dispose();
+            return null;
+        }
+        pixels.position(0);
+        pixels.put(cached);
+        pixels.position(0);
+        return result;
+    }
+
+    private static void write(String fileName, long hash, Pixmap pixmap) {
+        ByteBuffer pixels = pixmap.getPixels();
+        byte[] data = new byte[pixels.capacity()];
+        pixels.position(0);
+        pixels.get(data);
+        pixels.position(0);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(data.length + 12);
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            out.writeInt(pixmap.getWidth());
+            out.writeInt(pixmap.getHeight());
+            out.writeInt(pixmap.getFormat().ordinal());
+            out.write(data);
+        } catch (IOException e) {
+            return; // Kan bij een geheugenstroom niet gebeuren
+        }
+        AssetCache.write(fileName, hash, body);
+    }
+}
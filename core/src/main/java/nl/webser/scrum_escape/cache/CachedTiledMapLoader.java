@@ -0,0 +1,139 @@
+package nl.webser.scrum_escape.cache;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Laadt TMX kaarten via de assetcache.
+ *
+ * De hash van een kaart gaat over het TMX bestand en de externe tilesets
+ * (.tsx) waar het naar verwijst. Staat er een cachebestand met die hash, dan
+ * wordt de kaart daaruit opgebouwd zonder XML te parsen of CSV/base64 tiledata
+ * te decoderen. Anders laadt de gewone {@link TmxMapLoader} de kaart en wordt
+ * het resultaat voor de volgende start in de cache gezet.
+ *
+ * Net als de TmxMapLoader laadt deze loader één kaart tegelijk; de
+ * AssetManager roept hem nooit voor twee kaarten door elkaar aan.
+ */
+public class CachedTiledMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader.Parameters> {
+    private static final Pattern TILESET_SOURCE = Pattern.compile("<tileset[^>]*\\ssource=\"([^\"]+)\"");
+
+    private final TmxMapLoader tmxLoader;
+    private ByteBuffer cached;
+    private long hash;
+    private TiledMap map;
+
+    public CachedTiledMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+        tmxLoader = new TmxMapLoader(resolver);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TmxMapLoader.Parameters parameter) {
+        hash = hashSources(file, parameter);
+        cached = AssetCache.map(AssetCache.getCacheFile(fileName, hash), hash);
+        if (cached != null) {
+            try {
+                TextureLoader.TextureParameter textureParameter = new TextureLoader.TextureParameter();
+                if (parameter != null) {
+                    textureParameter.genMipMaps = parameter.generateMipMaps;
+                    textureParameter.minFilter = parameter.textureMinFilter;
+                    textureParameter.magFilter = parameter.textureMagFilter;
+                }
+                Array<AssetDescriptor> dependencies = new Array<>();
+                for (String texture : TiledMapCodec.readTextures(cached)) {
+                    dependencies.add(new AssetDescriptor<>(texture, Texture.class, textureParameter));
+                }
+                return dependencies;
+            } catch (RuntimeException e) {
+                System.err.println("Assetcache voor " + fileName + " niet bruikbaar: " + e.getMessage());
+                cached = null;
+            }
+        }
+        return tmxLoader.getDependencies(fileName, file, parameter);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TmxMapLoader.Parameters parameter) {
+        if (cached != null) {
+            try {
+                map = TiledMapCodec.read(cached, manager);
+                return;
+            } catch (RuntimeException e) {
+                // De textures zijn al geladen; alleen de kaart zelf komt dan uit de TMX
+                System.err.println("Assetcache voor " + fileName + " niet bruikbaar: " + e.getMessage());
+                tmxLoader.getDependencies(fileName, file, parameter);
+            }
+        }
+        tmxLoader.loadAsync(manager, fileName, file, parameter);
+        map = tmxLoader.loadSync(manager, fileName, file, parameter);
+        write(manager, fileName);
+    }
+
+    @Override
+    public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file, TmxMapLoader.Parameters parameter) {
+        TiledMap result = map;
+        map = null;
+        cached = null;
+        return result;
+    }
+
+    private void write(AssetManager manager, String fileName) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            TiledMapCodec.write(out, map, manager);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Kaart " + fileName + " niet gecachet: " + e.getMessage());
+            return;
+        }
+        AssetCache.write(fileName, hash, body);
+    }
+
+    /**
+     * Hash over de TMX, de tilesets waar die naar verwijst en de laadopties
+     * die het resultaat bepalen.
+     */
+    private static long hashSources(FileHandle tmxFile, TmxMapLoader.Parameters parameter) {
+        byte[] tmx = tmxFile.readBytes();
+        Array<byte[]> sources = new Array<>();
+        sources.add(tmx);
+        Matcher matcher = TILESET_SOURCE.matcher(new String(tmx, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            FileHandle tileSet = getRelativeFileHandle(tmxFile, matcher.group(1));
+            if (tileSet.exists()) {
+                sources.add(tileSet.readBytes());
+            }
+        }
+        boolean flipY = parameter == null || parameter.flipY;
+        boolean tileSpace = parameter != null && parameter.convertObjectToTileSpace;
+        sources.add(new byte[] {(byte) (flipY ? 1 : 0), (byte) (tileSpace ? 1 : 0)});
+        return AssetCache.hash(sources.toArray(byte[].class));
+    }
+
+    // Zelfde oplossing van relatieve paden als de TmxMapLoader
+    private static FileHandle getRelativeFileHandle(FileHandle file, String path) {
+        StringTokenizer tokenizer = new StringTokenizer(path, "\\/");
+        FileHandle result = file.parent();
+        while (tokenizer.hasMoreElements()) {
+            String token = tokenizer.nextToken();
+            result = token.equals("..") ? result.parent() : result.child(token);
+        }
+        return result;
+    }
+}
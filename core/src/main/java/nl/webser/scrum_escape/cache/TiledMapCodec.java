@@ -0,0 +1,370 @@
+package nl.webser.scrum_escape.cache;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Zet een geladen {@link TiledMap} om naar het binaire cacheformaat en terug.
+ *
+ * Opbouw van het bestand (na de kop van {@link AssetCache}):
+ * <ol>
+ *   <li>de bestandsnamen van de textures waar de tiles naar verwijzen;</li>
+ *   <li>de eigenschappen van de kaart;</li>
+ *   <li>de tilesets met per tile het stuk texture en de eigenschappen;</li>
+ *   <li>de lagen: een tilelaag als één int array met per cel het tile id en
+ *       de spiegel- en draaivlaggen, een objectlaag als rij rechthoeken.</li>
+ * </ol>
+ *
+ * Alleen wat de kaarten van dit spel gebruiken wordt ondersteund: vaste tiles,
+ * tilelagen en objectlagen met rechthoeken. Voor andere kaarten gooit
+ * {@link #write} een {@link IllegalArgumentException} en wordt er niets gecachet.
+ */
+final class TiledMapCodec {
+    private static final byte LAYER_TILES = 0;
+    private static final byte LAYER_OBJECTS = 1;
+
+    private static final byte VALUE_STRING = 0;
+    private static final byte VALUE_INT = 1;
+    private static final byte VALUE_FLOAT = 2;
+    private static final byte VALUE_BOOLEAN = 3;
+    private static final byte VALUE_COLOR = 4;
+    private static final byte VALUE_PROPERTIES = 5;
+
+    // Vlaggen in de bovenste bits van een cel; de rest is het tile id
+    private static final int FLIP_HORIZONTALLY = 1 << 31;
+    private static final int FLIP_VERTICALLY = 1 << 30;
+    private static final int ROTATION_SHIFT = 28;
+    private static final int TILE_ID_MASK = (1 << ROTATION_SHIFT) - 1;
+
+    private TiledMapCodec() {
+    }
+
+    /**
+     * Leest alleen de lijst met textures, zodat die als afhankelijkheden geladen
+     * kunnen worden. De positie van de buffer blijft ongewijzigd.
+     */
+    static List<String> readTextures(ByteBuffer in) {
+        ByteBuffer copy = in.duplicate();
+        int count = copy.getInt();
+        List<String> textures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            textures.add(AssetCache.readString(copy));
+        }
+        return textures;
+    }
+
+    static void write(DataOutputStream out, TiledMap map, AssetManager manager) throws IOException {
+        List<Texture> textures = new ArrayList<>();
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            for (TiledMapTile tile : tileSet) {
+                Texture texture = tile.getTextureRegion().getTexture();
+                if (!textures.contains(texture)) {
+                    textures.add(texture);
+                }
+            }
+        }
+        out.writeInt(textures.size());
+        for (Texture texture : textures) {
+            String fileName = manager.getAssetFileName(texture);
+            if (fileName == null) {
+                throw new IllegalArgumentException("texture is niet via de AssetManager geladen");
+            }
+            AssetCache.writeString(out, fileName);
+        }
+
+        writeProperties(out, map.getProperties());
+
+        int tileSetCount = 0;
+        for (TiledMapTileSet ignored : map.getTileSets()) {
+            tileSetCount++;
+        }
+        out.writeInt(tileSetCount);
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            AssetCache.writeString(out, tileSet.getName());
+            writeProperties(out, tileSet.getProperties());
+            out.writeInt(tileSet.size());
+            for (TiledMapTile tile : tileSet) {
+                if (!(tile instanceof StaticTiledMapTile) || tile.getObjects().getCount() > 0) {
+                    throw new IllegalArgumentException("alleen vaste tiles zonder objecten worden ondersteund");
+                }
+                TextureRegion region = tile.getTextureRegion();
+                out.writeInt(tile.getId());
+                out.writeInt(textures.indexOf(region.getTexture()));
+                out.writeInt(region.getRegionX());
+                out.writeInt(region.getRegionY());
+                out.writeInt(region.getRegionWidth());
+                out.writeInt(region.getRegionHeight());
+                out.writeBoolean(region.isFlipX());
+                out.writeBoolean(region.isFlipY());
+                out.writeFloat(tile.getOffsetX());
+                out.writeFloat(tile.getOffsetY());
+                out.writeByte(tile.getBlendMode().ordinal());
+                writeProperties(out, tile.getProperties());
+            }
+        }
+
+        out.writeInt(map.getLayers().getCount());
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) {
+                out.writeByte(LAYER_TILES);
+            } else if (layer.getClass() == MapLayer.class) {
+                out.writeByte(LAYER_OBJECTS);
+            } else {
+                throw new IllegalArgumentException("laag " + layer.getName() + " wordt niet ondersteund");
+            }
+            AssetCache.writeString(out, layer.getName());
+            out.writeBoolean(layer.isVisible());
+            out.writeFloat(layer.getOpacity());
+            out.writeFloat(layer.getOffsetX());
+            out.writeFloat(layer.getOffsetY());
+            out.writeFloat(layer.getParallaxX());
+            out.writeFloat(layer.getParallaxY());
+            out.writeInt(Color.rgba8888(layer.getTintColor()));
+            writeProperties(out, layer.getProperties());
+
+            if (layer instanceof TiledMapTileLayer) {
+                writeTiles(out, (TiledMapTileLayer) layer);
+            } else {
+                writeObjects(out, layer);
+            }
+        }
+    }
+
+    private static void writeTiles(DataOutputStream out, TiledMapTileLayer layer) throws IOException {
+        out.writeInt(layer.getWidth());
+        out.writeInt(layer.getHeight());
+        out.writeInt(layer.getTileWidth());
+        out.writeInt(layer.getTileHeight());
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell == null || cell.getTile() == null) {
+                    out.writeInt(0);
+                    continue;
+                }
+                int value = cell.getTile().getId() & TILE_ID_MASK;
+                if (cell.getFlipHorizontally()) value |= FLIP_HORIZONTALLY;
+                if (cell.getFlipVertically()) value |= FLIP_VERTICALLY;
+                value |= (cell.getRotation() & 3) << ROTATION_SHIFT;
+                out.writeInt(value);
+            }
+        }
+    }
+
+    private static void writeObjects(DataOutputStream out, MapLayer layer) throws IOException {
+        out.writeInt(layer.getObjects().getCount());
+        for (MapObject object : layer.getObjects()) {
+            if (!(object instanceof RectangleMapObject)) {
+                throw new IllegalArgumentException("object " + object.getName() + " is geen rechthoek");
+            }
+            Rectangle rectangle = ((RectangleMapObject) object).getRectangle();
+            AssetCache.writeString(out, object.getName());
+            out.writeBoolean(object.isVisible());
+            out.writeFloat(object.getOpacity());
+            out.writeInt(Color.rgba8888(object.getColor()));
+            out.writeFloat(rectangle.x);
+            out.writeFloat(rectangle.y);
+            out.writeFloat(rectangle.width);
+            out.writeFloat(rectangle.height);
+            writeProperties(out, object.getProperties());
+        }
+    }
+
+    private static void writeProperties(DataOutputStream out, MapProperties properties) throws IOException {
+        int count = 0;
+        for (Iterator<String> keys = properties.getKeys(); keys.hasNext(); keys.next()) {
+            count++;
+        }
+        out.writeInt(count);
+        Iterator<String> keys = properties.getKeys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object value = properties.get(key);
+            AssetCache.writeString(out, key);
+            if (value instanceof String) {
+                out.writeByte(VALUE_STRING);
+                AssetCache.writeString(out, (String) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(VALUE_INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Float) {
+                out.writeByte(VALUE_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(VALUE_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Color) {
+                out.writeByte(VALUE_COLOR);
+                out.writeInt(Color.rgba8888((Color) value));
+            } else if (value instanceof MapProperties) {
+                out.writeByte(VALUE_PROPERTIES);
+                writeProperties(out, (MapProperties) value);
+            } else {
+                throw new IllegalArgumentException("eigenschap " + key + " heeft een onbekend type");
+            }
+        }
+    }
+
+    /**
+     * Bouwt de kaart op uit de cache. De textures moeten al geladen zijn.
+     */
+    static TiledMap read(ByteBuffer in, AssetManager manager) {
+        int textureCount = in.getInt();
+        Texture[] textures = new Texture[textureCount];
+        for (int i = 0; i < textureCount; i++) {
+            textures[i] = manager.get(AssetCache.readString(in), Texture.class);
+        }
+
+        TiledMap map = new TiledMap();
+        readProperties(in, map.getProperties());
+
+        int tileSetCount = in.getInt();
+        for (int i = 0; i < tileSetCount; i++) {
+            TiledMapTileSet tileSet = new TiledMapTileSet();
+            tileSet.setName(AssetCache.readString(in));
+            readProperties(in, tileSet.getProperties());
+            int tileCount = in.getInt();
+            for (int t = 0; t < tileCount; t++) {
+                int id = in.getInt();
+                Texture texture = textures[in.getInt()];
+                TextureRegion region = new TextureRegion(texture, in.getInt(), in.getInt(), in.getInt(), in.getInt());
+                region.flip(in.get() != 0, in.get() != 0);
+                StaticTiledMapTile tile = new StaticTiledMapTile(region);
+                tile.setId(id);
+                tile.setOffsetX(in.getFloat());
+                tile.setOffsetY(in.getFloat());
+                tile.setBlendMode(TiledMapTile.BlendMode.values()[in.get()]);
+                readProperties(in, tile.getProperties());
+                tileSet.putTile(id, tile);
+            }
+            map.getTileSets().addTileSet(tileSet);
+        }
+
+        int layerCount = in.getInt();
+        for (int i = 0; i < layerCount; i++) {
+            byte kind = in.get();
+            String name = AssetCache.readString(in);
+            boolean visible = in.get() != 0;
+            float opacity = in.getFloat();
+            float offsetX = in.getFloat();
+            float offsetY = in.getFloat();
+            float parallaxX = in.getFloat();
+            float parallaxY = in.getFloat();
+            Color tint = new Color(in.getInt());
+            MapProperties properties = new MapProperties();
+            readProperties(in, properties);
+
+            MapLayer layer = kind == LAYER_TILES ? readTiles(in, map) : readObjects(in);
+            layer.setName(name);
+            layer.setVisible(visible);
+            layer.setOpacity(opacity);
+            layer.setOffsetX(offsetX);
+            layer.setOffsetY(offsetY);
+            layer.setParallaxX(parallaxX);
+            layer.setParallaxY(parallaxY);
+            layer.setTintColor(tint);
+            layer.getProperties().putAll(properties);
+            map.getLayers().add(layer);
+        }
+        return map;
+    }
+
+    private static TiledMapTileLayer readTiles(ByteBuffer in, TiledMap map) {
+        int width = in.getInt();
+        int height = in.getInt();
+        TiledMapTileLayer layer = new TiledMapTileLayer(width, height, in.getInt(), in.getInt());
+        // De hele laag in één keer uit de gemapte buffer
+        int[] cells = new int[width * height];
+        in.asIntBuffer().get(cells);
+        in.position(in.position() + cells.length * 4);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int value = cells[y * width + x];
+                if (value == 0) {
+                    continue;
+                }
+                TiledMapTile tile = map.getTileSets().getTile(value & TILE_ID_MASK);
+                if (tile == null) {
+                    continue;
+                }
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(tile);
+                cell.setFlipHorizontally((value & FLIP_HORIZONTALLY) != 0);
+                cell.setFlipVertically((value & FLIP_VERTICALLY) != 0);
+                cell.setRotation((value >>> ROTATION_SHIFT) & 3);
+                layer.setCell(x, y, cell);
+            }
+        }
+        return layer;
+    }
+
+    private static MapLayer readObjects(ByteBuffer in) {
+        MapLayer layer = new MapLayer();
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            String name = AssetCache.readString(in);
+            boolean visible = in.get() != 0;
+            float opacity = in.getFloat();
+            Color color = new Color(in.getInt());
+            RectangleMapObject object = new RectangleMapObject(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+            object.setName(name);
+            object.setVisible(visible);
+            object.setOpacity(opacity);
+            object.setColor(color);
+            readProperties(in, object.getProperties());
+            layer.getObjects().add(object);
+        }
+        return layer;
+    }
+
+    private static void readProperties(ByteBuffer in, MapProperties properties) {
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            String key = AssetCache.readString(in);
+            byte type = in.get();
+            switch (type) {
+                case VALUE_STRING:
+                    properties.put(key, AssetCache.readString(in));
+                    break;
+                case VALUE_INT:
+                    properties.put(key, in.getInt());
+                    break;
+                case VALUE_FLOAT:
+                    properties.put(key, in.getFloat());
+                    break;
+                case VALUE_BOOLEAN:
+                    properties.put(key, in.get() != 0);
+                    break;
+                case VALUE_COLOR:
+                    properties.put(key, new Color(in.getInt()));
+                    break;
+                case VALUE_PROPERTIES:
+                    MapProperties nested = new MapProperties();
+                    readProperties(in, nested);
+                    properties.put(key, nested);
+                    break;
+                default:
+                    throw new IllegalStateException("Onbekend type eigenschap " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package nl.webser.scrum_escape.ecs;
+
+/**
+ * Speelt de animaties van entiteiten af. Per entiteit wordt alleen de
+ * statetime bijgehouden; het frame komt uit de gedeelde tabel en wordt in
+ * het sprite component gezet. Afgelopen animaties worden losgelaten zodat
+ * ze geen werk meer kosten.
+ */
+public class AnimationSystem {
+    private static final int REQUIRED = EntityWorld.ANIMATION | EntityWorld.SPRITE;
+
+    public void update(EntityWorld world, float delta) {
+        for (int i = 0; i < world.count; i++) {
+            if ((world.mask[i] & REQUIRED) != REQUIRED) {
+                continue;
+            }
+            world.stateTime[i] += delta;
+            world.sprite[i] = world.animation[i].getFrame(world.stateTime[i]);
+            if (world.animation[i].isFinished(world.stateTime[i])) {
+                world.animation[i] = null;
+                world.mask[i] &= ~EntityWorld.ANIMATION;
+            }
+        }
+    }
+}
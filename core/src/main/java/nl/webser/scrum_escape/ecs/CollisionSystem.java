@@ -0,0 +1,66 @@
+package nl.webser.scrum_escape.ecs;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Zoekt overlappende entiteiten met een eenvoudige lus over de bounds-arrays.
+ */
+public class CollisionSystem {
+    /**
+     * Geeft de eerste entiteit met de gevraagde componenten die de rechthoek overlapt.
+     *
+     * @param world De entiteiten
+     * @param bounds De rechthoek, bijvoorbeeld de hitbox van de speler
+     * @param components De componenten die de entiteit moet hebben
+     * @return Het nummer van de entiteit, of {@link EntityWorld#NONE}
+     */
+    public int findOverlap(EntityWorld world, Rectangle bounds, int components) {
+        int required = components | EntityWorld.BOUNDS;
+        for (int i = 0; i < world.count; i++) {
+            if ((world.mask[i] & required) == required && overlaps(world, i, bounds)) {
+                return world.entities[i];
+            }
+        }
+        return EntityWorld.NONE;
+    }
+
+    /**
+     * Controleert of de rechthoek een vaste entiteit raakt, zoals een gesloten deur.
+     */
+    public boolean overlapsSolid(EntityWorld world, Rectangle bounds) {
+        return findOverlap(world, bounds, EntityWorld.SOLID) != EntityWorld.NONE;
+    }
+
+    /**
+     * Controleert in één lus over de entiteiten welke rechthoeken een vaste
+     * entiteit raken. Met twee spelers blijft het één keer door de arrays.
+     *
+     * @param bounds De rechthoeken, bijvoorbeeld de hitboxes van alle spelers
+     * @param blocked Wordt per rechthoek gevuld met true als die iets vasts raakt
+     * @return Het aantal rechthoeken dat iets vasts raakt
+     */
+    public int markSolidOverlaps(EntityWorld world, Rectangle[] bounds, boolean[] blocked) {
+        int required = EntityWorld.SOLID | EntityWorld.BOUNDS;
+        int hits = 0;
+        for (int p = 0; p < bounds.length; p++) {
+            blocked[p] = false;
+        }
+        for (int i = 0; i < world.count && hits < bounds.length; i++) {
+            if ((world.mask[i] & required) != required) {
+                continue;
+            }
+            for (int p = 0; p < bounds.length; p++) {
+                if (!blocked[p] && overlaps(world, i, bounds[p])) {
+                    blocked[p] = true;
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    static boolean overlaps(EntityWorld world, int index, Rectangle bounds) {
+        return world.x[index] < bounds.x + bounds.width && world.x[index] + world.width[index] > bounds.x
+            && world.y[index] < bounds.y + bounds.height && world.y[index] + world.height[index] > bounds.y;
+    }
+}
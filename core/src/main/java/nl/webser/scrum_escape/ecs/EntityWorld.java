@@ -0,0 +1,210 @@
+package nl.webser.scrum_escape.ecs;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.Arrays;
+import nl.webser.scrum_escape.animation.FrameTable;
+import nl.webser.scrum_escape.entities.Readable;
+
+/**
+ * EntityWorld bewaart alle wereldobjecten als entiteiten met componenten.
+ *
+ * Een entiteit is alleen een nummer. De componenten staan per soort in een
+ * eigen, aaneengesloten array, zodat systemen in één lus over de data lopen.
+ * Welke componenten een entiteit heeft, staat als bitmasker in {@link #mask}.
+ *
+ * Entiteitnummers blijven geldig zolang de entiteit bestaat. Intern wordt een
+ * sparse set gebruikt: bij verwijderen schuift de laatste entiteit naar het
+ * gat, zodat de actieve data altijd vooraan staat.
+ */
+public class EntityWorld {
+    /** Geen entiteit. */
+    public static final int NONE = -1;
+
+    // Componenten (bitmasker)
+    public static final int POSITION = 1;
+    public static final int BOUNDS = 1 << 1;
+    public static final int SPRITE = 1 << 2;
+    public static final int INTERACTABLE = 1 << 3;
+    public static final int READABLE = 1 << 4;
+    public static final int SOLID = 1 << 5;
+    public static final int ANIMATION = 1 << 6;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * Filter op positie, bijvoorbeeld om alle entiteiten uit een kamer te verwijderen.
+     */
+    public interface PositionFilter {
+        boolean test(float x, float y);
+    }
+
+    // Nummer -> plek in de arrays, en plek -> nummer
+    private int[] sparse = new int[INITIAL_CAPACITY];
+    int[] entities = new int[INITIAL_CAPACITY];
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int nextId = 0;
+    int count = 0;
+
+    // Componentdata per plek; door de systemen in dit package direct gelezen
+    int[] mask = new int[INITIAL_CAPACITY];
+    float[] x = new float[INITIAL_CAPACITY];
+    float[] y = new float[INITIAL_CAPACITY];
+    float[] width = new float[INITIAL_CAPACITY];
+    float[] height = new float[INITIAL_CAPACITY];
+    TextureRegion[] sprite = new TextureRegion[INITIAL_CAPACITY];
+    Interactable[] interactable = new Interactable[INITIAL_CAPACITY];
+    Readable[] readable = new Readable[INITIAL_CAPACITY];
+    FrameTable[] animation = new FrameTable[INITIAL_CAPACITY];
+    float[] stateTime = new float[INITIAL_CAPACITY];
+
+    /**
+     * Maakt een nieuwe entiteit aan met een positie en afmetingen.
+     *
+     * @return Het nummer van de entiteit
+     */
+    public int create(float x, float y, float width, float height) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        ensureCapacity(Math.max(id, count) + 1);
+        int index = count++;
+        sparse[id] = index;
+        entities[index] = id;
+        mask[index] = POSITION | BOUNDS;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.width[index] = width;
+        this.height[index] = height;
+        return id;
+    }
+
+    /**
+     * Verwijdert een entiteit. De laatste entiteit schuift naar de vrijgekomen plek.
+     */
+    public void destroy(int id) {
+        int index = sparse[id];
+        int last = --count;
+        if (index != last) {
+            int movedId = entities[last];
+            entities[index] = movedId;
+            sparse[movedId] = index;
+            mask[index] = mask[last];
+            x[index] = x[last];
+            y[index] = y[last];
+            width[index] = width[last];
+            height[index] = height[last];
+            sprite[index] = sprite[last];
+            interactable[index] = interactable[last];
+            readable[index] = readable[last];
+            animation[index] = animation[last];
+            stateTime[index] = stateTime[last];
+        }
+        // Laat geen verwijzingen achter in de vrijgekomen plek
+        sprite[last] = null;
+        interactable[last] = null;
+        readable[last] = null;
+        animation[last] = null;
+        sparse[id] = NONE;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    /**
+     * Verwijdert alle entiteiten waarvan de positie aan het filter voldoet.
+     */
+    public void removeIf(PositionFilter filter) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (filter.test(x[i], y[i])) {
+                destroy(entities[i]);
+            }
+        }
+    }
+
+    /**
+     * Verwijdert alle entiteiten.
+     */
+    public void clear() {
+        for (int i = count - 1; i >= 0; i--) {
+            destroy(entities[i]);
+        }
+    }
+
+    public void setSprite(int id, TextureRegion region) {
+        int index = sparse[id];
+        sprite[index] = region;
+        setFlag(index, SPRITE, region != null);
+    }
+
+    public void setInteractable(int id, Interactable value) {
+        int index = sparse[id];
+        interactable[index] = value;
+        setFlag(index, INTERACTABLE, value != null);
+    }
+
+    public void setReadable(int id, Readable value) {
+        int index = sparse[id];
+        readable[index] = value;
+        setFlag(index, READABLE, value != null);
+    }
+
+    /**
+     * Speelt een gedeelde animatie af vanaf het begin. Het {@link AnimationSystem}
+     * zet elk frame in de sprite, zodat het tekenen niet verandert.
+     */
+    public void setAnimation(int id, FrameTable table) {
+        int index = sparse[id];
+        animation[index] = table;
+        stateTime[index] = 0f;
+        setFlag(index, ANIMATION, table != null);
+        if (table != null) {
+            sprite[index] = table.getFrame(0f);
+            setFlag(index, SPRITE, true);
+        }
+    }
+
+    /**
+     * Een vaste entiteit houdt de speler tegen, zoals een gesloten deur.
+     */
+    public void setSolid(int id, boolean solid) {
+        setFlag(sparse[id], SOLID, solid);
+    }
+
+    public boolean has(int id, int components) {
+        return (mask[sparse[id]] & components) == components;
+    }
+
+    /**
+     * Geeft het aantal entiteiten.
+     */
+    public int size() {
+        return count;
+    }
+
+    private void setFlag(int index, int flag, boolean enabled) {
+        if (enabled) {
+            mask[index] |= flag;
+        } else {
+            mask[index] &= ~flag;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= mask.length) {
+            return;
+        }
+        int capacity = Math.max(required, mask.length * 2);
+        sparse = Arrays.copyOf(sparse, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        mask = Arrays.copyOf(mask, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        sprite = Arrays.copyOf(sprite, capacity);
+        interactable = Arrays.copyOf(interactable, capacity);
+        readable = Arrays.copyOf(readable, capacity);
+        animation = Arrays.copyOf(animation, capacity);
+        stateTime = Arrays.copyOf(stateTime, capacity);
+    }
+}
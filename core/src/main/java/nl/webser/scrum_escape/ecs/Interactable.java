@@ -0,0 +1,14 @@
+package nl.webser.scrum_escape.ecs;
+
+/**
+ * Component voor objecten die iets doen wanneer de speler ze raakt,
+ * zoals deuren en TIA objecten.
+ */
+public interface Interactable {
+    /**
+     * Wordt aangeroepen wanneer de speler het object raakt.
+     *
+     * @param context Toegang tot het spel voor het object
+     */
+    void interact(InteractionContext context);
+}
@@ -0,0 +1,25 @@
+package nl.webser.scrum_escape.ecs;
+
+import nl.webser.scrum_escape.entities.Door;
+
+/**
+ * Wat een {@link Interactable} van het spel mag gebruiken wanneer de speler
+ * het raakt. Wordt geïmplementeerd door het spelscherm.
+ */
+public interface InteractionContext {
+    /**
+     * Voert een gecompileerd kamerscript uit.
+     *
+     * @param script Het begin van het script in de scripttabel
+     * @param door De deur waar het script bij hoort, of null
+     */
+    void runScript(int script, Door door);
+
+    /**
+     * Geeft door welke speler het object raakt, vlak voor {@link Interactable#interact}.
+     * Bij samen spelen krijgt die speler de punten en de monsters.
+     *
+     * @param player De index van de speler (0 = speler 1)
+     */
+    void setInteractingPlayer(int player);
+}
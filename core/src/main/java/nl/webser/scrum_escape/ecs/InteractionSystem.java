@@ -0,0 +1,53 @@
+package nl.webser.scrum_escape.ecs;
+
+import com.badlogic.gdx.math.Rectangle;
+import nl.webser.scrum_escape.entities.Readable;
+
+/**
+ * Laat de spelers met entiteiten interacteren.
+ * Per soort component wordt alleen de eerste overlappende entiteit gebruikt,
+ * net als bij het oude gedrag per objectlijst. Alle spelers worden in
+ * dezelfde lus over de entiteiten getest.
+ */
+public class InteractionSystem {
+    private static final int INTERACTABLE = EntityWorld.BOUNDS | EntityWorld.INTERACTABLE;
+    private static final int READABLE = EntityWorld.BOUNDS | EntityWorld.READABLE;
+
+    /**
+     * Laat meerdere spelers in één lus over de entiteiten interacteren.
+     * Het eerste object dat door een van de spelers geraakt wordt, reageert.
+     *
+     * @param playerBounds De hitboxes van de spelers
+     * @return De index van de speler die het object raakte, of -1
+     */
+    public int interact(EntityWorld world, Rectangle[] playerBounds, InteractionContext context) {
+        for (int i = 0; i < world.count; i++) {
+            if ((world.mask[i] & INTERACTABLE) == INTERACTABLE) {
+                for (int p = 0; p < playerBounds.length; p++) {
+                    if (CollisionSystem.overlaps(world, i, playerBounds[p])) {
+                        context.setInteractingPlayer(p);
+                        world.interactable[i].interact(context);
+                        return p;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Geeft de tekst waar een van de spelers op staat, of null.
+     */
+    public Readable findReadable(EntityWorld world, Rectangle[] playerBounds) {
+        for (int i = 0; i < world.count; i++) {
+            if ((world.mask[i] & READABLE) == READABLE) {
+                for (Rectangle bounds : playerBounds) {
+                    if (CollisionSystem.overlaps(world, i, bounds)) {
+                        return world.readable[i];
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package nl.webser.scrum_escape.ecs;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * Tekent alle entiteiten met een sprite in één lus over de componentarrays.
+ */
+public class RenderSystem {
+    private static final int REQUIRED = EntityWorld.BOUNDS | EntityWorld.SPRITE;
+
+    /**
+     * Tekent alle sprites. Moet tussen batch.begin() en batch.end() worden aangeroepen.
+     */
+    public void render(EntityWorld world, SpriteBatch batch) {
+        for (int i = 0; i < world.count; i++) {
+            if ((world.mask[i] & REQUIRED) == REQUIRED) {
+                batch.draw(world.sprite[i], world.x[i], world.y[i], world.width[i], world.height[i]);
+            }
+        }
+    }
+
+    /**
+     * Tekent de hitboxes van alle entiteiten, voor debugging.
+     * Moet tussen shapeRenderer.begin() en shapeRenderer.end() worden aangeroepen.
+     */
+    public void renderBounds(EntityWorld world, ShapeRenderer shapeRenderer) {
+        for (int i = 0; i < world.count; i++) {
+            if ((world.mask[i] & EntityWorld.BOUNDS) != 0) {
+                shapeRenderer.rect(world.x[i], world.y[i], world.width[i], world.height[i]);
+            }
+        }
+    }
+}
@@ -1,24 +1,33 @@
 package nl.webser.scrum_escape.entities;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import nl.webser.scrum_escape.GameState;
-import nl.webser.scrum_escape.observer.DoorObserver;
+import nl.webser.scrum_escape.animation.FrameTable;
+import nl.webser.scrum_escape.ecs.EntityWorld;
+import nl.webser.scrum_escape.ecs.Interactable;
+import nl.webser.scrum_escape.ecs.InteractionContext;
+import nl.webser.scrum_escape.observer.EventBus;
+import nl.webser.scrum_escape.observer.GameEvent;
+import nl.webser.scrum_escape.script.ScriptTable;
 
 /**
  * Door representeert een deur in het spel.
- * Deze klasse implementeert het Observer pattern voor het notificeren van deur status veranderingen.
+ * Het openen van een deur wordt als {@link GameEvent#DOOR_OPENED} op de event bus gezet.
+ * In de {@link EntityWorld} is een deur een sprite die, zolang hij dicht is,
+ * de speler tegenhoudt en een vraag stelt.
  */
-public class Door {
+public class Door implements Interactable {
     // Deur identificatie en eigenschappen
     private final String doorId;
     private final String questionId;
     private final Rectangle bounds;
-    private final TextureRegion closedTexture;
-    private final TextureRegion openTexture;
+    private final FrameTable frames;    // Gedeelde frames: eerst gesloten, als laatste open
     private boolean isOpen;
-    private DoorObserver observer;
+    private EventBus eventBus;
+    private EntityWorld world;
+    private int entity = EntityWorld.NONE;
+    private int onEnterScript = ScriptTable.NONE;   // Bij aanraken van de gesloten deur
+    private int onAnswerScript = ScriptTable.NONE;  // Bij een goed antwoord
 
     /**
      * Maakt een nieuwe deur aan met de gegeven eigenschappen.
@@ -29,47 +38,95 @@ public class Door {
      * @param y Y-coördinaat van de deur
      * @param width Breedte van de deur
      * @param height Hoogte van de deur
-     * @param closedTexture Texture voor de gesloten deur
-     * @param openTexture Texture voor de open deur
+     * @param frames Gedeelde animatie van gesloten naar open
      */
     public Door(String doorId, String questionId, float x, float y, float width, float height,
-        TextureRegion closedTexture, TextureRegion openTexture) {
+        FrameTable frames) {
         this.doorId = doorId;
         this.questionId = questionId;
         this.bounds = new Rectangle(x, y, width, height); // Hitbox for the door
-        this.closedTexture = closedTexture;
-        this.openTexture = openTexture;
+        this.frames = frames;
         this.isOpen = GameState.getInstance().isDoorOpened(doorId);
     }
 
     /**
-     * Stelt de observer in voor deze deur.
-     * Implementeert het Observer pattern.
+     * Stelt de event bus in waarop het openen van deze deur wordt gemeld.
      */
-    public void setObserver(DoorObserver observer) {
-        this.observer = observer;
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
     }
 
     /**
-     * Opent de deur en notificeert de observer.
-     * Implementeert het Observer pattern.
+     * Voegt de deur als entiteit toe aan de wereld.
      */
-    public void open() {
+    public void spawn(EntityWorld world) {
+        this.world = world;
+        entity = world.create(bounds.x, bounds.y, bounds.width, bounds.height);
+        world.setInteractable(entity, this);
+        updateEntity();
+    }
+
+    /**
+     * Haalt de deur weer uit de wereld, bijvoorbeeld wanneer de kamer wordt uitgeladen.
+     */
+    public void despawn() {
+        if (world != null) {
+            world.destroy(entity);
+            world = null;
+            entity = EntityWorld.NONE;
+        }
+    }
+
+    private void updateEntity() {
+        if (world != null) {
+            world.setSprite(entity, isOpen ? frames.getLastFrame() : frames.getFrame(0f));
+            world.setSolid(entity, !isOpen);
+        }
+    }
+
+    /**
+     * Een gesloten deur voert zijn onEnter script uit, meestal het stellen van
+     * de vraag. Tegenhouden gebeurt via het SOLID component in het
+     * {@link nl.webser.scrum_escape.ecs.CollisionSystem}.
+     */
+    @Override
+    public void interact(InteractionContext context) {
         if (!isOpen) {
-            isOpen = true;
-            GameState.getInstance().markDoorOpened(doorId);
-            if (observer != null) {
-                observer.onDoorOpened(doorId);
-            }
+            context.runScript(onEnterScript, this);
         }
     }
 
     /**
-     * Rendert de deur met de juiste texture gebaseerd op de open/gesloten status.
+     * Stelt de gecompileerde scripts van deze deur in.
+     *
+     * @param onEnterScript Script bij het aanraken van de gesloten deur
+     * @param onAnswerScript Script bij een goed antwoord
+     */
+    public void setScripts(int onEnterScript, int onAnswerScript) {
+        this.onEnterScript = onEnterScript;
+        this.onAnswerScript = onAnswerScript;
+    }
+
+    public int getOnAnswerScript() {
+        return onAnswerScript;
+    }
+
+    /**
+     * Opent de deur en meldt dit op de event bus.
      */
-    public void render(SpriteBatch batch) {
-        TextureRegion currentTexture = isOpen ? openTexture : closedTexture;
-        batch.draw(currentTexture, bounds.x, bounds.y, bounds.width, bounds.height);
+    public void open() {
+        if (!isOpen) {
+            isOpen = true;
+            updateEntity();
+            // Speel de openingsanimatie af; daarna blijft het laatste frame staan
+            if (world != null) {
+                world.setAnimation(entity, frames);
+            }
+            GameState.getInstance().markDoorOpened(doorId);
+            if (eventBus != null) {
+                eventBus.post(GameEvent.DOOR_OPENED, doorId, 0);
+            }
+        }
     }
 
     /**
@@ -119,6 +176,7 @@ public class Door {
             open();
         } else {
             isOpen = open;
+            updateEntity();
         }
     }
 } 
\ No newline at end of file
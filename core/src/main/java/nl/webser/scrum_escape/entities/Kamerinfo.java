@@ -1,17 +1,48 @@
 package nl.webser.scrum_escape.entities;
 
 import com.badlogic.gdx.math.Rectangle;
+import nl.webser.scrum_escape.ecs.EntityWorld;
+import nl.webser.scrum_escape.ecs.Interactable;
+import nl.webser.scrum_escape.ecs.InteractionContext;
+import nl.webser.scrum_escape.script.ScriptTable;
 
-public class Kamerinfo implements Readable {
+public class Kamerinfo implements Readable, Interactable {
     private final Rectangle bounds;
     private final String message;
     private boolean found = false;
+    private int onEnterScript = ScriptTable.NONE;
 
     public Kamerinfo(float x, float y, float width, float height, String message) {
         this.bounds = new Rectangle(x, y, width, height);
         this.message = message;
     }
 
+    /**
+     * Voegt het kamerboek als leesbare entiteit toe aan de wereld.
+     */
+    public void spawn(EntityWorld world) {
+        int entity = world.create(bounds.x, bounds.y, bounds.width, bounds.height);
+        world.setReadable(entity, this);
+        if (onEnterScript != ScriptTable.NONE) {
+            world.setInteractable(entity, this);
+        }
+    }
+
+    /**
+     * Voert het onEnter script uit wanneer de speler het boek voor het eerst leest.
+     */
+    @Override
+    public void interact(InteractionContext context) {
+        if (!found) {
+            found = true;
+            context.runScript(onEnterScript, null);
+        }
+    }
+
+    public void setOnEnterScript(int onEnterScript) {
+        this.onEnterScript = onEnterScript;
+    }
+
     public Rectangle getBounds() {
         return bounds;
     }
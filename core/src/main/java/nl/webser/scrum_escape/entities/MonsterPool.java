@@ -0,0 +1,252 @@
+package nl.webser.scrum_escape.entities;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import nl.webser.scrum_escape.animation.AnimationLibrary;
+import nl.webser.scrum_escape.animation.Direction;
+import nl.webser.scrum_escape.animation.FrameTable;
+import nl.webser.scrum_escape.animation.SpriteKind;
+import nl.webser.scrum_escape.map.FlowField;
+import nl.webser.scrum_escape.observer.GameEvent;
+import nl.webser.scrum_escape.observer.GameEventListener;
+
+/**
+ * MonsterPool beheert alle monsters in het spel.
+ * Bij elk fout antwoord komt er een monster bij, tot het maximum van de pool;
+ * daarna wordt het oudste monster opnieuw ingezet. Een goed antwoord stuurt
+ * alle monsters weg.
+ *
+ * De gegevens staan per eigenschap in een eigen array (structure of arrays)
+ * en actieve monsters staan aaneengesloten vooraan. Updaten en tekenen is
+ * daardoor één lus over platte arrays, zonder objecten per monster.
+ * Alle monsters delen dezelfde {@link FrameTable} en hetzelfde {@link FlowField}.
+ */
+public class MonsterPool implements GameEventListener {
+    // Na deze tijd heeft een monster de speler altijd te pakken (in seconden)
+    private static final float MONSTER_DURATION = 10f; // Pas deze waarde aan voor langzamer monster
+    // Loopsnelheid van een monster in pixels per seconde
+    private static final float MONSTER_SPEED = 50f;
+    // Offset waarmee een monster naast de speler start na een fout antwoord
+    private static final float MONSTER_START_OFFSET = 50f; // pixels
+
+    // Startrichtingen, zodat monsters niet op elkaar beginnen
+    private static final float[] SPAWN_DIRECTION_X = {-1f, 1f, -1f, 1f};
+    private static final float[] SPAWN_DIRECTION_Y = {-1f, -1f, 1f, 1f};
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final FrameTable frames;
+    private final float width;
+    private final float height;
+
+    // Gegevens per monster; alleen de eerste 'count' plekken zijn actief
+    private final float[] x;
+    private final float[] y;
+    private final float[] timer;
+    private final float[] stateTime;
+    private final byte[] direction;
+    private int count = 0;
+    private int spawnCounter = 0;
+    private float frozenTimer = 0f;
+
+    private Player target;
+    private FlowField flowField;
+
+    /**
+     * Maakt een pool voor maximaal het gegeven aantal monsters tegelijk.
+     *
+     * @param maxMonsters Maximum aantal actieve monsters
+     */
+    public MonsterPool(int maxMonsters) {
+        if (maxMonsters < 1) {
+            throw new IllegalArgumentException("Een pool heeft minstens één monster nodig");
+        }
+        frames = AnimationLibrary.getInstance().get(SpriteKind.MONSTER);
+        TextureRegion firstFrame = frames.getFirstFrame(Direction.DOWN);
+        width = firstFrame.getRegionWidth();
+        height = firstFrame.getRegionHeight();
+        x = new float[maxMonsters];
+        y = new float[maxMonsters];
+        timer = new float[maxMonsters];
+        stateTime = new float[maxMonsters];
+        direction = new byte[maxMonsters];
+    }
+
+    /**
+     * Zet een monster in op een vaste offset van de speler.
+     * Als de pool vol is, wordt het oudste monster opnieuw ingezet.
+     *
+     * @param player De speler waar het monster naartoe moet
+     */
+    public void spawn(Player player) {
+        int index = count < x.length ? count++ : oldestIndex();
+        Rectangle playerBounds = player.getBounds();
+        int spawnDirection = spawnCounter++ % SPAWN_DIRECTION_X.length;
+        x[index] = playerBounds.x + SPAWN_DIRECTION_X[spawnDirection] * MONSTER_START_OFFSET;
+        y[index] = playerBounds.y + SPAWN_DIRECTION_Y[spawnDirection] * MONSTER_START_OFFSET;
+        timer[index] = 0f;
+        stateTime[index] = 0f;
+        direction[index] = (byte) Direction.DOWN.ordinal();
+    }
+
+    private int oldestIndex() {
+        int oldest = 0;
+        for (int i = 1; i < count; i++) {
+            if (timer[i] > timer[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Update alle actieve monsters. Ze volgen het flow field naar de achtervolgde
+     * speler en hebben die na MONSTER_DURATION seconden hoe dan ook te pakken.
+     * Bij samen spelen is elke speler die een monster raakt gepakt; dat gaat in
+     * dezelfde lus over de monsters.
+     *
+     * @param delta Tijd sinds laatste update
+     * @param chased De speler waar de monsters naartoe lopen
+     * @param players Alle spelers (voor collision check)
+     * @return true als een monster een speler heeft bereikt
+     */
+    public boolean update(float delta, Player chased, Player[] players) {
+        if (frozenTimer > 0f) {
+            // Bevroren monsters lopen niet en hun tijd staat ook stil
+            frozenTimer -= delta;
+            return false;
+        }
+        Rectangle playerBounds = chased.getBounds();
+        float playerCenterX = playerBounds.x + playerBounds.width * 0.5f;
+        float playerCenterY = playerBounds.y + playerBounds.height * 0.5f;
+        float step = MONSTER_SPEED * delta;
+        float halfWidth = width * 0.5f;
+        float halfHeight = height * 0.5f;
+
+        for (int i = 0; i < count; i++) {
+            timer[i] += delta;
+            stateTime[i] += delta;
+            float centerX = x[i] + halfWidth;
+            float centerY = y[i] + halfHeight;
+
+            // Volgende tegel uit het flow field, of direct naar de speler
+            float goalX = playerCenterX;
+            float goalY = playerCenterY;
+            if (flowField != null) {
+                int cell = flowField.cellAt(centerX, centerY);
+                int nextCell = flowField.getNextCell(cell);
+                if (nextCell != FlowField.UNREACHABLE && nextCell != cell) {
+                    goalX = flowField.getCellCenterX(nextCell);
+                    goalY = flowField.getCellCenterY(nextCell);
+                }
+            }
+
+            float dx = goalX - centerX;
+            float dy = goalY - centerY;
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            if (length > step) {
+                dx = dx / length * step;
+                dy = dy / length * step;
+            }
+            x[i] += dx;
+            y[i] += dy;
+            direction[i] = (byte) Direction.fromMovement(dx, dy, DIRECTIONS[direction[i]]).ordinal();
+
+            // Check collision
+            if (timer[i] >= MONSTER_DURATION) {
+                return true;
+            }
+            for (Player other : players) {
+                Rectangle bounds = other.getBounds();
+                if (x[i] < bounds.x + bounds.width && x[i] + width > bounds.x
+                    && y[i] < bounds.y + bounds.height && y[i] + height > bounds.y) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rendert alle actieve monsters.
+     */
+    public void render(SpriteBatch batch) {
+        for (int i = 0; i < count; i++) {
+            batch.draw(frames.getFrame(DIRECTIONS[direction[i]], stateTime[i]), x[i], y[i], width, height);
+        }
+    }
+
+    /**
+     * Ruimt resources op. De frames horen bij de AssetManager.
+     */
+    public void dispose() {
+        reset();
+    }
+
+    /**
+     * Stelt de speler in die de monsters achtervolgen wanneer ze via een
+     * gebeurtenis worden ingezet.
+     */
+    public void setTarget(Player target) {
+        this.target = target;
+    }
+
+    /**
+     * Stelt het flow field in waarlangs de monsters de speler achtervolgen.
+     * Het veld wordt door het scherm bijgewerkt.
+     */
+    public void setFlowField(FlowField flowField) {
+        this.flowField = flowField;
+    }
+
+    /**
+     * Reageert op antwoorden: bij een fout antwoord komt er een monster bij,
+     * bij een goed antwoord verdwijnen alle monsters weer.
+     */
+    @Override
+    public void onEvent(GameEvent event, String subjectId, int value) {
+        switch (event) {
+            case ANSWER_WRONG:
+                if (target != null) {
+                    spawn(target);
+                }
+                break;
+            case ANSWER_CORRECT:
+                reset();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Zet alle monsters een tijd stil.
+     *
+     * @param seconds Hoe lang de monsters stilstaan
+     */
+    public void freeze(float seconds) {
+        frozenTimer = Math.max(frozenTimer, seconds);
+    }
+
+    public boolean isActive() {
+        return count > 0;
+    }
+
+    public int getActiveCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    /**
+     * Haalt alle monsters weg; de plekken worden bij een volgende spawn hergebruikt.
+     */
+    public void reset() {
+        count = 0;
+        spawnCounter = 0;
+        frozenTimer = 0f;
+    }
+}
@@ -4,103 +4,126 @@ import nl.webser.scrum_escape.jokers.KeyJoker;
 import nl.webser.scrum_escape.jokers.HintJoker;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Rectangle;
+import nl.webser.scrum_escape.animation.AnimationLibrary;
+import nl.webser.scrum_escape.animation.Direction;
+import nl.webser.scrum_escape.animation.FrameTable;
+import nl.webser.scrum_escape.animation.SpriteKind;
 import nl.webser.scrum_escape.jokers.*;
+import nl.webser.scrum_escape.map.CollisionMap;
+import nl.webser.scrum_escape.map.TiledCollisionMap;
+import nl.webser.scrum_escape.ui.FontService;
+import nl.webser.scrum_escape.ui.FontStyle;
 
 public class Player {
     private static final float MOVEMENT_SPEED = 60f;
     private static final float PLAYER_SIZE = 16f;
-    private static final float FRAME_DURATION = 0.15f;
 
     private float x;
     private float y;
     private final Rectangle bounds;
-    private TextureRegion currentTexture;
     private boolean frozen = false;
-    private TiledMapTileLayer collisionLayer;
+    private CollisionMap collisionMap;
     private BitmapFont font;
 
-    private final Texture[] walkFrames;
-    private int frameIndex = 0;
-    private float frameTimer = 0;
+    // Gedeelde looptabel; per speler alleen de statetime en richting
+    private final FrameTable walkFrames;
+    private float stateTime = 0;
+    private Direction direction = Direction.DOWN;
+    private boolean walking = false;
+
+    // Toetsen en kleur; bij samen spelen verschillen die per speler
+    private final PlayerControls controls;
+    private final Color tint;
 
     private JokerStrategy jokerStrategy;
 
     private JokerManager jokerManager;
 
     public Player(float x, float y, TiledMap map) {
+        this(x, y, new TiledCollisionMap(map));
+    }
+
+    /**
+     * Maakt een speler aan die botst met de gegeven wereld.
+     * De wereld kan één kaart zijn of een gestreamde wereld van meerdere kamers.
+     */
+    public Player(float x, float y, CollisionMap collisionMap) {
+        this(x, y, collisionMap, PlayerControls.PLAYER_ONE, Color.WHITE);
+    }
+
+    /**
+     * Maakt een speler aan met eigen toetsen en een eigen kleur, voor samen spelen op één scherm.
+     */
+    public Player(float x, float y, CollisionMap collisionMap, PlayerControls controls, Color tint) {
         this.x = x;
         this.y = y;
         this.bounds = new Rectangle(x, y, PLAYER_SIZE, PLAYER_SIZE);
-        this.walkFrames = new Texture[]{
-            new Texture("player1.png"),
-            new Texture("player2.png"),
-            new Texture("player3.png"),
-            new Texture("player4.png")
-        };
-        this.currentTexture = new TextureRegion(walkFrames[0]);
-        this.collisionLayer = (TiledMapTileLayer) map.getLayers().get("Base");
-        this.font = new BitmapFont();
+        this.walkFrames = AnimationLibrary.getInstance().get(SpriteKind.PLAYER);
+        this.collisionMap = collisionMap;
+        this.font = FontService.getInstance().get(FontStyle.BODY);
         this.jokerManager = jokerManager;
-    }
-
-    public Player(int x, int y, TiledMap map, Rectangle bounds, Texture[] walkFrames) {
-        this.bounds = bounds;
-        this.walkFrames = walkFrames;
+        this.controls = controls;
+        this.tint = new Color(tint);
     }
 
     public void update(float delta) {
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)
-            || Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            frameTimer += delta;
-            if (frameTimer >= FRAME_DURATION) {
-                frameIndex = (frameIndex + 1) % walkFrames.length;
-                currentTexture = new TextureRegion(walkFrames[frameIndex]);
-                frameTimer = 0;
-            }
+        if (frozen) {
+            // Een bevroren speler loopt niet, ook niet als er toetsen ingedrukt zijn
+            walking = false;
+            stateTime = 0;
+            return;
         }
 
-        if (frozen) return;
-
         float oldX = x;
         float oldY = y;
 
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) x -= MOVEMENT_SPEED * delta;
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) x += MOVEMENT_SPEED * delta;
-        if (Gdx.input.isKeyPressed(Input.Keys.UP)) y += MOVEMENT_SPEED * delta;
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) y -= MOVEMENT_SPEED * delta;
+        if (controls.isLeftPressed()) x -= MOVEMENT_SPEED * delta;
+        if (controls.isRightPressed()) x += MOVEMENT_SPEED * delta;
+        if (controls.isUpPressed()) y += MOVEMENT_SPEED * delta;
+        if (controls.isDownPressed()) y -= MOVEMENT_SPEED * delta;
 
         bounds.x = x;
         bounds.y = y;
 
         if (x < 0) x = 0;
         if (y < 0) y = 0;
-        if (x > 800 - PLAYER_SIZE) x = 800 - PLAYER_SIZE;
-        if (y > 600 - PLAYER_SIZE) y = 600 - PLAYER_SIZE;
-
-        int tileX = (int) (x / collisionLayer.getTileWidth());
-        int tileY = (int) (y / collisionLayer.getTileHeight());
-        TiledMapTileLayer.Cell cell = collisionLayer.getCell(tileX, tileY);
-
-        if (cell != null && cell.getTile() != null) {
-            Object blocked = cell.getTile().getProperties().get("blocked");
-            if (blocked instanceof Boolean && (boolean) blocked) {
-                x = oldX;
-                y = oldY;
-            }
+        if (x > collisionMap.getWidth() - PLAYER_SIZE) x = collisionMap.getWidth() - PLAYER_SIZE;
+        if (y > collisionMap.getHeight() - PLAYER_SIZE) y = collisionMap.getHeight() - PLAYER_SIZE;
+
+        if (collisionMap.isBlocked(x, y)) {
+            x = oldX;
+            y = oldY;
         }
 
+        // Animeer alleen als de speler echt verplaatst is
+        float dx = x - oldX;
+        float dy = y - oldY;
+        walking = dx != 0 || dy != 0;
+        if (walking) {
+            direction = Direction.fromMovement(dx, dy, direction);
+            stateTime += delta;
+        } else {
+            stateTime = 0;
+        }
     }
 
+    /**
+     * Tekent de speler. Een kleur per speler is een vertexkleur, dus alle
+     * spelers gaan in dezelfde batch zonder extra flush.
+     */
     public void render(SpriteBatch batch) {
-        batch.draw(currentTexture, x, y, PLAYER_SIZE, PLAYER_SIZE);
+        batch.setColor(tint);
+        batch.draw(walkFrames.getFrame(direction, stateTime), x, y, PLAYER_SIZE, PLAYER_SIZE);
+        batch.setColor(Color.WHITE);
+    }
+
+    public PlayerControls getControls() {
+        return controls;
     }
 
     public Rectangle getBounds() {
@@ -124,10 +147,7 @@ public class Player {
     }
 
     public void dispose() {
-        for (Texture t : walkFrames) {
-            t.dispose();
-        }
-        font.dispose();
+        // De frames horen bij de AssetManager en het font bij de FontService
     }
 
     public void setPosition(float x, float y) {
@@ -182,16 +202,17 @@ public class Player {
     }
 
     private boolean checkCollision() {
-        int tileX = (int)(x / collisionLayer.getTileWidth());
-        int tileY = (int)(y / collisionLayer.getTileHeight());
-        TiledMapTileLayer.Cell cell = collisionLayer.getCell(tileX, tileY);
-        if (cell != null && cell.getTile() != null) {
-            Object blocked = cell.getTile().getProperties().get("blocked");
-            if (blocked instanceof Boolean && (boolean) blocked) {
-                return true;
-            }
+        if (collisionMap.isBlocked(x, y)) {
+            return true;
         }
-        return x < 0 || y < 0 || x > 800 - PLAYER_SIZE || y > 600 - PLAYER_SIZE;
+        return x < 0 || y < 0 || x > collisionMap.getWidth() - PLAYER_SIZE || y > collisionMap.getHeight() - PLAYER_SIZE;
+    }
+
+    /**
+     * Wisselt de wereld waarin de speler botst, bijvoorbeeld bij het betreden van een nieuwe kamer.
+     */
+    public void setCollisionMap(CollisionMap collisionMap) {
+        this.collisionMap = collisionMap;
     }
 
     public void kiesJokerStrategie(JokerStrategy strategy) {
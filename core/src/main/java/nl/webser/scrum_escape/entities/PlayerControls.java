@@ -0,0 +1,73 @@
+package nl.webser.scrum_escape.entities;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * De toetsen van één speler: vier looprichtingen en vier antwoorden.
+ *
+ * Bij samen spelen op één toetsenbord heeft elke speler een eigen set,
+ * zodat beide spelers tegelijk kunnen lopen en allebei een vraag kunnen
+ * beantwoorden. De sets botsen niet met de gedeelde toetsen van het spel
+ * (J voor jokers, A voor de assistent en D voor debug).
+ */
+public final class PlayerControls {
+    /** Speler 1: pijltjestoetsen, antwoorden met 1 t/m 4. */
+    public static final PlayerControls PLAYER_ONE = new PlayerControls(
+        Input.Keys.LEFT, Input.Keys.RIGHT, Input.Keys.UP, Input.Keys.DOWN,
+        Input.Keys.NUM_1, Input.Keys.NUM_2, Input.Keys.NUM_3, Input.Keys.NUM_4);
+
+    /** Speler 2: T/F/G/H, antwoorden met Z, X, C en V. */
+    public static final PlayerControls PLAYER_TWO = new PlayerControls(
+        Input.Keys.F, Input.Keys.H, Input.Keys.T, Input.Keys.G,
+        Input.Keys.Z, Input.Keys.X, Input.Keys.C, Input.Keys.V);
+
+    private final int left;
+    private final int right;
+    private final int up;
+    private final int down;
+    private final int[] answers;
+
+    public PlayerControls(int left, int right, int up, int down, int... answers) {
+        this.left = left;
+        this.right = right;
+        this.up = up;
+        this.down = down;
+        this.answers = answers;
+    }
+
+    /**
+     * De toetsen van speler {@code index} (0 = speler 1).
+     */
+    public static PlayerControls forPlayer(int index) {
+        return index == 0 ? PLAYER_ONE : PLAYER_TWO;
+    }
+
+    public boolean isLeftPressed() {
+        return Gdx.input.isKeyPressed(left);
+    }
+
+    public boolean isRightPressed() {
+        return Gdx.input.isKeyPressed(right);
+    }
+
+    public boolean isUpPressed() {
+        return Gdx.input.isKeyPressed(up);
+    }
+
+    public boolean isDownPressed() {
+        return Gdx.input.isKeyPressed(down);
+    }
+
+    /**
+     * @return Het antwoord (0-based) waarvan de toets deze frame is ingedrukt, of -1
+     */
+    public int getAnswerPressed() {
+        for (int i = 0; i < answers.length; i++) {
+            if (Gdx.input.isKeyJustPressed(answers[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
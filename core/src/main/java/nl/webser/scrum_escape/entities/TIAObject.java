@@ -1,16 +1,24 @@
 package nl.webser.scrum_escape.entities;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
+import nl.webser.scrum_escape.ecs.EntityWorld;
+import nl.webser.scrum_escape.ecs.Interactable;
+import nl.webser.scrum_escape.ecs.InteractionContext;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.StringTable;
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.script.ScriptTable;
 
-public class TIAObject implements Readable {
+public class TIAObject implements Readable, Interactable {
     private final Rectangle bounds;
     private final int tiaType; // 1 = Transparantie, 2 = Inspectie, 3 = Aanpassing
     private boolean found;
-    private static final String[] TIA_MESSAGES = {
-        "Alles wat we doen moet zichtbaar zijn voor iedereen. Dit betekent dat alle aspecten van het proces, de voortgang en eventuele problemen open en eerlijk worden gedeeld met het hele team.",
-        "Regelmatig controleren of we op de goede weg zijn. Door frequent te inspecteren kunnen we snel bijsturen waar nodig en leren van wat we zien.",
-        "Direct veranderen als we iets beter kunnen doen. Wanneer we tijdens inspectie verbeterpunten zien, passen we ons proces of product direct aan."
+    private int onCollectScript = ScriptTable.NONE;
+    private static final TextKey[] TIA_NAMES = {
+        TextKey.TIA_NAME_TRANSPARENCY, TextKey.TIA_NAME_INSPECTION, TextKey.TIA_NAME_ADAPTATION
+    };
+    private static final TextKey[] TIA_EXPLANATIONS = {
+        TextKey.TIA_EXPLANATION_TRANSPARENCY, TextKey.TIA_EXPLANATION_INSPECTION, TextKey.TIA_EXPLANATION_ADAPTATION
     };
 
     public TIAObject(float x, float y, float width, float height, int value) {
@@ -19,8 +27,29 @@ public class TIAObject implements Readable {
         this.found = false;
     }
 
-    public void render(SpriteBatch batch) {
-        // No rendering needed, the TIA objects are already in the map
+    /**
+     * Voegt het object als entiteit toe aan de wereld. Het object heeft geen
+     * sprite; het staat al op de kaart.
+     */
+    public void spawn(EntityWorld world) {
+        int entity = world.create(bounds.x, bounds.y, bounds.width, bounds.height);
+        world.setInteractable(entity, this);
+        world.setReadable(entity, this);
+    }
+
+    /**
+     * Voert het onCollect script uit wanneer de speler er voor het eerst op stapt.
+     */
+    @Override
+    public void interact(InteractionContext context) {
+        if (!found) {
+            found = true;
+            context.runScript(onCollectScript, null);
+        }
+    }
+
+    public void setOnCollectScript(int onCollectScript) {
+        this.onCollectScript = onCollectScript;
     }
 
     public Rectangle getBounds() {
@@ -34,9 +63,15 @@ public class TIAObject implements Readable {
     public void setFound(boolean found) {
         this.found = found;
     }
+
     @Override
     public String getMessage() {
-        return TIA_MESSAGES[tiaType - 1];
+        StringTable text = Localization.getInstance().getTable();
+        if (tiaType < 1 || tiaType > TIA_EXPLANATIONS.length) {
+            return text.get(TextKey.TIA_UNKNOWN_FOUND) + "\n";
+        }
+        return text.format(TextKey.TIA_FOUND, text.get(TIA_NAMES[tiaType - 1])) + "\n"
+            + text.get(TIA_EXPLANATIONS[tiaType - 1]);
     }
 
     public int getTiaType() {
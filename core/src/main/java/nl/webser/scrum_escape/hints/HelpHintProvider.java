@@ -1,10 +1,12 @@
 package nl.webser.scrum_escape.hints;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import nl.webser.scrum_escape.i18n.TextKey;
 
 public class HelpHintProvider implements HintProvider {
-    private final Map<String, String> questionHints;
+    private final Map<String, TextKey> questionHints;
     
     public HelpHintProvider() {
         questionHints = new HashMap<>();
@@ -13,40 +15,33 @@ public class HelpHintProvider implements HintProvider {
     
     private void initializeQuestionHints() {
         // Sprint 1 - Sprint Review
-        questionHints.put("sprint1", "Denk aan het doel van een Sprint Review: het inspecteren van het product increment en het verzamelen van feedback van stakeholders.");
+        questionHints.put("sprint1", TextKey.HINT_HELP_SPRINT1);
         
         // Sprint 2 - Product Owner
-        questionHints.put("sprint2", "De Product Owner is verantwoordelijk voor het maximaliseren van de waarde van het product. Denk aan wie de beslissingen neemt over wat er gebouwd wordt.");
+        questionHints.put("sprint2", TextKey.HINT_HELP_SPRINT2);
         
         // Sprint 3 - Daily Scrum
-        questionHints.put("sprint3", "De Daily Scrum is een korte bijeenkomst voor het Development Team om het werk te synchroniseren en het plan voor de komende 24 uur aan te passen.");
+        questionHints.put("sprint3", TextKey.HINT_HELP_SPRINT3);
         
         // Sprint 4 - Scrum Team
-        questionHints.put("sprint4", "Een goed Scrum Team is zelfstandig en multidisciplinair. Ze kunnen alle werk uitvoeren dat nodig is om een 'Done' increment te leveren.");
+        questionHints.put("sprint4", TextKey.HINT_HELP_SPRINT4);
         
         // Sprint 5 - Onafgemaakt werk
-        questionHints.put("sprint5", "Als werk niet af is aan het einde van de sprint, wordt het teruggezet naar de Product Backlog. De sprint wordt niet verlengd.");
+        questionHints.put("sprint5", TextKey.HINT_HELP_SPRINT5);
         
         // Finale vragen
-        questionHints.put("final0", "Transparantie betekent dat alle aspecten van het proces, de voortgang en problemen open en eerlijk worden gedeeld.");
-        questionHints.put("final1", "Inspectie helpt om tijdig problemen te identificeren en bij te sturen waar nodig.");
-        questionHints.put("final2", "Aanpassing betekent dat je direct verandert wanneer je tijdens inspectie verbeterpunten ziet.");
+        questionHints.put("final0", TextKey.HINT_HELP_FINAL0);
+        questionHints.put("final1", TextKey.HINT_HELP_FINAL1);
+        questionHints.put("final2", TextKey.HINT_HELP_FINAL2);
     }
     
     @Override
-    public String getHint() {
-        return "Tip: Denk aan de kernprincipes van Scrum, zoals transparantie en samenwerking.";
+    public TextKey getGenericHintKey() {
+        return TextKey.HINT_HELP_GENERIC;
     }
-    
+
     @Override
-    public String getHintForQuestion(String questionId, String questionText) {
-        // Probeer eerst een specifieke hint te vinden
-        String specificHint = questionHints.get(questionId);
-        if (specificHint != null) {
-            return specificHint;
-        }
-        
-        // Fallback naar generieke hint
-        return getHint();
+    public Map<String, TextKey> getQuestionHints() {
+        return Collections.unmodifiableMap(questionHints);
     }
 }
@@ -1,13 +1,36 @@
 package nl.webser.scrum_escape.hints;
 
+import java.util.Map;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.TextKey;
+
+/**
+ * Een stijl van hints. Een provider levert alleen de sleutels van zijn teksten;
+ * de {@link HintService} zet die bij het opstarten één keer in een tabel.
+ */
 public interface HintProvider {
-    String getHint();
-    
+    /**
+     * Sleutel van de hint voor vragen zonder eigen hint.
+     */
+    TextKey getGenericHintKey();
+
+    /**
+     * Alle vragen met een eigen hint, van vraag ID naar sleutel.
+     */
+    Map<String, TextKey> getQuestionHints();
+
+    default String getHint() {
+        return Localization.getInstance().get(getGenericHintKey());
+    }
+
     /**
      * Geeft een vraag-specifieke hint terug
      * @param questionId De ID van de vraag
      * @param questionText De tekst van de vraag
      * @return Een hint die specifiek bij deze vraag past
      */
-    String getHintForQuestion(String questionId, String questionText);
+    default String getHintForQuestion(String questionId, String questionText) {
+        TextKey specificHint = getQuestionHints().get(questionId);
+        return specificHint != null ? Localization.getInstance().get(specificHint) : getHint();
+    }
 }
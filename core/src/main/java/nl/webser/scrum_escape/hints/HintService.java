@@ -0,0 +1,159 @@
+package nl.webser.scrum_escape.hints;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.questions.QuestionStrategy;
+
+/**
+ * HintService geeft de hints bij vragen.
+ * Singleton pattern: de service wordt één keer gemaakt, met alle providers.
+ *
+ * Bij het maken krijgt elk vraag ID met een hint een vast nummer. De hints van
+ * alle providers staan in één array: eerst alle providers voor vraag 0, dan
+ * voor vraag 1, enzovoort. Een hint opvragen is daarmee één opzoeking van het
+ * nummer en één array index, zonder nieuwe objecten.
+ *
+ * Welke provider een hint levert wordt per aanvraag geloot met een eigen
+ * {@link Random}. Met {@link #startSession(long)} en dezelfde seed krijgt een
+ * sessie precies dezelfde hints, bijvoorbeeld bij het naspelen van een potje.
+ *
+ * Een hint kan in drie treden komen ({@link HintTier}): een duwtje uit de tabel,
+ * het wegstrepen van een fout antwoord, of een keuze uit nog maar twee antwoorden.
+ * De laatste twee worden uit de antwoorden van de vraag zelf gemaakt, dus elke
+ * vraag heeft ze, ook vragen uit een vragenbestand. Welke foute antwoorden
+ * afvallen hangt alleen af van de seed en de vraag: een hint opnieuw vragen
+ * strept niets anders weg, en de hoogste trede strept het antwoord van de
+ * vorige trede ook weg.
+ */
+public class HintService {
+    /** Systeemeigenschap om de seed van de hints vast te zetten, bijvoorbeeld -Dscrumescape.hintSeed=42. */
+    public static final String SEED_PROPERTY = "scrumescape.hintSeed";
+
+    private static HintService instance;
+
+    private final HintProvider[] providers;
+    private final Map<String, Integer> questionIndex = new HashMap<>();
+    private final TextKey[] hints;          // [vraag * providers + provider]
+    private final TextKey[] genericHints;   // [provider]
+    private final Random random = new Random();
+    private long seed;
+
+    private HintService() {
+        providers = new HintProvider[] {new HelpHintProvider(), new FunnyHintProvider()};
+
+        // Elk vraag ID waar een provider een hint voor heeft krijgt een nummer
+        for (HintProvider provider : providers) {
+            for (String questionId : provider.getQuestionHints().keySet()) {
+                if (!questionIndex.containsKey(questionId)) {
+                    questionIndex.put(questionId, questionIndex.size());
+                }
+            }
+        }
+
+        genericHints = new TextKey[providers.length];
+        hints = new TextKey[questionIndex.size() * providers.length];
+        for (int p = 0; p < providers.length; p++) {
+            genericHints[p] = providers[p].getGenericHintKey();
+            for (Map.Entry<String, Integer> entry : questionIndex.entrySet()) {
+                TextKey key = providers[p].getQuestionHints().get(entry.getKey());
+                hints[entry.getValue() * providers.length + p] = key != null ? key : genericHints[p];
+            }
+        }
+
+        startSession();
+    }
+
+    public static HintService getInstance() {
+        if (instance == null) {
+            instance = new HintService();
+        }
+        return instance;
+    }
+
+    /**
+     * Begint een nieuwe reeks hints met de seed van {@link #SEED_PROPERTY}, of een
+     * willekeurige seed als die niet is meegegeven.
+     */
+    public void startSession() {
+        startSession(Long.getLong(SEED_PROPERTY, System.nanoTime()));
+    }
+
+    /**
+     * Begint een nieuwe reeks hints. Dezelfde seed geeft dezelfde keuze van providers.
+     */
+    public void startSession(long seed) {
+        this.seed = seed;
+        random.setSeed(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Geeft een hint voor een vraag van een gelote provider.
+     * Vragen zonder eigen hint krijgen de algemene hint van die provider.
+     */
+    public String getHint(String questionId) {
+        int provider = random.nextInt(providers.length);
+        Integer question = questionIndex.get(questionId);
+        TextKey key = question != null ? hints[question * providers.length + provider] : genericHints[provider];
+        return Localization.getInstance().get(key);
+    }
+
+    /**
+     * Geeft een hint van een bepaalde trede.
+     *
+     * @param hintId Het ID waarmee het duwtje wordt opgezocht; bij een variant het ID van de basisvraag
+     */
+    public String getHint(QuestionStrategy question, String hintId, HintTier tier) {
+        if (tier == HintTier.NUDGE) {
+            return getHint(hintId);
+        }
+        String[] options = question.getOptions();
+        int correct = -1;
+        for (int i = 0; i < options.length && correct < 0; i++) {
+            if (question.isCorrectAnswer(i)) {
+                correct = i;
+            }
+        }
+        if (correct < 0 || options.length < 2) {
+            return getHint(hintId);
+        }
+
+        // Plaatsen tussen de foute antwoorden: eerst het weggestreepte, dan het foute dat overblijft
+        long hash = mix(seed ^ question.getQuestionId().hashCode());
+        int wrongCount = options.length - 1;
+        int eliminated = (int) Math.floorMod(hash, (long) wrongCount);
+        if (tier == HintTier.ELIMINATION) {
+            return Localization.getInstance().format(TextKey.HINT_ELIMINATE, options[skip(eliminated, correct)]);
+        }
+        int kept = eliminated;
+        if (wrongCount > 1) {
+            kept = (int) Math.floorMod(hash >>> 32, (long) wrongCount - 1);
+            if (kept >= eliminated) {
+                kept++;
+            }
+        }
+        // Het goede en het overgebleven foute antwoord in de volgorde van de vraag
+        int wrong = skip(kept, correct);
+        int first = Math.min(correct, wrong);
+        int second = Math.max(correct, wrong);
+        return Localization.getInstance().format(TextKey.HINT_NEAR_ANSWER, options[first], options[second]);
+    }
+
+    // Van een plaats tussen de foute antwoorden naar de index in de vraag
+    private static int skip(int wrong, int correct) {
+        return wrong >= correct ? wrong + 1 : wrong;
+    }
+
+    // Verdeelt de bits van de seed, zodat vragen met een bijna gelijk ID toch iets anders wegstrepen
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,19 @@
+package nl.webser.scrum_escape.hints;
+
+/**
+ * Hoeveel een hint weggeeft. Elke fout bij een vraag maakt de volgende trede vrij.
+ */
+public enum HintTier {
+    NUDGE,          // Een duwtje in de goede richting
+    ELIMINATION,    // Eén fout antwoord valt af
+    NEAR_ANSWER;    // Nog maar twee antwoorden over, waarvan één goed
+
+    private static final HintTier[] TIERS = values();
+
+    /**
+     * Trede bij een niveau; alles boven de hoogste trede wordt de hoogste.
+     */
+    public static HintTier fromLevel(int level) {
+        return TIERS[Math.max(0, Math.min(TIERS.length - 1, level))];
+    }
+}
@@ -0,0 +1,90 @@
+package nl.webser.scrum_escape.i18n;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Localization laadt bij het opstarten de teksten van één taal.
+ *
+ * De taalbestanden staan in {@code assets/i18n/strings_<taal>.properties} en
+ * worden als UTF-8 gelezen. Ze worden één keer omgezet naar een
+ * {@link StringTable}; tijdens het spel is een tekst opzoeken alleen nog een
+ * array-index. Ontbreekt een tekst in de gekozen taal, dan wordt de
+ * Nederlandse versie gebruikt.
+ */
+public class Localization {
+    public static final String DEFAULT_LANGUAGE = "nl";
+    private static final String BUNDLE_PATH = "i18n/strings_";
+
+    private static Localization instance;
+    private StringTable table;
+
+    private Localization() {
+    }
+
+    public static Localization getInstance() {
+        if (instance == null) {
+            instance = new Localization();
+        }
+        return instance;
+    }
+
+    /**
+     * Laadt de teksten van een taal. Een taal zonder eigen bestand valt terug
+     * op de standaardtaal.
+     *
+     * @param language Taalcode, bijvoorbeeld "nl" of "en"
+     */
+    public void load(String language) {
+        Map<String, String> fallback = readBundle(DEFAULT_LANGUAGE);
+        Map<String, String> bundle = DEFAULT_LANGUAGE.equals(language) ? fallback : readBundle(language);
+        if (bundle.isEmpty()) {
+            language = DEFAULT_LANGUAGE;
+            bundle = fallback;
+        }
+        table = StringTable.compile(language, bundle, fallback);
+    }
+
+    private static Map<String, String> readBundle(String language) {
+        Map<String, String> texts = new HashMap<>();
+        FileHandle file = Gdx.files.internal(BUNDLE_PATH + language + ".properties");
+        if (!file.exists()) {
+            return texts;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = file.reader("UTF-8")) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("Taalbestand " + file.path() + " niet geladen: " + e.getMessage());
+            return texts;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            texts.put(name, properties.getProperty(name));
+        }
+        return texts;
+    }
+
+    /**
+     * Geeft de tabel van de geladen taal. Als er nog niets geladen is, wordt
+     * de standaardtaal geladen.
+     */
+    public StringTable getTable() {
+        if (table == null) {
+            load(DEFAULT_LANGUAGE);
+        }
+        return table;
+    }
+
+    public String get(TextKey key) {
+        return getTable().get(key);
+    }
+
+    public String format(TextKey key, Object... arguments) {
+        return getTable().format(key, arguments);
+    }
+}
@@ -0,0 +1,97 @@
+package nl.webser.scrum_escape.i18n;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Alle teksten van één taal in een vaste array, geïndexeerd op {@link TextKey}.
+ *
+ * Een tabel wordt bij het opstarten één keer opgebouwd en daarna niet meer
+ * aangepast. Bij het opbouwen worden ook alle tekens verzameld die in de taal
+ * voorkomen, zodat een font precies die glyphs kan genereren.
+ */
+public final class StringTable {
+    // Tekens die altijd in een font moeten zitten, ook als ze in geen enkele tekst staan
+    private static final String BASE_GLYPHS =
+        " !\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrstuvwxyz{|}~";
+
+    private static final TextKey[] KEYS = TextKey.values();
+
+    private final String language;
+    private final String[] texts;
+    private final String glyphs;
+
+    private StringTable(String language, String[] texts, String glyphs) {
+        this.language = language;
+        this.texts = texts;
+        this.glyphs = glyphs;
+    }
+
+    /**
+     * Bouwt een tabel op. Per sleutel wordt eerst de taal zelf geprobeerd, dan
+     * de standaardtaal en als laatste de naam van de sleutel, zodat een
+     * ontbrekende vertaling direct opvalt maar het spel niet laat crashen.
+     *
+     * @param language De taalcode van de tabel
+     * @param bundle De teksten van de taal
+     * @param fallback De teksten van de standaardtaal
+     */
+    static StringTable compile(String language, Map<String, String> bundle, Map<String, String> fallback) {
+        String[] texts = new String[KEYS.length];
+        TreeSet<Character> characters = new TreeSet<>();
+        for (int i = 0; i < BASE_GLYPHS.length(); i++) {
+            characters.add(BASE_GLYPHS.charAt(i));
+        }
+
+        for (TextKey key : KEYS) {
+            String text = bundle.get(key.name());
+            if (text == null) {
+                text = fallback.get(key.name());
+            }
+            if (text == null) {
+                System.err.println("Geen tekst voor " + key + " in taal " + language);
+                text = key.name();
+            }
+            texts[key.ordinal()] = text;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= ' ') {
+                    characters.add(c);
+                }
+            }
+        }
+
+        StringBuilder glyphs = new StringBuilder(characters.size());
+        for (Character c : characters) {
+            glyphs.append(c.charValue());
+        }
+        return new StringTable(language, texts, glyphs.toString());
+    }
+
+    public String get(TextKey key) {
+        return texts[key.ordinal()];
+    }
+
+    /**
+     * Vult de plekken {0}, {1}, ... in de tekst met de gegeven waarden.
+     */
+    public String format(TextKey key, Object... arguments) {
+        String text = texts[key.ordinal()];
+        for (int i = 0; i < arguments.length; i++) {
+            text = text.replace("{" + i + "}", String.valueOf(arguments[i]));
+        }
+        return text;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Geeft alle tekens die in deze taal voorkomen, gesorteerd en zonder dubbelen.
+     * Bedoeld om een font met precies deze glyphs te genereren.
+     */
+    public String getGlyphs() {
+        return glyphs;
+    }
+}
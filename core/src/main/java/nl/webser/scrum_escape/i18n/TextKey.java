@@ -0,0 +1,120 @@
+package nl.webser.scrum_escape.i18n;
+
+/**
+ * Alle teksten die de speler te zien krijgt.
+ *
+ * De naam van een sleutel is ook de sleutel in de taalbestanden
+ * ({@code i18n/strings_<taal>.properties}). De volgorde bepaalt de plek in de
+ * {@link StringTable}, zodat een tekst opzoeken één array-index is.
+ */
+public enum TextKey {
+    // Welkom en kamers
+    WELCOME_TEXT,
+    COOP_CONTROLS,
+    ROOM_WELCOME,
+    ROOM_NAME_SCRUM,
+    ROOM_NAME_RETROSPECTIVE,
+    ALL_ROOMS_ESCAPED,
+    BOOK_DEFAULT,
+
+    // Vragen
+    FINISH_CURRENT_QUESTION,
+    ALL_QUESTIONS_CORRECT,
+    CORRECT_NEXT_QUESTION,
+    DOOR_OPENED_CORRECT,
+    WRONG_ANSWER_MONSTER,
+    NO_ACTIVE_QUESTION,
+    TIA_NOT_ALL_FOUND,
+
+    // Jokers
+    KEY_JOKER_USED,
+    JOKER_NOT_CHOSEN,
+    JOKER_NOT_SELECTED,
+    JOKER_SELECTED,
+    JOKER_USED_UP,
+    JOKER_COOLDOWN,
+    JOKER_NEEDS_QUESTION,
+    JOKER_NO_EFFECT,
+    FREEZE_JOKER_USED,
+    EXTRA_LIFE_GAINED,
+    EXTRA_LIFE_USED,
+    SKIP_JOKER_USED,
+    JOKER_NAME_HINT,
+    JOKER_NAME_KEY,
+    JOKER_NAME_FIFTY_FIFTY,
+    JOKER_NAME_FREEZE,
+    JOKER_NAME_EXTRA_LIFE,
+    JOKER_NAME_SKIP,
+
+    // HUD
+    HUD_SCORE,
+    HUD_SCORE_COOP,
+    HUD_JOKER,
+    HUD_JOKER_COUNT,
+    HUD_JOKER_COOLDOWN,
+    HUD_JOKER_NONE,
+    HUD_JOKER_ACTIVATE,
+    HUD_HINT,
+
+    // TIA objecten
+    TIA_FOUND,
+    TIA_UNKNOWN_FOUND,
+    TIA_NAME_TRANSPARENCY,
+    TIA_NAME_INSPECTION,
+    TIA_NAME_ADAPTATION,
+    TIA_EXPLANATION_TRANSPARENCY,
+    TIA_EXPLANATION_INSPECTION,
+    TIA_EXPLANATION_ADAPTATION,
+
+    // Assistent in de Scrum kamer
+    ASSISTANT_SCRUM_1,
+    ASSISTANT_SCRUM_2,
+    ASSISTANT_SCRUM_3,
+    ASSISTANT_SCRUM_4,
+    ASSISTANT_SCRUM_5,
+    ASSISTANT_SCRUM_6,
+    ASSISTANT_SCRUM_7,
+    ASSISTANT_SCRUM_8,
+    ASSISTANT_SCRUM_9,
+    ASSISTANT_SCRUM_10,
+
+    // Assistent in de Retrospective kamer
+    ASSISTANT_RETRO_1,
+    ASSISTANT_RETRO_2,
+    ASSISTANT_RETRO_3,
+    ASSISTANT_RETRO_4,
+
+    // Hints
+    HINT_HELP_GENERIC,
+    HINT_HELP_SPRINT1,
+    HINT_HELP_SPRINT2,
+    HINT_HELP_SPRINT3,
+    HINT_HELP_SPRINT4,
+    HINT_HELP_SPRINT5,
+    HINT_HELP_FINAL0,
+    HINT_HELP_FINAL1,
+    HINT_HELP_FINAL2,
+    HINT_FUNNY_GENERIC,
+    HINT_FUNNY_SPRINT1,
+    HINT_FUNNY_SPRINT2,
+    HINT_FUNNY_SPRINT3,
+    HINT_FUNNY_SPRINT4,
+    HINT_FUNNY_SPRINT5,
+    HINT_FUNNY_FINAL0,
+    HINT_FUNNY_FINAL1,
+    HINT_FUNNY_FINAL2,
+    HINT_ELIMINATE,
+    HINT_NEAR_ANSWER,
+
+    // Eindschermen
+    END_TITLE,
+    END_SCORE,
+    END_RESTART,
+    SUCCESS_TITLE,
+    SUCCESS_SCORE,
+    SUCCESS_TIME,
+    SUCCESS_RANK,
+    SUCCESS_TOP,
+    SUCCESS_TOP_ENTRY,
+    SUCCESS_EXIT
+}
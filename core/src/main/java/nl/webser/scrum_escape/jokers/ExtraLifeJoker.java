@@ -0,0 +1,24 @@
+package nl.webser.scrum_escape.jokers;
+
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.rooms.BaseRoom;
+
+/**
+ * Geeft een extra leven: de volgende keer dat het spel voorbij zou zijn,
+ * gaat het toch door.
+ */
+public class ExtraLifeJoker extends Joker {
+    public ExtraLifeJoker() {
+        super(TextKey.JOKER_NAME_EXTRA_LIFE, 1, 0f);
+    }
+
+    @Override
+    public boolean requiresQuestion() {
+        return false;
+    }
+
+    @Override
+    public boolean gebruik(BaseRoom room) {
+        return room.applyExtraLifeJoker();
+    }
+}
@@ -0,0 +1,18 @@
+package nl.webser.scrum_escape.jokers;
+
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.rooms.BaseRoom;
+
+/**
+ * Laat van de antwoorden alleen het goede en één fout antwoord over.
+ */
+public class FiftyFiftyJoker extends Joker {
+    public FiftyFiftyJoker() {
+        super(TextKey.JOKER_NAME_FIFTY_FIFTY, 1, 0f);
+    }
+
+    @Override
+    public boolean gebruik(BaseRoom room) {
+        return room.applyFiftyFiftyJoker();
+    }
+}
@@ -0,0 +1,26 @@
+package nl.webser.scrum_escape.jokers;
+
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.rooms.BaseRoom;
+
+/**
+ * Zet de monsters een paar seconden stil. Werkt ook zonder openstaande vraag,
+ * want de monsters komen juist na een fout antwoord.
+ */
+public class FreezeJoker extends Joker {
+    private static final float FREEZE_DURATION = 5f;
+
+    public FreezeJoker() {
+        super(TextKey.JOKER_NAME_FREEZE, 2, 15f);
+    }
+
+    @Override
+    public boolean requiresQuestion() {
+        return false;
+    }
+
+    @Override
+    public boolean gebruik(BaseRoom room) {
+        return room.applyFreezeJoker(FREEZE_DURATION);
+    }
+}
@@ -1,14 +1,16 @@
 package nl.webser.scrum_escape.jokers;
 
+import nl.webser.scrum_escape.i18n.TextKey;
 import nl.webser.scrum_escape.rooms.BaseRoom;
 
 public class HintJoker extends Joker {
     public HintJoker() {
-        super(JokerType.HINT_JOKER);
+        super(TextKey.JOKER_NAME_HINT, JokerInventory.UNLIMITED, 10f);
     }
 
     @Override
-    public void gebruik(BaseRoom room) {
+    public boolean gebruik(BaseRoom room) {
         room.applyHintJoker();
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,59 @@
 package nl.webser.scrum_escape.jokers;
 
+import nl.webser.scrum_escape.i18n.TextKey;
 import nl.webser.scrum_escape.rooms.BaseRoom;
 
+/**
+ * Basis van alle jokers.
+ *
+ * Een joker krijgt bij het registreren in de {@link JokerRegistry} een vast
+ * nummer. Met dat nummer staan het aantal en de cooldown van de joker in de
+ * arrays van de {@link JokerInventory}.
+ */
 public abstract class Joker implements JokerStrategy {
-    public enum JokerType {
-        HINT_JOKER,
-        KEY_JOKER
+    private final TextKey nameKey;
+    private final int startCount;
+    private final float cooldown;
+    private int id = -1;
+
+    /**
+     * @param nameKey Naam van de joker zoals de speler die ziet
+     * @param startCount Aantal keer dat de joker per spel te gebruiken is, of {@link JokerInventory#UNLIMITED}
+     * @param cooldown Seconden tussen twee keer gebruiken
+     */
+    protected Joker(TextKey nameKey, int startCount, float cooldown) {
+        this.nameKey = nameKey;
+        this.startCount = startCount;
+        this.cooldown = cooldown;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
+    public TextKey getNameKey() {
+        return nameKey;
     }
 
-    protected final JokerType type;
+    public int getStartCount() {
+        return startCount;
+    }
 
-    protected Joker(JokerType type) {
-        this.type = type;
+    public float getCooldown() {
+        return cooldown;
     }
 
-    public JokerType getType() {
-        return type;
+    /**
+     * Of de joker alleen bij een openstaande vraag gebruikt kan worden.
+     */
+    public boolean requiresQuestion() {
+        return true;
     }
 
     @Override
-    public abstract void gebruik(BaseRoom room);
-}
\ No newline at end of file
+    public abstract boolean gebruik(BaseRoom room);
+}
@@ -0,0 +1,77 @@
+package nl.webser.scrum_escape.jokers;
+
+/**
+ * De jokers van de speler in één spel.
+ *
+ * Aantal en resterende cooldown staan per joker in een primitieve array,
+ * op het nummer van de joker. Kijken of een joker klaar is, is daardoor
+ * twee array-indexen, hoeveel soorten jokers er ook bij komen.
+ */
+public class JokerInventory {
+    /** Aantal voor een joker die onbeperkt te gebruiken is. */
+    public static final int UNLIMITED = -1;
+
+    private final int[] counts;
+    private final float[] cooldowns;
+
+    public JokerInventory(int size) {
+        counts = new int[size];
+        cooldowns = new float[size];
+    }
+
+    /**
+     * Geeft de speler de joker met zijn startaantal erbij.
+     */
+    public void add(Joker joker) {
+        int id = joker.getId();
+        if (counts[id] == UNLIMITED || joker.getStartCount() == UNLIMITED) {
+            counts[id] = UNLIMITED;
+        } else {
+            counts[id] += joker.getStartCount();
+        }
+    }
+
+    /**
+     * @return Het aantal over, of {@link #UNLIMITED}
+     */
+    public int getCount(int id) {
+        return counts[id];
+    }
+
+    public boolean has(int id) {
+        return counts[id] != 0;
+    }
+
+    /**
+     * @return Seconden tot de joker weer gebruikt kan worden (0 = klaar)
+     */
+    public float getCooldown(int id) {
+        return cooldowns[id];
+    }
+
+    public boolean isReady(int id) {
+        return counts[id] != 0 && cooldowns[id] <= 0f;
+    }
+
+    /**
+     * Verbruikt één keer de joker en start zijn cooldown.
+     */
+    public void consume(Joker joker) {
+        int id = joker.getId();
+        if (counts[id] > 0) {
+            counts[id]--;
+        }
+        cooldowns[id] = joker.getCooldown();
+    }
+
+    /**
+     * Telt de cooldowns af.
+     */
+    public void update(float delta) {
+        for (int i = 0; i < cooldowns.length; i++) {
+            if (cooldowns[i] > 0f) {
+                cooldowns[i] = Math.max(0f, cooldowns[i] - delta);
+            }
+        }
+    }
+}
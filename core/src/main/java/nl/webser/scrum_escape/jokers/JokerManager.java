@@ -1,32 +1,62 @@
 package nl.webser.scrum_escape.jokers;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * Beheert de jokers van één spel: welke joker gekozen is en hoeveel er nog over zijn.
+ * De soorten jokers komen uit de {@link JokerRegistry}.
+ */
 public class JokerManager {
-    private final List<Joker> availableJokers;
+    private final JokerRegistry registry;
+    private final JokerInventory inventory;
     private Joker chosenJoker;
 
     public JokerManager() {
-        availableJokers = new ArrayList<>();
-        availableJokers.add(new HintJoker());
-        availableJokers.add(new KeyJoker());
+        registry = JokerRegistry.getInstance();
+        inventory = new JokerInventory(registry.size());
     }
 
-    public void chooseJoker(int index) {
-        if (index >= 0 && index < availableJokers.size()) {
-            chosenJoker = availableJokers.get(index);
+    /**
+     * Kiest de joker met dit nummer en stopt hem in de inventaris.
+     *
+     * @return true als er een joker met dit nummer bestaat
+     */
+    public boolean chooseJoker(int index) {
+        Joker joker = registry.get(index);
+        if (joker == null) {
+            return false;
         }
+        chosenJoker = joker;
+        inventory.add(joker);
+        return true;
     }
 
     public Joker getGekozenJoker() {
         return chosenJoker;
     }
 
+    public JokerInventory getInventory() {
+        return inventory;
+    }
+
+    public int getJokerCount() {
+        return registry.size();
+    }
+
+    public Joker getJoker(int id) {
+        return registry.get(id);
+    }
+
+    /**
+     * Of de gekozen joker nu gebruikt kan worden.
+     */
+    public boolean isReady() {
+        return chosenJoker != null && inventory.isReady(chosenJoker.getId());
+    }
+
     public void gebruikJoker(Joker joker) {
-        if (joker.getType() == Joker.JokerType.KEY_JOKER) {
-            availableJokers.removeIf(j -> j.getType() == Joker.JokerType.KEY_JOKER);
-        }
-        chosenJoker = null;
+        inventory.consume(joker);
+    }
+
+    public void update(float delta) {
+        inventory.update(delta);
     }
 }
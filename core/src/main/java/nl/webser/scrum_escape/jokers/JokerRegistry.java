@@ -0,0 +1,60 @@
+package nl.webser.scrum_escape.jokers;
+
+/**
+ * JokerRegistry kent alle soorten jokers.
+ * Singleton pattern: de jokers worden één keer gemaakt en gedeeld.
+ *
+ * Elke joker krijgt bij het registreren het volgende nummer. Dat nummer is
+ * de index in de arrays van een {@link JokerInventory} en de toets waarmee
+ * de speler hem kiest (nummer 0 is toets 1). Een nieuwe joker is een klasse
+ * die {@link Joker} uitbreidt plus een regel in de constructor hieronder.
+ */
+public class JokerRegistry {
+    private static JokerRegistry instance;
+
+    private Joker[] jokers = new Joker[0];
+
+    private JokerRegistry() {
+        register(new HintJoker());
+        register(new KeyJoker());
+        register(new FiftyFiftyJoker());
+        register(new FreezeJoker());
+        register(new ExtraLifeJoker());
+        register(new SkipJoker());
+    }
+
+    public static JokerRegistry getInstance() {
+        if (instance == null) {
+            instance = new JokerRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Voegt een joker toe en geeft hem een nummer.
+     *
+     * @return Het nummer van de joker
+     */
+    public int register(Joker joker) {
+        if (joker.getId() >= 0) {
+            throw new IllegalArgumentException("Joker is al geregistreerd: " + joker.getClass().getSimpleName());
+        }
+        Joker[] grown = new Joker[jokers.length + 1];
+        System.arraycopy(jokers, 0, grown, 0, jokers.length);
+        joker.setId(jokers.length);
+        grown[jokers.length] = joker;
+        jokers = grown;
+        return joker.getId();
+    }
+
+    /**
+     * @return De joker met dit nummer, of null als dat nummer niet bestaat
+     */
+    public Joker get(int id) {
+        return id >= 0 && id < jokers.length ? jokers[id] : null;
+    }
+
+    public int size() {
+        return jokers.length;
+    }
+}
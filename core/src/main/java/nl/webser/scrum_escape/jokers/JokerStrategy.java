@@ -3,5 +3,10 @@ package nl.webser.scrum_escape.jokers;
 import nl.webser.scrum_escape.rooms.BaseRoom;
 
 public interface JokerStrategy {
-    void gebruik(BaseRoom room);
-}
\ No newline at end of file
+    /**
+     * Zet de joker in in de gegeven kamer.
+     *
+     * @return true als de joker effect had; alleen dan kost het een joker
+     */
+    boolean gebruik(BaseRoom room);
+}
@@ -1,14 +1,15 @@
 package nl.webser.scrum_escape.jokers;
 
+import nl.webser.scrum_escape.i18n.TextKey;
 import nl.webser.scrum_escape.rooms.BaseRoom;
 
 public class KeyJoker extends Joker {
     public KeyJoker() {
-        super(JokerType.KEY_JOKER);
+        super(TextKey.JOKER_NAME_KEY, 1, 0f);
     }
 
     @Override
-    public void gebruik(BaseRoom room) {
-        room.applyKeyJoker();
+    public boolean gebruik(BaseRoom room) {
+        return room.applyKeyJoker();
     }
-}
\ No newline at end of file
+}
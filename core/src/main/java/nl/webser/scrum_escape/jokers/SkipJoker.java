@@ -0,0 +1,19 @@
+package nl.webser.scrum_escape.jokers;
+
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.rooms.BaseRoom;
+
+/**
+ * Slaat de huidige vraag over zonder straf. De deur blijft dicht; bij de
+ * volgende poging krijgt de speler een nieuwe vraag.
+ */
+public class SkipJoker extends Joker {
+    public SkipJoker() {
+        super(TextKey.JOKER_NAME_SKIP, 1, 0f);
+    }
+
+    @Override
+    public boolean gebruik(BaseRoom room) {
+        return room.applySkipJoker();
+    }
+}
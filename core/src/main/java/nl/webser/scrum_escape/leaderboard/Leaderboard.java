@@ -0,0 +1,238 @@
+package nl.webser.scrum_escape.leaderboard;
+
+import com.badlogic.gdx.Gdx;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leaderboard bewaart elk uitgespeeld potje op schijf en kent de plaats ervan.
+ * Singleton pattern: alle schermen gebruiken dezelfde bestanden.
+ *
+ * De runs staan achter elkaar in een bestand met vaste recordgrootte, dus
+ * run n staat op een vaste positie. Daarnaast houdt een {@link RankIndex} de
+ * runs op volgorde van score en tijd bij. De top van de lijst en de plaats van
+ * een run kosten zo een paar pagina's lezen, ook met miljoenen runs.
+ *
+ * Een run wordt eerst aan het runbestand toegevoegd en daarna aan de index.
+ * Klopt het aantal in de index bij het openen niet met het aantal runs, of is
+ * de index onleesbaar, dan wordt hij uit het runbestand opnieuw opgebouwd.
+ * Lukt er iets niet, dan meldt de ranglijst dat en speelt het spel gewoon door.
+ */
+public class Leaderboard {
+    public static final String DIR = "leaderboard/";
+
+    private static final String RUNS_FILE = "runs.bin";
+    private static final String INDEX_FILE = "index.bin";
+    private static final int MAGIC = 0x5345524C; // "SERL"
+    // Ophogen als de opbouw van een record verandert
+    private static final int VERSION = 1;
+    private static final int HEADER = 8;
+    // [uitgespeeld i64][tijd i32][score i32][fout i32][jokers i32]
+    private static final int RECORD = 24;
+
+    private static Leaderboard instance;
+
+    private final File directory;
+    private FileChannel runs;
+    private RankIndex index;
+    private long runCount;
+    private boolean unavailable;
+
+    Leaderboard(File directory) {
+        this.directory = directory;
+    }
+
+    public static Leaderboard getInstance() {
+        if (instance == null) {
+            instance = new Leaderboard(Gdx.files.local(DIR).file());
+        }
+        return instance;
+    }
+
+    /**
+     * Voegt een run toe.
+     *
+     * @return De plaats van de run (0 is de beste), of -1 als de ranglijst niet beschikbaar is
+     */
+    public long record(RunRecord run) {
+        if (!open()) {
+            return -1;
+        }
+        try {
+            int number = (int) runCount;
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD);
+            buffer.putLong(run.getFinishedAt());
+            buffer.putInt(run.getTimeMillis());
+            buffer.putInt(run.getScore());
+            buffer.putInt(run.getFailedAttempts());
+            buffer.putInt(run.getJokersUsed());
+            buffer.flip();
+            write(buffer, HEADER + (long) number * RECORD);
+            runCount++;
+
+            index.insert(run.getRankKey(), number);
+            return index.rank(run.getRankKey(), number);
+        } catch (IOException e) {
+            System.err.println("Run niet op de ranglijst gezet: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Geeft de beste runs, de beste eerst.
+     */
+    public List<RunRecord> getTop(int count) {
+        List<RunRecord> top = new ArrayList<>(count);
+        if (!open()) {
+            return top;
+        }
+        try {
+            int[] numbers = new int[count];
+            int found = index.read(0, numbers);
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD);
+            for (int i = 0; i < found; i++) {
+                buffer.clear();
+                read(buffer, HEADER + (long) numbers[i] * RECORD);
+                top.add(readRecord(buffer));
+            }
+        } catch (IOException e) {
+            System.err.println("Ranglijst niet leesbaar: " + e.getMessage());
+        }
+        return top;
+    }
+
+    /**
+     * Aantal runs op de ranglijst.
+     */
+    public long getRunCount() {
+        return open() ? runCount : 0;
+    }
+
+    /**
+     * Sluit de bestanden; de volgende aanvraag opent ze weer.
+     */
+    public void dispose() {
+        closeQuietly();
+    }
+
+    private boolean open() {
+        if (runs != null) {
+            return true;
+        }
+        if (unavailable) {
+            return false;
+        }
+        try {
+            Files.createDirectories(directory.toPath());
+            runs = FileChannel.open(new File(directory, RUNS_FILE).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            if (runs.size() < HEADER) {
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                runs.truncate(0);
+                write(header, 0);
+            } else {
+                read(header, 0);
+                if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException(RUNS_FILE + " is geen ranglijst van versie " + VERSION);
+                }
+            }
+            // Een half record van een afgebroken schrijfactie telt niet mee
+            runCount = (runs.size() - HEADER) / RECORD;
+            runs.truncate(HEADER + runCount * RECORD);
+            index = openIndex();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Ranglijst niet beschikbaar: " + e.getMessage());
+            closeQuietly();
+            unavailable = true;
+            return false;
+        }
+    }
+
+    private RankIndex openIndex() throws IOException {
+        Path file = new File(directory, INDEX_FILE).toPath();
+        RankIndex opened;
+        try {
+            opened = new RankIndex(file);
+        } catch (IOException e) {
+            System.err.println("Ranglijstindex onleesbaar, wordt opnieuw opgebouwd: " + e.getMessage());
+            Files.deleteIfExists(file);
+            opened = new RankIndex(file);
+        }
+        if (opened.size() != runCount) {
+            try {
+                rebuild(opened);
+            } catch (IOException e) {
+                opened.close();
+                throw e;
+            }
+        }
+        return opened;
+    }
+
+    /**
+     * Bouwt de index opnieuw op uit alle runs, in blokken van duizend records.
+     */
+    private void rebuild(RankIndex target) throws IOException {
+        target.clear();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD * 1000);
+        long number = 0;
+        while (number < runCount) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (runCount - number) * RECORD));
+            read(buffer, HEADER + number * RECORD);
+            while (buffer.hasRemaining()) {
+                target.insert(readRecord(buffer).getRankKey(), (int) number);
+                number++;
+            }
+        }
+    }
+
+    // Leest een record vanaf de huidige positie van een gevulde buffer
+    private static RunRecord readRecord(ByteBuffer buffer) {
+        return new RunRecord(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+    }
+
+    /**
+     * Vult de buffer tot de limiet en zet hem klaar om te lezen.
+     */
+    private void read(ByteBuffer buffer, long position) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (runs.read(buffer, position + buffer.position() - start) < 0) {
+                throw new IOException(RUNS_FILE + " is korter dan verwacht");
+            }
+        }
+        buffer.flip();
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            runs.write(buffer, position + buffer.position() - start);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (index != null) {
+                index.close();
+            }
+            if (runs != null) {
+                runs.close();
+            }
+        } catch (IOException e) {
+            // Niets meer aan te doen
+        }
+        index = null;
+        runs = null;
+    }
+}
@@ -0,0 +1,374 @@
+package nl.webser.scrum_escape.leaderboard;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Gesorteerde index op schijf: een B+-boom van pagina's van {@link #PAGE_SIZE} bytes.
+ *
+ * Een entry is een sorteersleutel plus het nummer van de run; het nummer maakt
+ * gelijke sleutels uniek. De bladeren bevatten de entries op volgorde en wijzen
+ * naar het volgende blad. Een binnenknoop heeft per kind de kleinste entry van
+ * dat kind en het aantal entries eronder. Daardoor vinden invoegen, de plaats
+ * van een entry en de entry op een plaats allemaal hun weg in één afdaling:
+ * bij een miljoen runs zijn dat drie pagina's.
+ *
+ * Pagina 0 is de kop met de wortel en het aantal entries. Die wordt als laatste
+ * geschreven, zodat een afgebroken invoeging te herkennen is aan een aantal dat
+ * niet klopt met het aantal runs.
+ */
+class RankIndex implements Closeable {
+    static final int PAGE_SIZE = 4096;
+
+    private static final int MAGIC = 0x53455249; // "SERI"
+    private static final int VERSION = 1;
+
+    private static final byte LEAF = 1;
+    private static final byte INNER = 2;
+
+    // Kop van een pagina: [soort u8][leeg u8][aantal u16][volgende blad i32]
+    private static final int PAGE_HEADER = 8;
+    // Entry in een blad: [sleutel i64][run i32]
+    private static final int ENTRY = 12;
+    // Kind in een binnenknoop: [pagina i32][aantal eronder i32][kleinste sleutel i64][kleinste run i32]
+    private static final int CHILD = 20;
+    static final int LEAF_CAPACITY = (PAGE_SIZE - PAGE_HEADER) / ENTRY;
+    static final int INNER_CAPACITY = (PAGE_SIZE - PAGE_HEADER) / CHILD;
+    private static final int NO_PAGE = 0;
+
+    private final FileChannel channel;
+    private int root;
+    private int pageCount;
+    private long size;
+
+    // Nieuwe rechterhelft na het splitsen van een pagina
+    private int splitPage;
+    private int splitCount;
+    private long splitKey;
+    private int splitRun;
+
+    /**
+     * Opent of maakt het indexbestand.
+     *
+     * @throws IOException Ook als het bestand geen index van deze versie is
+     */
+    RankIndex(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                clear();
+            } else {
+                ByteBuffer header = readPage(0);
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException("Geen ranglijstindex van versie " + VERSION);
+                }
+                root = header.getInt(8);
+                pageCount = header.getInt(12);
+                size = header.getLong(16);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maakt de index leeg: alleen een kop en een leeg blad als wortel.
+     */
+    void clear() throws IOException {
+        channel.truncate(0);
+        pageCount = 1;
+        root = newPage();
+        ByteBuffer leaf = newBuffer();
+        leaf.put(0, LEAF);
+        writePage(root, leaf);
+        size = 0;
+        writeHeader();
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Voegt een entry toe.
+     */
+    void insert(long key, int run) throws IOException {
+        if (insert(root, key, run)) {
+            // De wortel is gesplitst: een nieuwe wortel met beide helften
+            ByteBuffer newRoot = newBuffer();
+            newRoot.put(0, INNER);
+            ByteBuffer oldRoot = readPage(root);
+            setChild(newRoot, 0, root, (int) Math.min(Integer.MAX_VALUE, size + 1 - splitCount),
+                firstKey(oldRoot), firstRun(oldRoot));
+            setChild(newRoot, 1, splitPage, splitCount, splitKey, splitRun);
+            setCount(newRoot, 2);
+            root = newPage();
+            writePage(root, newRoot);
+        }
+        size++;
+        writeHeader();
+    }
+
+    /**
+     * @return true als de pagina gesplitst is; de nieuwe helft staat dan in de split velden
+     */
+    private boolean insert(int page, long key, int run) throws IOException {
+        ByteBuffer buffer = readPage(page);
+        int count = getCount(buffer);
+        if (buffer.get(0) == LEAF) {
+            int position = leafLowerBound(buffer, count, key, run);
+            int offset = PAGE_HEADER + position * ENTRY;
+            byte[] bytes = buffer.array();
+            System.arraycopy(bytes, offset, bytes, offset + ENTRY, (count - position) * ENTRY);
+            buffer.putLong(offset, key);
+            buffer.putInt(offset + 8, run);
+            count++;
+            if (count <= LEAF_CAPACITY) {
+                setCount(buffer, count);
+                writePage(page, buffer);
+                return false;
+            }
+            splitLeaf(page, buffer, count);
+            return true;
+        }
+
+        int child = innerChild(buffer, count, key, run);
+        int offset = PAGE_HEADER + child * CHILD;
+        if (!insert(buffer.getInt(offset), key, run)) {
+            buffer.putInt(offset + 4, buffer.getInt(offset + 4) + 1);
+            writePage(page, buffer);
+            return false;
+        }
+        // Het kind is gesplitst: de nieuwe helft komt er direct achter
+        buffer.putInt(offset + 4, buffer.getInt(offset + 4) + 1 - splitCount);
+        int next = offset + CHILD;
+        byte[] bytes = buffer.array();
+        System.arraycopy(bytes, next, bytes, next + CHILD, (count - child - 1) * CHILD);
+        setChild(buffer, child + 1, splitPage, splitCount, splitKey, splitRun);
+        count++;
+        if (count <= INNER_CAPACITY) {
+            setCount(buffer, count);
+            writePage(page, buffer);
+            return false;
+        }
+        splitInner(page, buffer, count);
+        return true;
+    }
+
+    private void splitLeaf(int page, ByteBuffer buffer, int count) throws IOException {
+        int leftCount = count / 2;
+        ByteBuffer right = newBuffer();
+        right.put(0, LEAF);
+        System.arraycopy(buffer.array(), PAGE_HEADER + leftCount * ENTRY, right.array(), PAGE_HEADER, (count - leftCount) * ENTRY);
+        setCount(right, count - leftCount);
+        right.putInt(4, buffer.getInt(4));
+        int rightPage = newPage();
+        writePage(rightPage, right);
+
+        setCount(buffer, leftCount);
+        buffer.putInt(4, rightPage);
+        writePage(page, buffer);
+
+        splitPage = rightPage;
+        splitCount = count - leftCount;
+        splitKey = firstKey(right);
+        splitRun = firstRun(right);
+    }
+
+    private void splitInner(int page, ByteBuffer buffer, int count) throws IOException {
+        int leftCount = count / 2;
+        ByteBuffer right = newBuffer();
+        right.put(0, INNER);
+        System.arraycopy(buffer.array(), PAGE_HEADER + leftCount * CHILD, right.array(), PAGE_HEADER, (count - leftCount) * CHILD);
+        setCount(right, count - leftCount);
+        int rightPage = newPage();
+        writePage(rightPage, right);
+
+        setCount(buffer, leftCount);
+        writePage(page, buffer);
+
+        splitPage = rightPage;
+        splitCount = sumCounts(right, 0, count - leftCount);
+        splitKey = firstKey(right);
+        splitRun = firstRun(right);
+    }
+
+    /**
+     * Het aantal entries dat voor deze entry komt; 0 is de eerste plaats.
+     * De entry zelf hoeft niet in de index te staan.
+     */
+    long rank(long key, int run) throws IOException {
+        long rank = 0;
+        ByteBuffer buffer = readPage(root);
+        while (buffer.get(0) == INNER) {
+            int child = innerChild(buffer, getCount(buffer), key, run);
+            rank += sumCounts(buffer, 0, child);
+            buffer = readPage(buffer.getInt(PAGE_HEADER + child * CHILD));
+        }
+        return rank + leafLowerBound(buffer, getCount(buffer), key, run);
+    }
+
+    /**
+     * Leest de runnummers vanaf een plaats in de ranglijst.
+     *
+     * @param rank De eerste plaats (0 is de beste)
+     * @param runs Wordt vanaf index 0 gevuld
+     * @return Het aantal gevulde runnummers
+     */
+    int read(long rank, int[] runs) throws IOException {
+        if (rank < 0 || rank >= size) {
+            return 0;
+        }
+        ByteBuffer buffer = readPage(root);
+        long remaining = rank;
+        while (buffer.get(0) == INNER) {
+            int child = 0;
+            int count = getCount(buffer);
+            while (child < count - 1 && remaining >= buffer.getInt(PAGE_HEADER + child * CHILD + 4)) {
+                remaining -= buffer.getInt(PAGE_HEADER + child * CHILD + 4);
+                child++;
+            }
+            buffer = readPage(buffer.getInt(PAGE_HEADER + child * CHILD));
+        }
+
+        // Vanaf hier langs de bladeren naar rechts
+        int filled = 0;
+        int position = (int) remaining;
+        while (filled < runs.length) {
+            int count = getCount(buffer);
+            while (position < count && filled < runs.length) {
+                runs[filled++] = buffer.getInt(PAGE_HEADER + position * ENTRY + 8);
+                position++;
+            }
+            int next = buffer.getInt(4);
+            if (filled == runs.length || next == NO_PAGE) {
+                break;
+            }
+            buffer = readPage(next);
+            position = 0;
+        }
+        return filled;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Eerste plaats in het blad waar de entry niet voor de gezochte entry komt
+    private static int leafLowerBound(ByteBuffer buffer, int count, long key, int run) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int offset = PAGE_HEADER + middle * ENTRY;
+            if (compare(buffer.getLong(offset), buffer.getInt(offset + 8), key, run) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Laatste kind waarvan de kleinste entry niet na de gezochte entry komt, of het eerste kind
+    private static int innerChild(ByteBuffer buffer, int count, long key, int run) {
+        int low = 1;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int offset = PAGE_HEADER + middle * CHILD;
+            if (compare(buffer.getLong(offset + 8), buffer.getInt(offset + 16), key, run) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low - 1;
+    }
+
+    private static int compare(long keyA, int runA, long keyB, int runB) {
+        int result = Long.compare(keyA, keyB);
+        return result != 0 ? result : Integer.compare(runA, runB);
+    }
+
+    private static int sumCounts(ByteBuffer buffer, int from, int to) {
+        int sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += buffer.getInt(PAGE_HEADER + i * CHILD + 4);
+        }
+        return sum;
+    }
+
+    // Kleinste entry van een pagina; bij een binnenknoop die van het eerste kind
+    private static long firstKey(ByteBuffer buffer) {
+        return buffer.get(0) == LEAF ? buffer.getLong(PAGE_HEADER) : buffer.getLong(PAGE_HEADER + 8);
+    }
+
+    private static int firstRun(ByteBuffer buffer) {
+        return buffer.get(0) == LEAF ? buffer.getInt(PAGE_HEADER + 8) : buffer.getInt(PAGE_HEADER + 16);
+    }
+
+    private static void setChild(ByteBuffer buffer, int index, int page, int count, long key, int run) {
+        int offset = PAGE_HEADER + index * CHILD;
+        buffer.putInt(offset, page);
+        buffer.putInt(offset + 4, count);
+        buffer.putLong(offset + 8, key);
+        buffer.putInt(offset + 16, run);
+    }
+
+    private static int getCount(ByteBuffer buffer) {
+        return buffer.getShort(2) & 0xFFFF;
+    }
+
+    private static void setCount(ByteBuffer buffer, int count) {
+        buffer.putShort(2, (short) count);
+    }
+
+    // Eén plek extra, zodat een volle pagina eerst kan overlopen en daarna gesplitst wordt
+    private static ByteBuffer newBuffer() {
+        return ByteBuffer.allocate(PAGE_SIZE + CHILD);
+    }
+
+    private int newPage() {
+        return pageCount++;
+    }
+
+    private ByteBuffer readPage(int page) throws IOException {
+        ByteBuffer buffer = newBuffer();
+        buffer.limit(PAGE_SIZE);
+        long position = (long) page * PAGE_SIZE;
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Pagina " + page + " ontbreekt in de ranglijstindex");
+            }
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private void writePage(int page, ByteBuffer buffer) throws IOException {
+        buffer.position(0).limit(PAGE_SIZE);
+        long position = (long) page * PAGE_SIZE;
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+        buffer.clear();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = newBuffer();
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, root);
+        header.putInt(12, pageCount);
+        header.putLong(16, size);
+        writePage(0, header);
+    }
+}
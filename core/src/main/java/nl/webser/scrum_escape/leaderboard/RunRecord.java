@@ -0,0 +1,55 @@
+package nl.webser.scrum_escape.leaderboard;
+
+/**
+ * Eén uitgespeeld potje op de ranglijst.
+ */
+public class RunRecord {
+    private final long finishedAt;
+    private final int timeMillis;
+    private final int score;
+    private final int failedAttempts;
+    private final int jokersUsed;
+
+    /**
+     * @param finishedAt Moment van uitspelen in milliseconden sinds 1970
+     * @param timeMillis Speeltijd in milliseconden
+     * @param score Eindscore
+     * @param failedAttempts Aantal foute antwoorden in het hele potje
+     * @param jokersUsed Aantal ingezette jokers
+     */
+    public RunRecord(long finishedAt, int timeMillis, int score, int failedAttempts, int jokersUsed) {
+        this.finishedAt = finishedAt;
+        this.timeMillis = timeMillis;
+        this.score = score;
+        this.failedAttempts = failedAttempts;
+        this.jokersUsed = jokersUsed;
+    }
+
+    /**
+     * Sorteersleutel voor de ranglijst: hoogste score eerst, bij gelijke score
+     * de snelste tijd. Een kleinere sleutel is een betere plaats.
+     */
+    long getRankKey() {
+        return ((long) (Integer.MAX_VALUE - Math.max(0, score)) << 32) | (timeMillis & 0xFFFFFFFFL);
+    }
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    public int getTimeMillis() {
+        return timeMillis;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public int getJokersUsed() {
+        return jokersUsed;
+    }
+}
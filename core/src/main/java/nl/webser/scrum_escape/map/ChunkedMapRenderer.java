@@ -0,0 +1,236 @@
+package nl.webser.scrum_escape.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * ChunkedMapRenderer tekent de statische tile lagen van een kaart.
+ *
+ * In plaats van elke frame alle zichtbare tiles opnieuw naar de GPU te sturen
+ * (zoals OrthogonalTiledMapRenderer doet), wordt de kaart bij het aanmaken één keer
+ * opgedeeld in chunks van {@code chunkSize x chunkSize} tiles. De geometrie van elke
+ * chunk wordt in een {@link SpriteCache} gezet. Tijdens het renderen worden alleen
+ * de chunks getekend die binnen het beeld van de camera vallen.
+ *
+ * Dynamische objecten (deuren, monster, speler) worden daarna gewoon met een
+ * SpriteBatch over de kaart heen getekend.
+ */
+public class ChunkedMapRenderer implements Disposable {
+    public static final int DEFAULT_CHUNK_SIZE = 16;     // Tiles per chunk (breedte en hoogte)
+    private static final int MAX_SPRITES_PER_CACHE = 8191; // Limiet van een SpriteCache
+    private static final int NO_CACHE = -1;
+
+    private final int chunkSize;
+    private final float offsetX;
+    private final float offsetY;
+    private final float tileWidth;
+    private final float tileHeight;
+    private final int chunksX;
+    private final int chunksY;
+    private final List<SpriteCache> caches = new ArrayList<>();
+    private final int[] chunkCache;     // Welke SpriteCache bij een chunk hoort
+    private final int[] chunkCacheId;   // Cache ID binnen die SpriteCache
+
+    private int firstChunkX, firstChunkY, lastChunkX, lastChunkY;
+    private int renderedChunks;
+
+    public ChunkedMapRenderer(TiledMap map) {
+        this(map, DEFAULT_CHUNK_SIZE, 0f, 0f);
+    }
+
+    /**
+     * Bakt alle zichtbare tile lagen van de kaart in chunks.
+     *
+     * @param map De kaart om te tekenen
+     * @param chunkSize Aantal tiles per chunk in beide richtingen
+     * @param offsetX X-positie van de kaart in de wereld
+     * @param offsetY Y-positie van de kaart in de wereld
+     */
+    public ChunkedMapRenderer(TiledMap map, int chunkSize, float offsetX, float offsetY) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize moet minimaal 1 zijn");
+        }
+        this.chunkSize = chunkSize;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+
+        List<TiledMapTileLayer> layers = new ArrayList<>();
+        int mapWidth = 0;
+        int mapHeight = 0;
+        float tw = 0;
+        float th = 0;
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer && layer.isVisible()) {
+                TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+                layers.add(tileLayer);
+                mapWidth = Math.max(mapWidth, tileLayer.getWidth());
+                mapHeight = Math.max(mapHeight, tileLayer.getHeight());
+                tw = tileLayer.getTileWidth();
+                th = tileLayer.getTileHeight();
+            }
+        }
+        this.tileWidth = tw;
+        this.tileHeight = th;
+        this.chunksX = (mapWidth + chunkSize - 1) / chunkSize;
+        this.chunksY = (mapHeight + chunkSize - 1) / chunkSize;
+        this.chunkCache = new int[chunksX * chunksY];
+        this.chunkCacheId = new int[chunksX * chunksY];
+        bakeChunks(layers);
+    }
+
+    /**
+     * Tel per chunk het aantal tiles en verdeel de chunks over zo min mogelijk SpriteCaches.
+     */
+    private void bakeChunks(List<TiledMapTileLayer> layers) {
+        int[] tileCounts = new int[chunksX * chunksY];
+        for (TiledMapTileLayer layer : layers) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                for (int x = 0; x < layer.getWidth(); x++) {
+                    if (tileAt(layer, x, y) != null) {
+                        tileCounts[chunkIndex(x / chunkSize, y / chunkSize)]++;
+                    }
+                }
+            }
+        }
+
+        SpriteCache cache = null;
+        int cacheFill = 0;
+        for (int chunk = 0; chunk < tileCounts.length; chunk++) {
+            chunkCache[chunk] = NO_CACHE;
+            int count = tileCounts[chunk];
+            if (count == 0) {
+                continue;
+            }
+            if (cache == null || cacheFill + count > MAX_SPRITES_PER_CACHE) {
+                cache = new SpriteCache(Math.min(MAX_SPRITES_PER_CACHE, remainingTiles(tileCounts, chunk)), false);
+                caches.add(cache);
+                cacheFill = 0;
+            }
+            cacheFill += count;
+            chunkCache[chunk] = caches.size() - 1;
+            chunkCacheId[chunk] = bakeChunk(cache, layers, chunk % chunksX, chunk / chunksX);
+        }
+    }
+
+    private int remainingTiles(int[] tileCounts, int fromChunk) {
+        int total = 0;
+        for (int i = fromChunk; i < tileCounts.length; i++) {
+            total += tileCounts[i];
+        }
+        return total;
+    }
+
+    private int bakeChunk(SpriteCache cache, List<TiledMapTileLayer> layers, int chunkX, int chunkY) {
+        cache.beginCache();
+        int startX = chunkX * chunkSize;
+        int startY = chunkY * chunkSize;
+        for (TiledMapTileLayer layer : layers) {
+            cache.setColor(1f, 1f, 1f, layer.getOpacity());
+            int endX = Math.min(startX + chunkSize, layer.getWidth());
+            int endY = Math.min(startY + chunkSize, layer.getHeight());
+            for (int y = startY; y < endY; y++) {
+                for (int x = startX; x < endX; x++) {
+                    TiledMapTile tile = tileAt(layer, x, y);
+                    if (tile == null) {
+                        continue;
+                    }
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    TextureRegion region = tile.getTextureRegion();
+                    float drawX = offsetX + x * layer.getTileWidth() + tile.getOffsetX() + layer.getRenderOffsetX();
+                    float drawY = offsetY + y * layer.getTileHeight() + tile.getOffsetY() - layer.getRenderOffsetY();
+                    float width = region.getRegionWidth();
+                    float height = region.getRegionHeight();
+                    cache.add(region, drawX, drawY, width / 2f, height / 2f, width, height,
+                        cell.getFlipHorizontally() ? -1f : 1f,
+                        cell.getFlipVertically() ? -1f : 1f,
+                        cell.getRotation() * 90f);
+                }
+            }
+        }
+        return cache.endCache();
+    }
+
+    private static TiledMapTile tileAt(TiledMapTileLayer layer, int x, int y) {
+        TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+        return cell == null ? null : cell.getTile();
+    }
+
+    private int chunkIndex(int chunkX, int chunkY) {
+        return chunkY * chunksX + chunkX;
+    }
+
+    /**
+     * Bepaalt welke chunks binnen het beeld van de camera vallen
+     * en zet de projectie van alle caches.
+     */
+    public void setView(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        float minX = camera.position.x - width / 2f - offsetX;
+        float minY = camera.position.y - height / 2f - offsetY;
+        float chunkWorldWidth = chunkSize * tileWidth;
+        float chunkWorldHeight = chunkSize * tileHeight;
+
+        firstChunkX = Math.max(0, (int) Math.floor(minX / chunkWorldWidth));
+        firstChunkY = Math.max(0, (int) Math.floor(minY / chunkWorldHeight));
+        lastChunkX = Math.min(chunksX - 1, (int) Math.floor((minX + width) / chunkWorldWidth));
+        lastChunkY = Math.min(chunksY - 1, (int) Math.floor((minY + height) / chunkWorldHeight));
+
+        for (int i = 0; i < caches.size(); i++) {
+            caches.get(i).setProjectionMatrix(camera.combined);
+        }
+    }
+
+    /**
+     * Tekent alle chunks die bij de laatste {@link #setView} zichtbaar waren.
+     * Moet buiten een actieve SpriteBatch worden aangeroepen.
+     */
+    public void render() {
+        renderedChunks = 0;
+        for (int c = 0; c < caches.size(); c++) {
+            SpriteCache cache = caches.get(c);
+            boolean begun = false;
+            for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+                for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+                    int chunk = chunkIndex(chunkX, chunkY);
+                    if (chunkCache[chunk] != c) {
+                        continue;
+                    }
+                    if (!begun) {
+                        cache.begin();
+                        begun = true;
+                    }
+                    cache.draw(chunkCacheId[chunk]);
+                    renderedChunks++;
+                }
+            }
+            if (begun) {
+                cache.end();
+            }
+        }
+    }
+
+    /**
+     * Geeft het aantal chunks dat bij de laatste render is getekend (handig voor debug).
+     */
+    public int getRenderedChunkCount() {
+        return renderedChunks;
+    }
+
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : caches) {
+            cache.dispose();
+        }
+        caches.clear();
+    }
+}
@@ -0,0 +1,28 @@
+package nl.webser.scrum_escape.map;
+
+/**
+ * Geeft aan welke posities in de wereld niet begaanbaar zijn.
+ * Wordt door de speler (en later andere entiteiten) gebruikt voor botsingen,
+ * zonder te hoeven weten of de wereld uit één of meerdere kaarten bestaat.
+ */
+public interface CollisionMap {
+    /**
+     * Controleert of een wereldpositie geblokkeerd is.
+     * Posities buiten de wereld gelden als geblokkeerd.
+     *
+     * @param x X-coördinaat in de wereld (pixels)
+     * @param y Y-coördinaat in de wereld (pixels)
+     * @return true als de positie niet begaanbaar is
+     */
+    boolean isBlocked(float x, float y);
+
+    /**
+     * Breedte van de wereld in pixels.
+     */
+    float getWidth();
+
+    /**
+     * Hoogte van de wereld in pixels.
+     */
+    float getHeight();
+}
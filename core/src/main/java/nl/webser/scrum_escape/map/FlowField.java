@@ -0,0 +1,223 @@
+package nl.webser.scrum_escape.map;
+
+import java.util.Arrays;
+
+/**
+ * Een flow field over het botsingsraster van de wereld.
+ * Voor elke begaanbare tegel staat opgeslagen naar welke buurtegel je moet
+ * lopen om het doel (de speler) zo snel mogelijk te bereiken.
+ *
+ * Het veld wordt alleen opnieuw berekend wanneer het doel van tegel wisselt
+ * of wanneer de wereld verandert. Daardoor kost een achtervolger per frame
+ * slechts één opzoeking, ongeacht hoeveel monsters er zijn.
+ *
+ * Een herberekening kijkt niet verder dan {@link #DEFAULT_SEARCH_RADIUS} stappen
+ * van het doel, en alleen de tegels die ze daarbij bekijkt kosten werk: de
+ * uitkomst van de vorige berekening en de gecachte botsingen worden niet
+ * leeggemaakt, maar verlopen doordat hun nummer achterloopt. Zo hangt de prijs
+ * af van de omgeving van de speler en niet van de grootte van de wereld.
+ * Monsters verder weg krijgen geen richting en lopen recht op de speler af.
+ */
+public class FlowField {
+    public static final int DEFAULT_TILE_SIZE = 16;
+    // Ruim een kamer van 50 bij 40 tegels vanaf elke plek in die kamer
+    public static final int DEFAULT_SEARCH_RADIUS = 96;
+
+    /** Waarde voor tegels die het doel niet kunnen bereiken. */
+    public static final int UNREACHABLE = -1;
+
+    // Buren: rechts, links, boven, onder
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1};
+
+    private final CollisionMap collisionMap;
+    private final int tileSize;
+    private final int columns;
+    private final int rows;
+    private final int searchRadius;
+
+    private final boolean[] blocked;   // Gecachte botsingen per tegel
+    private final int[] blockedStamp;  // Versie van de wereld waarin blocked is opgezocht
+    private final int[] distance;      // Aantal stappen tot het doel
+    private final int[] next;          // Index van de volgende tegel richting het doel
+    private final int[] searchStamp;   // Berekening waarin distance en next zijn gezet
+    private final int[] queue;         // Werkruimte voor de breadth-first search
+
+    private int targetCell = UNREACHABLE;
+    private int worldVersion = 1;
+    private int search;
+    private boolean dirty = true;
+
+    public FlowField(CollisionMap collisionMap) {
+        this(collisionMap, DEFAULT_TILE_SIZE, DEFAULT_SEARCH_RADIUS);
+    }
+
+    /**
+     * @param searchRadius Hoeveel stappen van het doel het veld nog een richting weet
+     */
+    public FlowField(CollisionMap collisionMap, int tileSize, int searchRadius) {
+        this.collisionMap = collisionMap;
+        this.tileSize = tileSize;
+        this.searchRadius = searchRadius;
+        this.columns = Math.max(1, (int) Math.ceil(collisionMap.getWidth() / tileSize));
+        this.rows = Math.max(1, (int) Math.ceil(collisionMap.getHeight() / tileSize));
+        int cells = columns * rows;
+        this.blocked = new boolean[cells];
+        this.blockedStamp = new int[cells];
+        this.distance = new int[cells];
+        this.next = new int[cells];
+        this.searchStamp = new int[cells];
+        // Binnen de straal liggen hooguit 2r(r+1)+1 tegels
+        this.queue = new int[(int) Math.min(cells, 2L * searchRadius * (searchRadius + 1) + 1)];
+    }
+
+    /**
+     * Markeert het botsingsraster als verouderd, bijvoorbeeld wanneer er een
+     * kamer in- of uitgeladen is. Bij de volgende update worden de botsingen
+     * rond het doel opnieuw opgezocht.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Werkt het veld bij voor een nieuwe doelpositie.
+     * Er wordt alleen gerekend als het doel een andere tegel heeft bereikt.
+     *
+     * @param targetX X-coördinaat van het doel in de wereld
+     * @param targetY Y-coördinaat van het doel in de wereld
+     * @return true als het veld opnieuw is berekend
+     */
+    public boolean update(float targetX, float targetY) {
+        int cell = cellAt(targetX, targetY);
+        if (!dirty && cell == targetCell) {
+            return false;
+        }
+        if (dirty) {
+            worldVersion = nextStamp(worldVersion, blockedStamp);
+            dirty = false;
+        }
+        targetCell = cell;
+        rebuild();
+        return true;
+    }
+
+    // Zoekt een botsing alleen op als die niet uit de huidige versie van de wereld komt
+    private boolean isBlocked(int cell) {
+        if (blockedStamp[cell] != worldVersion) {
+            blocked[cell] = collisionMap.isBlocked(getCellCenterX(cell), getCellCenterY(cell));
+            blockedStamp[cell] = worldVersion;
+        }
+        return blocked[cell];
+    }
+
+    // Volgend nummer; na een overloop worden de oude nummers één keer echt gewist
+    private static int nextStamp(int stamp, int[] stamps) {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            return 1;
+        }
+        return stamp + 1;
+    }
+
+    /**
+     * Breadth-first search vanaf het doel. Omdat elke stap even duur is, levert
+     * dit dezelfde kortste paden op als A*, maar dan voor alle tegels binnen de
+     * straal tegelijk.
+     */
+    private void rebuild() {
+        search = nextStamp(search, searchStamp);
+        if (targetCell == UNREACHABLE) {
+            return;
+        }
+
+        int head = 0;
+        int tail = 0;
+        searchStamp[targetCell] = search;
+        distance[targetCell] = 0;
+        next[targetCell] = targetCell;
+        queue[tail++] = targetCell;
+
+        while (head < tail) {
+            int current = queue[head++];
+            if (distance[current] >= searchRadius) {
+                continue;
+            }
+            int column = current % columns;
+            int row = current / columns;
+            for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+                int neighbourColumn = column + NEIGHBOUR_X[i];
+                int neighbourRow = row + NEIGHBOUR_Y[i];
+                if (neighbourColumn < 0 || neighbourColumn >= columns || neighbourRow < 0 || neighbourRow >= rows) {
+                    continue;
+                }
+                int neighbour = neighbourRow * columns + neighbourColumn;
+                if (searchStamp[neighbour] == search || isBlocked(neighbour)) {
+                    continue;
+                }
+                searchStamp[neighbour] = search;
+                distance[neighbour] = distance[current] + 1;
+                next[neighbour] = current;
+                queue[tail++] = neighbour;
+            }
+        }
+    }
+
+    /**
+     * Geeft de tegel op een wereldpositie, of UNREACHABLE als de positie
+     * buiten de wereld ligt.
+     */
+    public int cellAt(float x, float y) {
+        if (x < 0 || y < 0) {
+            return UNREACHABLE;
+        }
+        int column = (int) (x / tileSize);
+        int row = (int) (y / tileSize);
+        if (column >= columns || row >= rows) {
+            return UNREACHABLE;
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * Geeft de volgende tegel richting het doel, of UNREACHABLE als het doel
+     * vanaf deze tegel niet bereikbaar is.
+     */
+    public int getNextCell(int cell) {
+        if (!isSearched(cell)) {
+            return UNREACHABLE;
+        }
+        return next[cell];
+    }
+
+    /**
+     * Geeft het aantal stappen van een tegel tot het doel.
+     */
+    public int getDistance(int cell) {
+        if (!isSearched(cell)) {
+            return UNREACHABLE;
+        }
+        return distance[cell];
+    }
+
+    // Of de tegel bij de laatste berekening bereikt is; 0 betekent nog nooit berekend
+    private boolean isSearched(int cell) {
+        return cell != UNREACHABLE && search != 0 && searchStamp[cell] == search;
+    }
+
+    public float getCellCenterX(int cell) {
+        return (cell % columns) * tileSize + tileSize * 0.5f;
+    }
+
+    public float getCellCenterY(int cell) {
+        return (cell / columns) * tileSize + tileSize * 0.5f;
+    }
+
+    public int getTargetCell() {
+        return targetCell;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+}
@@ -0,0 +1,208 @@
+package nl.webser.scrum_escape.map;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.Disposable;
+
+import nl.webser.scrum_escape.AssetManager;
+
+/**
+ * MapStreamer laadt de kamers van een {@link WorldMap} in en uit rond de speler.
+ *
+ * 1. Kamers binnen {@code loadDistance} van de speler worden op de achtergrond geladen
+ *    via de AssetManager (het parsen van de kaart gebeurt niet op de render thread)
+ * 2. Geladen kamers staan in een LRU lijst; kamers in de buurt van de speler worden steeds vooraan gezet
+ * 3. Zijn er meer kamers geladen dan het budget toelaat, dan worden de langst niet gebruikte
+ *    kamers buiten bereik weer uitgeladen
+ *
+ * Zo blijft het geheugengebruik gelijk, hoe groot de wereld ook is.
+ * Voor botsingen gedraagt de streamer zich als één {@link CollisionMap} over de hele wereld.
+ */
+public class MapStreamer implements CollisionMap, Disposable {
+    public static final float DEFAULT_LOAD_DISTANCE = 320f;  // Pixels rond de speler
+    public static final int DEFAULT_ROOM_BUDGET = 4;         // Maximaal aantal geladen kamers
+
+    private final WorldMap world;
+    private final AssetManager assets;
+    private final float loadDistance;
+    private final int roomBudget;
+    // Access-order: de eerste entry is de kamer die het langst niet gebruikt is
+    private final LinkedHashMap<String, StreamedRoom> loadedRooms = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, WorldMap.Room> pendingRooms = new LinkedHashMap<>();
+    private final List<StreamedRoom> activeRooms = new ArrayList<>();
+    private RoomStreamListener listener;
+
+    public MapStreamer(WorldMap world, AssetManager assets) {
+        this(world, assets, DEFAULT_LOAD_DISTANCE, DEFAULT_ROOM_BUDGET);
+    }
+
+    /**
+     * @param world De wereld om te streamen
+     * @param assets De AssetManager die de kaarten laadt
+     * @param loadDistance Afstand tot een kamer waarbinnen deze geladen wordt
+     * @param roomBudget Maximaal aantal kamers dat tegelijk geladen mag zijn
+     */
+    public MapStreamer(WorldMap world, AssetManager assets, float loadDistance, int roomBudget) {
+        if (roomBudget < 1) {
+            throw new IllegalArgumentException("roomBudget moet minimaal 1 zijn");
+        }
+        this.world = world;
+        this.assets = assets;
+        this.loadDistance = loadDistance;
+        this.roomBudget = roomBudget;
+    }
+
+    public void setListener(RoomStreamListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Laadt direct (blokkerend) de kamer op de gegeven positie.
+     * Bedoeld voor de startpositie, zodat de speler niet in een lege wereld begint.
+     */
+    public void loadRoomAt(float x, float y) {
+        WorldMap.Room room = world.roomAt(x, y);
+        if (room == null || loadedRooms.containsKey(room.getFileName())) {
+            return;
+        }
+        assets.loadTiledMapAsync(room.getFileName());
+        assets.finishLoadingAsset(room.getFileName());
+        pendingRooms.remove(room.getFileName());
+        activate(room);
+    }
+
+    /**
+     * Werkt het streamen bij. Wordt elke frame aangeroepen met de positie van de speler.
+     */
+    public void update(float playerX, float playerY) {
+        assets.update();
+
+        // Kamers die klaar zijn met laden activeren
+        Iterator<WorldMap.Room> pending = pendingRooms.values().iterator();
+        while (pending.hasNext()) {
+            WorldMap.Room room = pending.next();
+            if (assets.isLoaded(room.getFileName())) {
+                pending.remove();
+                activate(room);
+            }
+        }
+
+        // Kamers in de buurt aanvragen of als recent gebruikt markeren
+        List<WorldMap.Room> rooms = world.getRooms();
+        for (int i = 0; i < rooms.size(); i++) {
+            WorldMap.Room room = rooms.get(i);
+            if (room.distanceTo(playerX, playerY) > loadDistance) {
+                continue;
+            }
+            String fileName = room.getFileName();
+            if (loadedRooms.get(fileName) == null && !pendingRooms.containsKey(fileName)) {
+                assets.loadTiledMapAsync(fileName);
+                pendingRooms.put(fileName, room);
+            }
+        }
+
+        evict(playerX, playerY);
+    }
+
+    /**
+     * Laadt de langst niet gebruikte kamers uit totdat het budget weer klopt.
+     * Kamers binnen bereik van de speler blijven altijd geladen.
+     */
+    private void evict(float playerX, float playerY) {
+        if (loadedRooms.size() <= roomBudget) {
+            return;
+        }
+        Iterator<StreamedRoom> eldest = loadedRooms.values().iterator();
+        while (loadedRooms.size() > roomBudget && eldest.hasNext()) {
+            StreamedRoom room = eldest.next();
+            if (room.getRoom().distanceTo(playerX, playerY) <= loadDistance) {
+                continue;
+            }
+            eldest.remove();
+            deactivate(room);
+        }
+    }
+
+    private void activate(WorldMap.Room room) {
+        StreamedRoom streamed = new StreamedRoom(room, assets.getTiledMap(room.getFileName()));
+        loadedRooms.put(room.getFileName(), streamed);
+        activeRooms.add(streamed);
+        if (listener != null) {
+            listener.onRoomLoaded(streamed);
+        }
+    }
+
+    private void deactivate(StreamedRoom room) {
+        activeRooms.remove(room);
+        if (listener != null) {
+            listener.onRoomUnloaded(room);
+        }
+        room.dispose();
+        assets.unload(room.getFileName());
+    }
+
+    /**
+     * Tekent alle geladen kamers die in beeld zijn.
+     */
+    public void render(OrthographicCamera camera) {
+        for (int i = 0; i < activeRooms.size(); i++) {
+            activeRooms.get(i).render(camera);
+        }
+    }
+
+    /**
+     * Een positie is geblokkeerd als de kamer eromheen dat zegt,
+     * of als daar (nog) geen geladen kamer ligt.
+     */
+    @Override
+    public boolean isBlocked(float x, float y) {
+        for (int i = 0; i < activeRooms.size(); i++) {
+            StreamedRoom room = activeRooms.get(i);
+            if (room.contains(x, y)) {
+                return room.isBlocked(x, y);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public float getWidth() {
+        return world.getWidth();
+    }
+
+    @Override
+    public float getHeight() {
+        return world.getHeight();
+    }
+
+    /**
+     * Geeft het aantal kamers dat op dit moment geladen is.
+     */
+    public int getLoadedRoomCount() {
+        return activeRooms.size();
+    }
+
+    public WorldMap getWorld() {
+        return world;
+    }
+
+    /**
+     * Laadt alle kamers uit.
+     */
+    @Override
+    public void dispose() {
+        for (StreamedRoom room : new ArrayList<>(activeRooms)) {
+            deactivate(room);
+        }
+        loadedRooms.clear();
+        for (String fileName : pendingRooms.keySet()) {
+            assets.unload(fileName);
+        }
+        pendingRooms.clear();
+    }
+}
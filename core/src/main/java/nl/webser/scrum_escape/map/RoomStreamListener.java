@@ -0,0 +1,17 @@
+package nl.webser.scrum_escape.map;
+
+/**
+ * Wordt op de hoogte gehouden wanneer kamers in- en uitgeladen worden,
+ * zodat de objecten uit die kamers (deuren, TIA objecten, boeken) mee kunnen komen en gaan.
+ */
+public interface RoomStreamListener {
+    /**
+     * Een kamer is geladen en klaar voor gebruik.
+     */
+    void onRoomLoaded(StreamedRoom room);
+
+    /**
+     * Een kamer wordt uit het geheugen verwijderd. Na deze aanroep is de kaart niet meer bruikbaar.
+     */
+    void onRoomUnloaded(StreamedRoom room);
+}
@@ -0,0 +1,84 @@
+package nl.webser.scrum_escape.map;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Een kamer die door de {@link MapStreamer} in het geheugen is geladen:
+ * de kaart zelf, de voorgebakken tiles en de botsingsinformatie.
+ */
+public class StreamedRoom implements Disposable {
+    private final WorldMap.Room room;
+    private final TiledMap map;
+    private final ChunkedMapRenderer renderer;
+    private final TiledCollisionMap collisionMap;
+
+    StreamedRoom(WorldMap.Room room, TiledMap map) {
+        this.room = room;
+        this.map = map;
+        this.renderer = new ChunkedMapRenderer(map, ChunkedMapRenderer.DEFAULT_CHUNK_SIZE, room.getX(), room.getY());
+        this.collisionMap = new TiledCollisionMap(map, room.getX(), room.getY());
+    }
+
+    /**
+     * Tekent de kamer als deze in beeld is.
+     */
+    void render(OrthographicCamera camera) {
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        float viewX = camera.position.x - viewWidth / 2f;
+        float viewY = camera.position.y - viewHeight / 2f;
+        if (viewX > room.getX() + room.getWidth() || viewX + viewWidth < room.getX()
+            || viewY > room.getY() + room.getHeight() || viewY + viewHeight < room.getY()) {
+            return;
+        }
+        renderer.setView(camera);
+        renderer.render();
+    }
+
+    boolean isBlocked(float x, float y) {
+        return collisionMap.isBlocked(x, y);
+    }
+
+    /**
+     * Controleert of een wereldpositie binnen deze kamer ligt.
+     */
+    public boolean contains(float x, float y) {
+        return room.contains(x, y);
+    }
+
+    public TiledMap getMap() {
+        return map;
+    }
+
+    public String getFileName() {
+        return room.getFileName();
+    }
+
+    /**
+     * X-positie van de kamer in de wereld; objecten uit de kaart moeten hiermee verschoven worden.
+     */
+    public float getOffsetX() {
+        return room.getX();
+    }
+
+    /**
+     * Y-positie van de kamer in de wereld; objecten uit de kaart moeten hiermee verschoven worden.
+     */
+    public float getOffsetY() {
+        return room.getY();
+    }
+
+    WorldMap.Room getRoom() {
+        return room;
+    }
+
+    /**
+     * Ruimt de voorgebakken tiles op. De kaart zelf wordt door de AssetManager beheerd.
+     */
+    @Override
+    public void dispose() {
+        renderer.dispose();
+    }
+}
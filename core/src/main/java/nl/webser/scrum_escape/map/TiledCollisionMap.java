@@ -0,0 +1,61 @@
+package nl.webser.scrum_escape.map;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+/**
+ * CollisionMap op basis van de "Base" laag van één Tiled kaart.
+ * Tiles met de property {@code blocked = true} zijn niet begaanbaar.
+ */
+public class TiledCollisionMap implements CollisionMap {
+    public static final String COLLISION_LAYER = "Base";
+
+    private final TiledMapTileLayer collisionLayer;
+    private final float offsetX;
+    private final float offsetY;
+
+    public TiledCollisionMap(TiledMap map) {
+        this(map, 0f, 0f);
+    }
+
+    /**
+     * @param map De kaart met een "Base" laag
+     * @param offsetX X-positie van de kaart in de wereld
+     * @param offsetY Y-positie van de kaart in de wereld
+     */
+    public TiledCollisionMap(TiledMap map, float offsetX, float offsetY) {
+        this.collisionLayer = (TiledMapTileLayer) map.getLayers().get(COLLISION_LAYER);
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+
+    @Override
+    public boolean isBlocked(float x, float y) {
+        float localX = x - offsetX;
+        float localY = y - offsetY;
+        if (localX < 0 || localY < 0 || localX >= getWidth() || localY >= getHeight()) {
+            return true;
+        }
+        if (collisionLayer == null) {
+            return false;
+        }
+        int tileX = (int) (localX / collisionLayer.getTileWidth());
+        int tileY = (int) (localY / collisionLayer.getTileHeight());
+        TiledMapTileLayer.Cell cell = collisionLayer.getCell(tileX, tileY);
+        if (cell != null && cell.getTile() != null) {
+            Object blocked = cell.getTile().getProperties().get("blocked");
+            return blocked instanceof Boolean && (Boolean) blocked;
+        }
+        return false;
+    }
+
+    @Override
+    public float getWidth() {
+        return collisionLayer == null ? 0f : collisionLayer.getWidth() * collisionLayer.getTileWidth();
+    }
+
+    @Override
+    public float getHeight() {
+        return collisionLayer == null ? 0f : collisionLayer.getHeight() * collisionLayer.getTileHeight();
+    }
+}
@@ -0,0 +1,156 @@
+package nl.webser.scrum_escape.map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * WorldMap beschrijft een wereld die uit meerdere kamers (losse .tmx kaarten) bestaat.
+ *
+ * De indeling wordt gelezen uit een Tiled {@code .world} bestand, zodat level designers
+ * de kamers gewoon in Tiled naast elkaar kunnen leggen. Tiled telt de y-as van boven
+ * naar beneden; hier wordt dat omgezet naar de y-as van libGDX (van onder naar boven).
+ */
+public class WorldMap {
+    private final List<Room> rooms;
+    private final float width;
+    private final float height;
+
+    private WorldMap(List<Room> rooms, float width, float height) {
+        this.rooms = Collections.unmodifiableList(rooms);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Leest een Tiled .world bestand uit de assets.
+     *
+     * @param worldFile Bestandsnaam van de wereld, bijvoorbeeld "scrum.world"
+     * @return De ingelezen wereld
+     */
+    public static WorldMap load(String worldFile) {
+        FileHandle file = Gdx.files.internal(worldFile);
+        JsonValue root = new JsonReader().parse(file);
+        JsonValue maps = root.get("maps");
+        if (maps == null || maps.size == 0) {
+            throw new IllegalArgumentException("Wereld " + worldFile + " bevat geen kaarten");
+        }
+
+        // Eerst de totale hoogte bepalen, daarna de y-as omdraaien
+        float worldWidth = 0;
+        float worldHeight = 0;
+        for (JsonValue map : maps) {
+            worldWidth = Math.max(worldWidth, map.getFloat("x") + map.getFloat("width"));
+            worldHeight = Math.max(worldHeight, map.getFloat("y") + map.getFloat("height"));
+        }
+
+        String directory = file.parent().path();
+        List<Room> rooms = new ArrayList<>();
+        for (JsonValue map : maps) {
+            String fileName = map.getString("fileName");
+            if (!directory.isEmpty()) {
+                fileName = directory + "/" + fileName;
+            }
+            float roomHeight = map.getFloat("height");
+            rooms.add(new Room(
+                fileName,
+                map.getFloat("x"),
+                worldHeight - map.getFloat("y") - roomHeight,
+                map.getFloat("width"),
+                roomHeight
+            ));
+        }
+        return new WorldMap(rooms, worldWidth, worldHeight);
+    }
+
+    /**
+     * Maakt een wereld van één enkele kaart.
+     */
+    public static WorldMap single(String mapFile, float width, float height) {
+        List<Room> rooms = new ArrayList<>();
+        rooms.add(new Room(mapFile, 0, 0, width, height));
+        return new WorldMap(rooms, width, height);
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    /**
+     * Geeft de kamer op een wereldpositie, of null als daar geen kamer ligt.
+     */
+    public Room roomAt(float x, float y) {
+        for (int i = 0; i < rooms.size(); i++) {
+            Room room = rooms.get(i);
+            if (room.contains(x, y)) {
+                return room;
+            }
+        }
+        return null;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Eén kamer in de wereld: een kaartbestand met zijn positie en afmetingen.
+     */
+    public static class Room {
+        private final String fileName;
+        private final float x;
+        private final float y;
+        private final float width;
+        private final float height;
+
+        public Room(String fileName, float x, float y, float width, float height) {
+            this.fileName = fileName;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public boolean contains(float px, float py) {
+            return px >= x && py >= y && px < x + width && py < y + height;
+        }
+
+        /**
+         * Afstand van een punt tot de rand van de kamer (0 als het punt erin ligt).
+         */
+        public float distanceTo(float px, float py) {
+            float dx = Math.max(Math.max(x - px, 0f), px - (x + width));
+            float dy = Math.max(Math.max(y - py, 0f), py - (y + height));
+            return (float) Math.sqrt(dx * dx + dy * dy);
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        public float getWidth() {
+            return width;
+        }
+
+        public float getHeight() {
+            return height;
+        }
+    }
+}
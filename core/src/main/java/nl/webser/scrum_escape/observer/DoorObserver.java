@@ -1,5 +0,0 @@
-package nl.webser.scrum_escape.observer;
-
-public interface DoorObserver {
-    void onDoorOpened(String doorId);
-} 
\ No newline at end of file
@@ -0,0 +1,155 @@
+package nl.webser.scrum_escape.observer;
+
+import java.util.Arrays;
+
+/**
+ * EventBus verspreidt spelgebeurtenissen naar alle geïnteresseerde observers
+ * (geluid, HUD, monster, statistieken, ...).
+ *
+ * Per {@link GameEvent} type wordt een vaste array met listeners bijgehouden.
+ * Alleen bij het (af)melden wordt een nieuwe array gemaakt; het versturen zelf
+ * loopt met een simpele index over die array en maakt geen objecten aan.
+ * Omdat aanmelden copy-on-write werkt, mag een listener zich tijdens het
+ * afleveren veilig aan- of afmelden.
+ *
+ * Gebeurtenissen kunnen direct worden afgeleverd met {@link #publish} of in een
+ * wachtrij worden gezet met {@link #post}. De wachtrij wordt aan het einde van
+ * een frame geleegd met {@link #flush()}.
+ */
+public class EventBus {
+    private static final int DEFAULT_QUEUE_CAPACITY = 32;
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    private final GameEventListener[][] listeners;
+
+    // Ringbuffer voor uitgestelde gebeurtenissen, als losse arrays per veld
+    private GameEvent[] queuedEvents;
+    private String[] queuedSubjects;
+    private int[] queuedValues;
+    private int queueHead;
+    private int queueSize;
+
+    public EventBus() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param queueCapacity Startcapaciteit van de wachtrij voor uitgestelde gebeurtenissen
+     */
+    public EventBus(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity moet minimaal 1 zijn");
+        }
+        listeners = new GameEventListener[GameEvent.values().length][];
+        Arrays.fill(listeners, NO_LISTENERS);
+        queuedEvents = new GameEvent[queueCapacity];
+        queuedSubjects = new String[queueCapacity];
+        queuedValues = new int[queueCapacity];
+    }
+
+    /**
+     * Meldt een listener aan voor één type gebeurtenis.
+     * Dezelfde listener kan voor meerdere types worden aangemeld.
+     */
+    public void subscribe(GameEvent event, GameEventListener listener) {
+        GameEventListener[] current = listeners[event.ordinal()];
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[event.ordinal()] = updated;
+    }
+
+    /**
+     * Meldt een listener af voor één type gebeurtenis.
+     */
+    public void unsubscribe(GameEvent event, GameEventListener listener) {
+        GameEventListener[] current = listeners[event.ordinal()];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners[event.ordinal()] = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Levert een gebeurtenis direct af bij alle aangemelde listeners.
+     */
+    public void publish(GameEvent event, String subjectId, int value) {
+        GameEventListener[] targets = listeners[event.ordinal()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i].onEvent(event, subjectId, value);
+        }
+    }
+
+    /**
+     * Zet een gebeurtenis in de wachtrij. Deze wordt afgeleverd bij de
+     * volgende aanroep van {@link #flush()}.
+     */
+    public void post(GameEvent event, String subjectId, int value) {
+        if (queueSize == queuedEvents.length) {
+            growQueue();
+        }
+        int index = (queueHead + queueSize) % queuedEvents.length;
+        queuedEvents[index] = event;
+        queuedSubjects[index] = subjectId;
+        queuedValues[index] = value;
+        queueSize++;
+    }
+
+    /**
+     * Levert alle gebeurtenissen in de wachtrij af, in volgorde van versturen.
+     * Gebeurtenissen die tijdens het afleveren worden gepost, komen pas bij de
+     * volgende flush aan de beurt zodat een frame nooit blijft hangen.
+     */
+    public void flush() {
+        int pending = queueSize;
+        for (int i = 0; i < pending; i++) {
+            GameEvent event = queuedEvents[queueHead];
+            String subjectId = queuedSubjects[queueHead];
+            int value = queuedValues[queueHead];
+            queuedEvents[queueHead] = null;
+            queuedSubjects[queueHead] = null;
+            queueHead = (queueHead + 1) % queuedEvents.length;
+            queueSize--;
+            publish(event, subjectId, value);
+        }
+    }
+
+    /**
+     * Geeft het aantal gebeurtenissen dat nog in de wachtrij staat.
+     */
+    public int getPendingCount() {
+        return queueSize;
+    }
+
+    /**
+     * Verwijdert alle listeners en gooit de wachtrij leeg.
+     */
+    public void clear() {
+        Arrays.fill(listeners, NO_LISTENERS);
+        Arrays.fill(queuedEvents, null);
+        Arrays.fill(queuedSubjects, null);
+        queueHead = 0;
+        queueSize = 0;
+    }
+
+    private void growQueue() {
+        int capacity = queuedEvents.length;
+        GameEvent[] events = new GameEvent[capacity * 2];
+        String[] subjects = new String[capacity * 2];
+        int[] values = new int[capacity * 2];
+        for (int i = 0; i < queueSize; i++) {
+            int index = (queueHead + i) % capacity;
+            events[i] = queuedEvents[index];
+            subjects[i] = queuedSubjects[index];
+            values[i] = queuedValues[index];
+        }
+        queuedEvents = events;
+        queuedSubjects = subjects;
+        queuedValues = values;
+        queueHead = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package nl.webser.scrum_escape.observer;
+
+/**
+ * Alle soorten gebeurtenissen die via de {@link EventBus} verstuurd kunnen worden.
+ * De ordinal van elk type wordt gebruikt als index in de dispatch tabel van de bus,
+ * dus nieuwe types kunnen gewoon onderaan worden toegevoegd.
+ */
+public enum GameEvent {
+    /** Een deur is geopend. Subject: deur ID. */
+    DOOR_OPENED,
+    /** Een vraag is goed beantwoord. Subject: vraag ID. */
+    ANSWER_CORRECT,
+    /** Een vraag is fout beantwoord. Subject: vraag ID, waarde: aantal eerdere fouten. */
+    ANSWER_WRONG,
+    /** Een TIA object is gevonden. Waarde: TIA type (1=T, 2=I, 3=A). */
+    TIA_FOUND,
+    /** Een joker is ingezet. Subject: vraag ID waarvoor de joker is gebruikt. */
+    JOKER_USED,
+    /** De speler heeft verloren. */
+    GAME_OVER,
+    /** Alle finale vragen zijn goed beantwoord. */
+    GAME_COMPLETED
+}
@@ -0,0 +1,17 @@
+package nl.webser.scrum_escape.observer;
+
+/**
+ * Observer voor gebeurtenissen op de {@link EventBus}.
+ * De gegevens worden als losse parameters doorgegeven zodat er per
+ * gebeurtenis geen event object aangemaakt hoeft te worden.
+ */
+public interface GameEventListener {
+    /**
+     * Wordt aangeroepen wanneer een gebeurtenis wordt afgeleverd.
+     *
+     * @param event Het type gebeurtenis
+     * @param subjectId ID van het betrokken object (deur, vraag), of null
+     * @param value Extra waarde bij de gebeurtenis, of 0
+     */
+    void onEvent(GameEvent event, String subjectId, int value);
+}
@@ -1,18 +0,0 @@
-package nl.webser.scrum_escape.observer;
-
-import java.util.ArrayList;
-import java.util.List;
-
-public class Observable {
-    private List<Observer> observers = new ArrayList<>();
-
-    public void addObserver(Observer observer) {
-        observers.add(observer);
-    }
-
-    public void notifyObservers() {
-        for (Observer observer : observers) {
-            observer.onIncorrectAnswer();
-        }
-    }
-}
\ No newline at end of file
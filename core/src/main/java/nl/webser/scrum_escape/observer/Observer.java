@@ -1,5 +0,0 @@
-package nl.webser.scrum_escape.observer;
-
-public interface Observer {
-    void onIncorrectAnswer();
-}
\ No newline at end of file
@@ -19,6 +19,8 @@ public class MultipleChoiceStrategy implements QuestionStrategy {
     private final String[] options;     // Mogelijke antwoorden
     private final int correctOption;    // Index van het juiste antwoord (begint bij 0)
     private final String doorId;        // ID van de deur waar deze vraag bij hoort
+    private final String topic;         // Onderwerp, voor het adaptieve model
+    private final int difficulty;       // 1 (makkelijk) tot 3 (moeilijk)
 
     /**
      * Maakt een nieuwe meerkeuzevraag aan.
@@ -30,7 +32,20 @@ public class MultipleChoiceStrategy implements QuestionStrategy {
      * @param doorId ID van de deur waar deze vraag bij hoort
      */
     public MultipleChoiceStrategy(String questionId, String question, String[] options, int correctOption, String doorId) {
+        this(questionId, questionId, 2, question, options, correctOption, doorId);
+    }
+
+    /**
+     * Maakt een nieuwe meerkeuzevraag aan met een onderwerp en moeilijkheid.
+     *
+     * @param topic Onderwerp van de vraag, bijvoorbeeld "events"
+     * @param difficulty Moeilijkheid van 1 (makkelijk) tot 3 (moeilijk)
+     */
+    public MultipleChoiceStrategy(String questionId, String topic, int difficulty, String question, String[] options,
+                                  int correctOption, String doorId) {
         this.questionId = questionId;
+        this.topic = topic;
+        this.difficulty = difficulty;
         this.question = question;
         this.options = options;
         this.correctOption = correctOption;
@@ -74,18 +89,29 @@ public class MultipleChoiceStrategy implements QuestionStrategy {
         return questionId;
     }
 
+    public String getDoorId() {
+        return doorId;
+    }
+
+    @Override
+    public String getTopic() {
+        return topic;
+    }
+
+    @Override
+    public int getDifficulty() {
+        return difficulty;
+    }
+
     /**
      * Wordt aangeroepen wanneer de speler een correct antwoord geeft.
-     * Dit zorgt ervoor dat:
-     * 1. De score wordt verhoogd
-     * 2. De vraag wordt gemarkeerd als beantwoord
-     * 3. De bijbehorende deur wordt geopend
+     * Dit markeert de vraag als beantwoord. De punten gaan naar de speler
+     * die antwoordde en de deur gaat open via zijn script; dat regelt het
+     * spelscherm, want alleen dat weet wie er antwoordde.
      */
     @Override
     public void onCorrectAnswer() {
-        GameState.getInstance().addScore(10);
         GameState.getInstance().markQuestionAnswered(questionId);
-        GameState.getInstance().markDoorOpened(doorId);
     }
 
     /**
@@ -0,0 +1,96 @@
+package nl.webser.scrum_escape.questions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import nl.webser.scrum_escape.hints.HintTier;
+
+/**
+ * Houdt per onderwerp bij hoe goed een speler de stof beheerst, en kiest
+ * daarmee de moeilijkheid van vragen en hoeveel een hint weggeeft.
+ *
+ * De beheersing is een voortschrijdend gemiddelde tussen 0 en 1. Elk antwoord
+ * schuift het gemiddelde van één onderwerp een stukje op, dus bijwerken en
+ * opvragen kosten altijd evenveel, hoe lang er ook gespeeld wordt. Onderwerpen
+ * krijgen bij het eerste gebruik een vast nummer in de array.
+ */
+public class PlayerModel {
+    private static final float START_MASTERY = 0.5f;
+    private static final float LEARNING_RATE = 0.3f;     // Gewicht van het nieuwste antwoord
+    private static final float STRUGGLING = 0.35f;       // Hieronder: makkelijker en meer hulp
+    private static final float MASTERED = 0.75f;         // Hierboven: moeilijkere vragen
+    private static final float FAILED_PENALTY = 0.3f;    // Minder beheersing per eerdere fout
+    private static final float HINT_PENALTY = 0.15f;     // Minder beheersing per hinttrede
+
+    private final Map<String, Integer> topicIndex = new HashMap<>();
+    private float[] mastery = new float[8];
+
+    /**
+     * Beheersing van een onderwerp, van 0 (niets) tot 1 (alles goed).
+     */
+    public float getMastery(String topic) {
+        Integer index = topicIndex.get(topic);
+        return index != null ? mastery[index] : START_MASTERY;
+    }
+
+    /**
+     * Verwerkt een antwoord. Een goed antwoord na fouten of met een hint telt minder zwaar.
+     *
+     * @param hintUsed De zwaarste hint die bij deze vraag is gebruikt, of null
+     */
+    public void recordAnswer(String topic, boolean correct, int failedAttempts, HintTier hintUsed) {
+        float outcome = 0f;
+        if (correct) {
+            outcome = 1f - failedAttempts * FAILED_PENALTY;
+            if (hintUsed != null) {
+                outcome -= (hintUsed.ordinal() + 1) * HINT_PENALTY;
+            }
+            outcome = Math.max(0f, outcome);
+        }
+        int index = indexOf(topic);
+        mastery[index] += LEARNING_RATE * (outcome - mastery[index]);
+    }
+
+    /**
+     * Moeilijkheid voor de volgende vraag over een onderwerp (1 tot 3).
+     */
+    public int chooseDifficulty(String topic) {
+        float value = getMastery(topic);
+        if (value < STRUGGLING) {
+            return QuestionCatalogue.MIN_DIFFICULTY;
+        }
+        return value > MASTERED ? QuestionCatalogue.MAX_DIFFICULTY : 2;
+    }
+
+    /**
+     * Hinttrede voor een vraag. Elke fout maakt een trede vrij; wie moeite heeft
+     * met het onderwerp krijgt er één extra.
+     */
+    public HintTier chooseHintTier(String topic, int failedAttempts) {
+        int level = failedAttempts;
+        if (getMastery(topic) < STRUGGLING) {
+            level++;
+        }
+        return HintTier.fromLevel(level);
+    }
+
+    /**
+     * Vergeet alles wat over de speler bekend is.
+     */
+    public void reset() {
+        topicIndex.clear();
+    }
+
+    private int indexOf(String topic) {
+        Integer index = topicIndex.get(topic);
+        if (index == null) {
+            index = topicIndex.size();
+            if (index == mastery.length) {
+                mastery = Arrays.copyOf(mastery, mastery.length * 2);
+            }
+            mastery[index] = START_MASTERY;
+            topicIndex.put(topic, index);
+        }
+        return index;
+    }
+}
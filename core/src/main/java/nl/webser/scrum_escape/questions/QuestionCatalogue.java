@@ -0,0 +1,273 @@
+package nl.webser.scrum_escape.questions;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Een onveranderlijke versie van alle vragen.
+ *
+ * Een catalogus wordt in zijn geheel opgebouwd en daarna nooit meer aangepast.
+ * Zo kan de {@link QuestionManager} een nieuwe versie op een andere thread maken
+ * en in één keer omwisselen, terwijl een lopend spel gewoon met zijn eigen
+ * versie doorspeelt.
+ *
+ * Een vraag kan varianten van een andere moeilijkheid hebben. Een deur vraagt
+ * dan met {@link #selectQuestion} de variant die het best past bij de speler.
+ */
+public final class QuestionCatalogue {
+    /** Onderwerp van de finale vragen. */
+    public static final String FINAL_TOPIC = "pillars";
+    public static final int MIN_DIFFICULTY = 1;
+    public static final int MAX_DIFFICULTY = 3;
+
+    private final int version;
+    private final Map<String, QuestionStrategy> questions;
+    private final QuestionStrategy[] finalQuestions;
+    private final Map<String, QuestionStrategy[]> variants;  // Basisvraag -> varianten per moeilijkheid
+    private final Map<String, String> baseIds;               // Variant -> basisvraag
+
+    private QuestionCatalogue(int version, Map<String, QuestionStrategy> questions, List<QuestionStrategy> finalQuestions,
+                              Map<String, QuestionStrategy[]> variants, Map<String, String> baseIds) {
+        this.version = version;
+        this.questions = Collections.unmodifiableMap(new HashMap<>(questions));
+        this.finalQuestions = finalQuestions.toArray(new QuestionStrategy[0]);
+        this.variants = Collections.unmodifiableMap(new HashMap<>(variants));
+        this.baseIds = Collections.unmodifiableMap(new HashMap<>(baseIds));
+    }
+
+    /**
+     * Geeft een vraag terug op basis van zijn ID, of null als deze niet bestaat.
+     */
+    public QuestionStrategy getQuestion(String questionId) {
+        return questions.get(questionId);
+    }
+
+    /**
+     * Kiest tussen een vraag en zijn varianten de moeilijkheid die het dichtst bij
+     * de gevraagde ligt; bij gelijke afstand de makkelijkere. Heeft de vraag geen
+     * varianten, dan is het gewoon {@link #getQuestion}.
+     */
+    public QuestionStrategy selectQuestion(String questionId, int difficulty) {
+        QuestionStrategy[] byDifficulty = variants.get(questionId);
+        if (byDifficulty == null) {
+            return questions.get(questionId);
+        }
+        int wanted = Math.max(MIN_DIFFICULTY, Math.min(MAX_DIFFICULTY, difficulty)) - MIN_DIFFICULTY;
+        for (int distance = 0; distance < byDifficulty.length; distance++) {
+            if (wanted - distance >= 0 && byDifficulty[wanted - distance] != null) {
+                return byDifficulty[wanted - distance];
+            }
+            if (wanted + distance < byDifficulty.length && byDifficulty[wanted + distance] != null) {
+                return byDifficulty[wanted + distance];
+            }
+        }
+        return questions.get(questionId);
+    }
+
+    /**
+     * Geeft de basisvraag van een variant, of het ID zelf als het geen variant is.
+     */
+    public String getBaseId(String questionId) {
+        return baseIds.getOrDefault(questionId, questionId);
+    }
+
+    public boolean hasQuestion(String questionId) {
+        return questions.containsKey(questionId);
+    }
+
+    /**
+     * Geeft de ID's van alle gewone vragen, inclusief varianten.
+     */
+    public Set<String> getQuestionIds() {
+        return questions.keySet();
+    }
+
+    /**
+     * Geeft een finale vraag terug, of null als de index niet bestaat.
+     */
+    public QuestionStrategy getFinalQuestion(int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= finalQuestions.length) {
+            return null;
+        }
+        return finalQuestions[questionIndex];
+    }
+
+    public int getFinalQuestionCount() {
+        return finalQuestions.length;
+    }
+
+    /**
+     * Versienummer van de catalogus; wordt bij elke nieuwe versie opgehoogd.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Leest een catalogus uit JSON:
+     * <pre>
+     * {
+     *   "questions": [
+     *     { "id": "sprint1", "topic": "events", "difficulty": 2,
+     *       "question": "...", "options": ["..."], "correct": 0, "door": "door1" },
+     *     { "id": "sprint1_easy", "variantOf": "sprint1", "difficulty": 1,
+     *       "question": "...", "options": ["..."], "correct": 0 }
+     *   ],
+     *   "final": [
+     *     { "question": "...", "options": ["..."], "correct": 0 }
+     *   ]
+     * }
+     * </pre>
+     * Een variant krijgt het onderwerp en de deur van zijn basisvraag. Zonder
+     * "topic" is het onderwerp het ID van de vraag; zonder "difficulty" is de
+     * moeilijkheid 2.
+     *
+     * @throws IllegalArgumentException als de inhoud niet klopt
+     */
+    public static QuestionCatalogue parse(String json, int version) {
+        JsonValue root;
+        try {
+            root = new JsonReader().parse(json);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Vragenbestand is geen geldige JSON", e);
+        }
+        if (root == null) {
+            throw new IllegalArgumentException("Vragenbestand is leeg");
+        }
+
+        Builder builder = new Builder();
+        JsonValue list = root.get("questions");
+        for (JsonValue entry = list == null ? null : list.child; entry != null; entry = entry.next) {
+            String id = entry.getString("id");
+            String variantOf = entry.getString("variantOf", null);
+            if (variantOf != null) {
+                builder.addVariant(
+                    variantOf,
+                    id,
+                    entry.getInt("difficulty", 2),
+                    entry.getString("question"),
+                    entry.get("options").asStringArray(),
+                    entry.getInt("correct"));
+            } else {
+                builder.addQuestion(
+                    id,
+                    entry.getString("topic", id),
+                    entry.getInt("difficulty", 2),
+                    entry.getString("question"),
+                    entry.get("options").asStringArray(),
+                    entry.getInt("correct"),
+                    entry.getString("door", ""));
+            }
+        }
+        JsonValue finals = root.get("final");
+        for (JsonValue entry = finals == null ? null : finals.child; entry != null; entry = entry.next) {
+            builder.addFinalQuestion(
+                entry.getString("question"),
+                entry.get("options").asStringArray(),
+                entry.getInt("correct", 0));
+        }
+        return builder.build(version);
+    }
+
+    /**
+     * Bouwt een catalogus op. Een builder is niet thread-safe; de catalogus die
+     * hij oplevert wel.
+     */
+    public static final class Builder {
+        private final Map<String, QuestionStrategy> questions = new HashMap<>();
+        private final List<QuestionStrategy> finalQuestions = new ArrayList<>();
+        private final Map<String, String> baseIds = new HashMap<>();
+        private final List<Variant> pendingVariants = new ArrayList<>();  // Pas bij build() compleet
+
+        public Builder addQuestion(String id, String question, String[] options, int correctOption, String doorId) {
+            return addQuestion(id, id, 2, question, options, correctOption, doorId);
+        }
+
+        public Builder addQuestion(String id, String topic, int difficulty, String question, String[] options,
+                                   int correctOption, String doorId) {
+            validate(question, options, correctOption, difficulty);
+            questions.put(id, new MultipleChoiceStrategy(id, topic, difficulty, question, options.clone(), correctOption, doorId));
+            return this;
+        }
+
+        /**
+         * Voegt een variant van een andere vraag toe. De basisvraag mag ook later
+         * worden toegevoegd; bij {@link #build} moet hij bestaan.
+         */
+        public Builder addVariant(String baseId, String id, int difficulty, String question, String[] options,
+                                  int correctOption) {
+            validate(question, options, correctOption, difficulty);
+            baseIds.put(id, baseId);
+            pendingVariants.add(new Variant(baseId, id, difficulty, question, options.clone(), correctOption));
+            return this;
+        }
+
+        public Builder addFinalQuestion(String question, String[] options, int correctOption) {
+            validate(question, options, correctOption, MAX_DIFFICULTY);
+            String id = "final" + finalQuestions.size();
+            finalQuestions.add(new MultipleChoiceStrategy(id, FINAL_TOPIC, MAX_DIFFICULTY, question, options.clone(),
+                correctOption, "door6"));
+            return this;
+        }
+
+        public QuestionCatalogue build(int version) {
+            Map<String, QuestionStrategy> all = new HashMap<>(questions);
+            Map<String, QuestionStrategy[]> variants = new HashMap<>();
+            for (Variant pending : pendingVariants) {
+                QuestionStrategy base = questions.get(pending.baseId);
+                if (!(base instanceof MultipleChoiceStrategy)) {
+                    throw new IllegalArgumentException("Variant " + pending.id + " hoort bij onbekende vraag " + pending.baseId);
+                }
+                QuestionStrategy variant = new MultipleChoiceStrategy(pending.id, base.getTopic(), pending.difficulty,
+                    pending.question, pending.options, pending.correctOption, ((MultipleChoiceStrategy) base).getDoorId());
+
+                QuestionStrategy[] byDifficulty = variants.get(pending.baseId);
+                if (byDifficulty == null) {
+                    byDifficulty = new QuestionStrategy[MAX_DIFFICULTY - MIN_DIFFICULTY + 1];
+                    byDifficulty[base.getDifficulty() - MIN_DIFFICULTY] = base;
+                    variants.put(pending.baseId, byDifficulty);
+                }
+                if (byDifficulty[pending.difficulty - MIN_DIFFICULTY] != null) {
+                    throw new IllegalArgumentException("Vraag " + pending.baseId + " heeft al een variant met moeilijkheid "
+                        + pending.difficulty);
+                }
+                byDifficulty[pending.difficulty - MIN_DIFFICULTY] = variant;
+                all.put(pending.id, variant);
+            }
+            return new QuestionCatalogue(version, all, finalQuestions, variants, baseIds);
+        }
+
+        private static void validate(String question, String[] options, int correctOption, int difficulty) {
+            if (correctOption < 0 || correctOption >= options.length) {
+                throw new IllegalArgumentException("Juiste antwoord " + correctOption + " bestaat niet bij: " + question);
+            }
+            if (difficulty < MIN_DIFFICULTY || difficulty > MAX_DIFFICULTY) {
+                throw new IllegalArgumentException("Moeilijkheid " + difficulty + " bestaat niet bij: " + question);
+            }
+        }
+
+        private static final class Variant {
+            final String baseId;
+            final String id;
+            final int difficulty;
+            final String question;
+            final String[] options;
+            final int correctOption;
+
+            Variant(String baseId, String id, int difficulty, String question, String[] options, int correctOption) {
+                this.baseId = baseId;
+                this.id = id;
+                this.difficulty = difficulty;
+                this.question = question;
+                this.options = options;
+                this.correctOption = correctOption;
+            }
+        }
+    }
+}
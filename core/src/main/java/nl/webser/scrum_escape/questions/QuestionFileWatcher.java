@@ -0,0 +1,86 @@
+package nl.webser.scrum_escape.questions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Houdt het vragenbestand in de gaten en bouwt bij elke wijziging een nieuwe
+ * {@link QuestionCatalogue} op een eigen thread. Een bestand dat niet klopt
+ * wordt genegeerd; de vorige versie blijft dan actief.
+ */
+class QuestionFileWatcher implements Runnable {
+    // Editors schrijven een bestand vaak in meerdere stappen; wacht tot ze klaar zijn
+    private static final long SETTLE_MILLIS = 200;
+
+    private final Path file;
+    private final QuestionManager manager;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    QuestionFileWatcher(Path file, QuestionManager manager) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.manager = manager;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this, "question-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void stop() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // Afsluiten mislukt; de thread is een daemon en stopt met het spel
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path && file.getFileName().equals(context)) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Watcher is gestopt
+        }
+    }
+
+    /**
+     * Leest het bestand en wisselt de catalogus om als alles klopt.
+     */
+    void reload() {
+        try {
+            String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            QuestionCatalogue catalogue = QuestionCatalogue.parse(json, manager.getCatalogue().getVersion() + 1);
+            manager.swap(catalogue);
+            System.out.println("Vragen bijgewerkt naar versie " + catalogue.getVersion());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Vragenbestand " + file + " niet geladen: " + e.getMessage());
+        }
+    }
+}
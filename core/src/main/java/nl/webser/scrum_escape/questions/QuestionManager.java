@@ -1,7 +1,8 @@
 package nl.webser.scrum_escape.questions;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import nl.webser.scrum_escape.GameState;
 
@@ -11,17 +12,27 @@ import nl.webser.scrum_escape.GameState;
  * één QuestionManager in het hele spel bestaat.
  * 
  * De QuestionManager:
- * 1. Bewaart alle vragen in een HashMap
+ * 1. Bewaart alle vragen in een onveranderlijke {@link QuestionCatalogue}
  * 2. Geeft vragen terug wanneer ze nodig zijn
  * 3. Controleert of vragen bestaan
  * 4. Beheert de finale vragen
+ * 5. Wisselt de catalogus om wanneer het vragenbestand verandert
+ *
+ * De catalogus staat achter een AtomicReference. Lezers op de render thread
+ * hoeven nooit te wachten en zien altijd een complete versie. Een spel pakt
+ * bij de start een eigen versie, zodat de vragen tijdens het spelen niet
+ * veranderen.
  */
 public class QuestionManager {
     // Singleton instance
     private static QuestionManager instance;
     
-    // HashMap die alle vragen opslaat, met de vraag ID als sleutel
-    private final Map<String, QuestionStrategy> questions;
+    /** Bestand waarmee het contentteam de ingebouwde vragen kan vervangen. */
+    public static final String CATALOGUE_FILE = "questions.json";
+
+    // De huidige versie van alle vragen
+    private final AtomicReference<QuestionCatalogue> catalogue;
+    private QuestionFileWatcher watcher;
 
     // Moeilijkere en inhoudelijkere TIA vragen
     private static final String[] FINAL_QUESTIONS = {
@@ -50,11 +61,16 @@ public class QuestionManager {
 
     /**
      * Private constructor voor het Singleton pattern.
-     * Initialiseert de HashMap en voegt alle vragen toe.
+     * Begint met de ingebouwde vragen.
      */
     private QuestionManager() {
-        questions = new HashMap<>();
-        initializeQuestions();
+        QuestionCatalogue.Builder builder = new QuestionCatalogue.Builder();
+        initializeQuestions(builder);
+        for (int i = 0; i < FINAL_QUESTIONS.length; i++) {
+            // Voor finale vragen is altijd het eerste antwoord correct
+            builder.addFinalQuestion(FINAL_QUESTIONS[i], FINAL_ANSWERS[i], 0);
+        }
+        catalogue = new AtomicReference<>(builder.build(1));
     }
 
     /**
@@ -74,14 +90,15 @@ public class QuestionManager {
      * Initialiseert alle vragen in het spel.
      * Elke vraag heeft:
      * - Een unieke ID
+     * - Een onderwerp en een moeilijkheid (1 tot 3)
      * - Een vraagtekst
      * - Antwoordopties
      * - Een index voor het juiste antwoord
      * - Een deur ID waar de vraag bij hoort
      */
-    private void initializeQuestions() {
+    private void initializeQuestions(QuestionCatalogue.Builder builder) {
         // Sprint 1 vragen
-        addQuestion("sprint1", "Wat is het belangrijkste doel van een Sprint Review?", 
+        builder.addQuestion("sprint1", "events", 2, "Wat is het belangrijkste doel van een Sprint Review?", 
             new String[]{
                 "Het product increment inspecteren en feedback verzamelen",
                 "De volgende sprint plannen",
@@ -90,7 +107,7 @@ public class QuestionManager {
             }, 0, "door1");
 
         // Sprint 2 vragen
-        addQuestion("sprint2", "Wie is verantwoordelijk voor het maximaliseren van de waarde van het product?", 
+        builder.addQuestion("sprint2", "roles", 1, "Wie is verantwoordelijk voor het maximaliseren van de waarde van het product?", 
             new String[]{
                 "De Scrum Master",
                 "De Stakeholders",
@@ -99,7 +116,7 @@ public class QuestionManager {
             }, 2, "door2");
 
         // Sprint 3 vragen
-        addQuestion("sprint3", "Wat is het doel van de Daily Scrum?", 
+        builder.addQuestion("sprint3", "events", 1, "Wat is het doel van de Daily Scrum?", 
             new String[]{
                 "De product backlog prioriteren",
                 "De voortgang bespreken en het plan voor de komende 24 uur aanpassen",
@@ -108,7 +125,7 @@ public class QuestionManager {
             }, 1, "door3");
 
         // Sprint 4 vragen
-        addQuestion("sprint4", "Wat is een kenmerk van een goed Scrum Team?", 
+        builder.addQuestion("sprint4", "roles", 2, "Wat is een kenmerk van een goed Scrum Team?", 
             new String[]{
                 "Het team werkt altijd overuren",
                 "Het team volgt alleen instructies van de manager",
@@ -117,26 +134,92 @@ public class QuestionManager {
             }, 2, "door4");
 
         // Sprint 5 vragen
-        addQuestion("sprint5", "Wat gebeurt er als het werk niet af is aan het einde van de sprint?", 
+        builder.addQuestion("sprint5", "artifacts", 2, "Wat gebeurt er als het werk niet af is aan het einde van de sprint?", 
             new String[]{
                 "Het werk wordt automatisch als af beschouwd",
                 "Het team werkt door tot het af is",
                 "De sprint wordt verlengd",
                 "Het werk wordt teruggezet naar de product backlog"
             }, 3, "door5");
+
+        // Retrospective kamer vragen
+        builder.addQuestion("retro1", "events", 1, "Wanneer vindt de Sprint Retrospective plaats?", 
+            new String[]{
+                "Aan het begin van de sprint",
+                "Na de Sprint Review en voor de volgende Sprint Planning",
+                "Elke ochtend na de Daily Scrum",
+                "Alleen als er problemen zijn"
+            }, 1, "door7");
+
+        builder.addQuestion("retro2", "events", 2, "Wat is het doel van de Sprint Retrospective?", 
+            new String[]{
+                "Het increment aan de stakeholders laten zien",
+                "De product backlog opnieuw prioriteren",
+                "Manieren vinden om kwaliteit en effectiviteit te verhogen",
+                "Bepalen wie de beste prestaties heeft geleverd"
+            }, 2, "door8");
+
+        // Varianten van een andere moeilijkheid; de deur kiest wat bij de speler past
+        builder.addVariant("sprint1", "sprint1_easy", 1, "Wanneer vindt de Sprint Review plaats?",
+            new String[]{
+                "Aan het einde van de sprint",
+                "Aan het begin van de sprint",
+                "Elke ochtend",
+                "Alleen als er problemen zijn"
+            }, 0);
+
+        builder.addVariant("sprint3", "sprint3_hard", 3, "Voor wie is de Daily Scrum in de eerste plaats bedoeld?",
+            new String[]{
+                "Voor de Product Owner",
+                "Voor de Developers",
+                "Voor de Scrum Master",
+                "Voor de stakeholders"
+            }, 1);
     }
 
     /**
-     * Voegt een nieuwe vraag toe aan de HashMap.
-     * 
-     * @param id Unieke ID voor de vraag
-     * @param question De vraagtekst
-     * @param options Array met antwoordopties
-     * @param correctOption Index van het juiste antwoord
-     * @param doorId ID van de deur waar de vraag bij hoort
+     * Geeft de huidige versie van de catalogus. Een spel bewaart deze versie
+     * zodat het tijdens het spelen niet van vragen wisselt.
+     */
+    public QuestionCatalogue getCatalogue() {
+        return catalogue.get();
+    }
+
+    /**
+     * Vervangt de catalogus in één keer. Kan vanaf elke thread worden aangeroepen.
      */
-    private void addQuestion(String id, String question, String[] options, int correctOption, String doorId) {
-        questions.put(id, new MultipleChoiceStrategy(id, question, options, correctOption, doorId));
+    public void swap(QuestionCatalogue next) {
+        catalogue.set(next);
+    }
+
+    /**
+     * Laadt het vragenbestand als het bestaat en houdt het daarna in de gaten.
+     * Elke wijziging levert een nieuwe catalogus op, gebouwd op een eigen thread.
+     *
+     * @param file Het vragenbestand (JSON, zie {@link QuestionCatalogue#parse})
+     */
+    public void startWatching(File file) {
+        stopWatching();
+        try {
+            watcher = new QuestionFileWatcher(file.toPath(), this);
+        } catch (IOException e) {
+            System.err.println("Vragenbestand kan niet gevolgd worden: " + e.getMessage());
+            return;
+        }
+        if (file.exists()) {
+            watcher.reload();
+        }
+        watcher.start();
+    }
+
+    /**
+     * Stopt met het volgen van het vragenbestand.
+     */
+    public void stopWatching() {
+        if (watcher != null) {
+            watcher.stop();
+            watcher = null;
+        }
     }
 
     /**
@@ -146,7 +229,7 @@ public class QuestionManager {
      * @return De gevraagde vraag, of null als deze niet bestaat
      */
     public QuestionStrategy getQuestion(String questionId) {
-        return questions.get(questionId);
+        return catalogue.get().getQuestion(questionId);
     }
 
     /**
@@ -156,7 +239,7 @@ public class QuestionManager {
      * @return true als de vraag bestaat, anders false
      */
     public boolean hasQuestion(String questionId) {
-        return questions.containsKey(questionId);
+        return catalogue.get().hasQuestion(questionId);
     }
 
     /**
@@ -167,25 +250,13 @@ public class QuestionManager {
      * @return De finale vraag, of null als deze niet beschikbaar is
      */
     public static QuestionStrategy getFinalQuestion(int questionIndex) {
-        // Controleer of de index geldig is
-        if (questionIndex < 0 || questionIndex >= FINAL_QUESTIONS.length) {
-            return null;
-        }
-        
         // Controleer of alle TIA objecten zijn gevonden
         boolean allTIAFound = GameState.getInstance().getFoundTIAObjects().size() == 3;
         if (!allTIAFound) {
             return null;
         }
-        
-        // Maak en geef de finale vraag terug
-        return new MultipleChoiceStrategy(
-            "final" + questionIndex,
-            FINAL_QUESTIONS[questionIndex],
-            FINAL_ANSWERS[questionIndex],
-            0,
-            "door6"
-        );
+
+        return getInstance().getCatalogue().getFinalQuestion(questionIndex);
     }
 
     /**
@@ -35,6 +35,21 @@ public interface QuestionStrategy {
      */
     String getQuestionId();
 
+    /**
+     * Het onderwerp van de vraag, bijvoorbeeld "events" of "roles".
+     * Het adaptieve model houdt per onderwerp bij hoe goed de speler het beheerst.
+     */
+    default String getTopic() {
+        return getQuestionId();
+    }
+
+    /**
+     * Moeilijkheid van 1 (makkelijk) tot 3 (moeilijk).
+     */
+    default int getDifficulty() {
+        return 2;
+    }
+
     /**
      * Wordt aangeroepen wanneer de speler een correct antwoord geeft.
      * Bijvoorbeeld: score verhogen, deur openen, etc.
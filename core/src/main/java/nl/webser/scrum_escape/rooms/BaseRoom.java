@@ -1,5 +1,7 @@
 package nl.webser.scrum_escape.rooms;
 
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.TextKey;
 import nl.webser.scrum_escape.screens.GameScreen;
 
 /**
@@ -13,6 +15,40 @@ public abstract class BaseRoom {
         this.gameScreen = gameScreen;
     }
 
+    /**
+     * Naam van de kamer, zoals die aan de speler wordt getoond.
+     */
+    public abstract String getName();
+
+    /**
+     * Het Tiled .world bestand met de kaart(en) van deze kamer.
+     */
+    public abstract String getMapFile();
+
+    /**
+     * X-positie waar de speler deze kamer binnenkomt.
+     */
+    public abstract float getStartX();
+
+    /**
+     * Y-positie waar de speler deze kamer binnenkomt.
+     */
+    public abstract float getStartY();
+
+    /**
+     * Vertaalt het vraagnummer van een deur op de kaart naar een vraag ID
+     * uit de vragenpool van deze kamer.
+     *
+     * @param questionNumber De "questionId" property van de deur op de kaart
+     * @return De vraag ID, bijvoorbeeld "sprint1"
+     */
+    public abstract String resolveQuestionId(int questionNumber);
+
+    /**
+     * De tips die de assistent in deze kamer kan geven.
+     */
+    protected abstract TextKey[] getAssistantMessages();
+
     public void applyHintJoker() {
         applyHintJokerEffect();
     }
@@ -21,26 +57,81 @@ public abstract class BaseRoom {
         return applyKeyJokerEffect();
     }
 
+    public boolean applyFiftyFiftyJoker() {
+        return applyFiftyFiftyJokerEffect();
+    }
+
+    public boolean applyFreezeJoker(float seconds) {
+        return applyFreezeJokerEffect(seconds);
+    }
+
+    public boolean applyExtraLifeJoker() {
+        return applyExtraLifeJokerEffect();
+    }
+
+    public boolean applySkipJoker() {
+        return applySkipJokerEffect();
+    }
+
     public void activateAssistant() {
         applyAssistantEffect();
     }
 
     /**
-     * Template method for applying hint joker effect.
-     * To be implemented by concrete room classes.
+     * Effect van de hint joker. Standaard toont het scherm een hint bij de huidige vraag.
+     */
+    protected void applyHintJokerEffect() {
+        gameScreen.showHint();
+    }
+
+    /**
+     * Effect van de sleutel joker. Standaard opent het scherm de deur van de huidige vraag.
+     * @return true als de joker effect had
+     */
+    protected boolean applyKeyJokerEffect() {
+        gameScreen.openDoorWithKeyJoker();
+        return true;
+    }
+
+    /**
+     * Effect van de 50/50 joker. Standaard houdt het scherm het goede en één
+     * fout antwoord over; een kamer kan dit overschrijven.
+     * @return true als de joker effect had
      */
-    protected abstract void applyHintJokerEffect();
+    protected boolean applyFiftyFiftyJokerEffect() {
+        return gameScreen.showFiftyFifty();
+    }
+
+    /**
+     * Effect van de bevries joker. Standaard staan alle monsters even stil.
+     * @return true als er monsters waren om te bevriezen
+     */
+    protected boolean applyFreezeJokerEffect(float seconds) {
+        return gameScreen.freezeMonsters(seconds);
+    }
 
     /**
-     * Template method for applying key joker effect.
-     * To be implemented by concrete room classes.
-     * @return true if the key joker was successfully applied
+     * Effect van de extra leven joker.
+     * @return true als de joker effect had
      */
-    protected abstract boolean applyKeyJokerEffect();
+    protected boolean applyExtraLifeJokerEffect() {
+        return gameScreen.grantExtraLife();
+    }
 
     /**
-     * Template method for applying assistant effect.
-     * To be implemented by concrete room classes.
+     * Effect van de overslaan joker.
+     * @return true als de joker effect had
      */
-    protected abstract void applyAssistantEffect();
+    protected boolean applySkipJokerEffect() {
+        return gameScreen.skipQuestion();
+    }
+
+    /**
+     * Effect van de assistent. Standaard een willekeurige tip uit {@link #getAssistantMessages()}.
+     */
+    protected void applyAssistantEffect() {
+        TextKey[] messages = getAssistantMessages();
+        int randomIndex = (int) (Math.random() * messages.length);
+        gameScreen.showMessage(Localization.getInstance().get(messages[randomIndex]));
+    }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package nl.webser.scrum_escape.rooms;
 
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.TextKey;
 import nl.webser.scrum_escape.screens.GameScreen;
 
 /**
@@ -7,36 +9,58 @@ import nl.webser.scrum_escape.screens.GameScreen;
  * Handelt alle kamer functionaliteit af.
  */
 public class GameRoom extends BaseRoom {
+    private static final TextKey[] ASSISTANT_MESSAGES = {
+        TextKey.ASSISTANT_SCRUM_1,
+        TextKey.ASSISTANT_SCRUM_2,
+        TextKey.ASSISTANT_SCRUM_3,
+        TextKey.ASSISTANT_SCRUM_4,
+        TextKey.ASSISTANT_SCRUM_5,
+        TextKey.ASSISTANT_SCRUM_6,
+        TextKey.ASSISTANT_SCRUM_7,
+        TextKey.ASSISTANT_SCRUM_8,
+        TextKey.ASSISTANT_SCRUM_9,
+        TextKey.ASSISTANT_SCRUM_10
+    };
+
     public GameRoom(GameScreen gameScreen) {
         super(gameScreen);
     }
 
     @Override
-    protected void applyHintJokerEffect() {
-        gameScreen.showHint();
+    public String getName() {
+        return Localization.getInstance().get(TextKey.ROOM_NAME_SCRUM);
+    }
+
+    @Override
+    public String getMapFile() {
+        return "scrum.world";
+    }
+
+    @Override
+    public float getStartX() {
+        return 300f;
+    }
+
+    @Override
+    public float getStartY() {
+        return 420f;
     }
 
     @Override
-    protected boolean applyKeyJokerEffect() {
-        gameScreen.openDoorWithKeyJoker();
-        return true;
+    public String resolveQuestionId(int questionNumber) {
+        switch (questionNumber) {
+            case 1: return "sprint1";
+            case 2: return "sprint2";
+            case 3: return "sprint3";
+            case 4: return "sprint4";
+            case 5: return "sprint5";
+            case 6: return "finale";
+            default: return "sprint1"; // Fallback
+        }
     }
 
     @Override
-    protected void applyAssistantEffect() {
-        String[] messages = {
-            "Scrum is gebaseerd op empirische procescontrole: transparantie, inspectie en aanpassing.",
-            "De vijf Scrum waarden zijn: moed, focus, toewijding, respect en openheid.",
-            "Een Sprint is een container voor alle andere Scrum events. Het is een time-box van één maand of minder.",
-            "Het Development Team bestaat uit professionals die het werk uitvoeren om een 'Done' increment te leveren.",
-            "De Product Owner is verantwoordelijk voor het maximaliseren van de waarde van het product.",
-            "De Daily Scrum is een 15-minuten durende bijeenkomst voor het Development Team om het werk te synchroniseren.",
-            "Tijdens de Daily Scrum beantwoordt elk teamlid drie vragen:\n1. Wat heb ik gedaan?\n2. Wat ga ik doen?\n3. Zie ik obstakels?",
-            "De Daily Scrum is NIET een status meeting voor de Scrum Master of Product Owner.",
-            "Het Development Team is zelf verantwoordelijk voor het organiseren van de Daily Scrum.",
-            "De Daily Scrum vindt elke dag op dezelfde tijd en plaats plaats."
-        };
-        int randomIndex = (int) (Math.random() * messages.length);
-        gameScreen.showMessage(messages[randomIndex]);
+    protected TextKey[] getAssistantMessages() {
+        return ASSISTANT_MESSAGES;
     }
 } 
\ No newline at end of file
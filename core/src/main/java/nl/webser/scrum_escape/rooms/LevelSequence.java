@@ -0,0 +1,82 @@
+package nl.webser.scrum_escape.rooms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nl.webser.scrum_escape.AssetManager;
+import nl.webser.scrum_escape.map.WorldMap;
+
+/**
+ * LevelSequence bepaalt de volgorde van de kamers in het spel.
+ *
+ * Zodra de speler bij de laatste deur van een kamer staat, wordt de kaart van de
+ * volgende kamer alvast op de achtergrond geladen. Bij de overgang is die kaart dan
+ * al klaar, zodat het spel niet hapert.
+ */
+public class LevelSequence {
+    private final List<BaseRoom> rooms;
+    private int currentIndex;
+    private String preloadedMap;
+
+    public LevelSequence(BaseRoom... rooms) {
+        if (rooms.length == 0) {
+            throw new IllegalArgumentException("Een level heeft minimaal één kamer nodig");
+        }
+        this.rooms = new ArrayList<>(Arrays.asList(rooms));
+    }
+
+    public BaseRoom getCurrentRoom() {
+        return rooms.get(currentIndex);
+    }
+
+    public boolean hasNextRoom() {
+        return currentIndex + 1 < rooms.size();
+    }
+
+    /**
+     * Geeft het nummer van de huidige kamer (begint bij 1).
+     */
+    public int getRoomNumber() {
+        return currentIndex + 1;
+    }
+
+    /**
+     * Start het laden van de startkaart van de volgende kamer, als dat nog niet gebeurd is.
+     * Het laden gaat verder zolang de AssetManager elke frame wordt bijgewerkt.
+     */
+    public void preloadNextRoom(AssetManager assets) {
+        if (!hasNextRoom() || preloadedMap != null) {
+            return;
+        }
+        BaseRoom next = rooms.get(currentIndex + 1);
+        WorldMap.Room start = WorldMap.load(next.getMapFile()).roomAt(next.getStartX(), next.getStartY());
+        if (start != null) {
+            preloadedMap = start.getFileName();
+            assets.loadTiledMapAsync(preloadedMap);
+        }
+    }
+
+    /**
+     * Gaat naar de volgende kamer.
+     * @return De nieuwe huidige kamer
+     */
+    public BaseRoom advance() {
+        if (!hasNextRoom()) {
+            throw new IllegalStateException("Er is geen volgende kamer");
+        }
+        currentIndex++;
+        return getCurrentRoom();
+    }
+
+    /**
+     * Geeft de referentie van de vooraf geladen kaart vrij. Aanroepen nadat de
+     * nieuwe kamer zelf de kaart heeft geladen, zodat deze niet dubbel in gebruik blijft.
+     */
+    public void releasePreload(AssetManager assets) {
+        if (preloadedMap != null) {
+            assets.unload(preloadedMap);
+            preloadedMap = null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package nl.webser.scrum_escape.rooms;
+
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.screens.GameScreen;
+
+/**
+ * De tweede kamer van het spel, in het teken van de Sprint Retrospective.
+ * Heeft een eigen kaart (maps/level1.tmx) en een eigen vragenpool.
+ */
+public class RetrospectiveRoom extends BaseRoom {
+    private static final String[] QUESTION_POOL = {"retro1", "retro2"};
+    private static final TextKey[] ASSISTANT_MESSAGES = {
+        TextKey.ASSISTANT_RETRO_1,
+        TextKey.ASSISTANT_RETRO_2,
+        TextKey.ASSISTANT_RETRO_3,
+        TextKey.ASSISTANT_RETRO_4
+    };
+
+    public RetrospectiveRoom(GameScreen gameScreen) {
+        super(gameScreen);
+    }
+
+    @Override
+    public String getName() {
+        return Localization.getInstance().get(TextKey.ROOM_NAME_RETROSPECTIVE);
+    }
+
+    @Override
+    public String getMapFile() {
+        return "maps/level1.world";
+    }
+
+    @Override
+    public float getStartX() {
+        return 150f;
+    }
+
+    @Override
+    public float getStartY() {
+        return 52f;
+    }
+
+    @Override
+    public String resolveQuestionId(int questionNumber) {
+        if (questionNumber < 1 || questionNumber > QUESTION_POOL.length) {
+            return QUESTION_POOL[0]; // Fallback
+        }
+        return QUESTION_POOL[questionNumber - 1];
+    }
+
+    @Override
+    protected TextKey[] getAssistantMessages() {
+        return ASSISTANT_MESSAGES;
+    }
+}
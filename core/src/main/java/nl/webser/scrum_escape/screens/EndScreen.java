@@ -6,12 +6,19 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.Input.Keys;
 
 import nl.webser.scrum_escape.GameState;
 import nl.webser.scrum_escape.ScrumEscapeGame;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.StringTable;
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.ui.FontService;
+import nl.webser.scrum_escape.ui.FontStyle;
 
 /**
  * EndScreen is het scherm dat wordt getoond wanneer het spel is afgelopen.
@@ -20,6 +27,7 @@ import nl.webser.scrum_escape.ScrumEscapeGame;
 public class EndScreen implements Screen {
     private final ScrumEscapeGame game;
     private final OrthographicCamera camera;
+    private final Viewport viewport;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont titleFont;
@@ -27,6 +35,7 @@ public class EndScreen implements Screen {
     private final BitmapFont buttonFont;
     private final Rectangle restartButton;
     private final GameState gameState;
+    private final StringTable text;
 
     /**
      * Maakt een nieuw end screen aan.
@@ -36,22 +45,20 @@ public class EndScreen implements Screen {
     public EndScreen(ScrumEscapeGame game) {
         this.game = game;
         this.gameState = GameState.getInstance();
+        this.text = Localization.getInstance().getTable();
         
         camera = new OrthographicCamera();
-        camera.setToOrtho(false, 800, 640);
+        // Vaste virtuele afmetingen, met randen als de verhouding van het venster afwijkt
+        viewport = new FitViewport(ScrumEscapeGame.VIRTUAL_WIDTH, ScrumEscapeGame.VIRTUAL_HEIGHT, camera);
         
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
         
-        // Create larger fonts
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(2.0f);
-        
-        scoreFont = new BitmapFont();
-        scoreFont.getData().setScale(1.5f);
-        
-        buttonFont = new BitmapFont();
-        buttonFont.getData().setScale(1.2f);
+        // Gedeelde fonts op de juiste grootte, zonder opschalen
+        FontService fonts = FontService.getInstance();
+        titleFont = fonts.get(FontStyle.TITLE);
+        scoreFont = fonts.get(FontStyle.SUBTITLE);
+        buttonFont = fonts.get(FontStyle.BUTTON);
         
         // Create restart button
         restartButton = new Rectangle(300, 200, 200, 50);
@@ -66,20 +73,20 @@ public class EndScreen implements Screen {
         Gdx.gl.glClearColor(0.8f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        camera.update();
+        viewport.apply();
         batch.setProjectionMatrix(camera.combined);
         shapeRenderer.setProjectionMatrix(camera.combined);
 
         batch.begin();
         
         // Draw title
-        titleFont.draw(batch, "Game Over!", 300, 500);
+        titleFont.draw(batch, text.get(TextKey.END_TITLE), 300, 500);
         
         // Draw final score
-        scoreFont.draw(batch, "Final Score: " + gameState.getScore(), 300, 400);
+        scoreFont.draw(batch, text.format(TextKey.END_SCORE, gameState.getScore()), 300, 400);
         
         // Draw restart button text
-        buttonFont.draw(batch, "Press SPACE to Restart", 250, 250);
+        buttonFont.draw(batch, text.get(TextKey.END_RESTART), 250, 250);
         
         batch.end();
 
@@ -96,9 +103,7 @@ public class EndScreen implements Screen {
      */
     @Override
     public void resize(int width, int height) {
-        camera.viewportWidth = width;
-        camera.viewportHeight = height;
-        camera.update();
+        viewport.update(width, height, true);
     }
 
     @Override
@@ -120,8 +125,6 @@ public class EndScreen implements Screen {
     public void dispose() {
         batch.dispose();
         shapeRenderer.dispose();
-        titleFont.dispose();
-        scoreFont.dispose();
-        buttonFont.dispose();
+        // De fonts horen bij de FontService
     }
 } 
\ No newline at end of file
@@ -1,11 +1,16 @@
 package nl.webser.scrum_escape.screens;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -16,26 +21,59 @@ import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.viewport.ExtendViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
 
 import nl.webser.scrum_escape.AssetManager;
 import nl.webser.scrum_escape.GameState;
 import nl.webser.scrum_escape.ScrumEscapeGame;
+import nl.webser.scrum_escape.animation.AnimationLibrary;
+import nl.webser.scrum_escape.animation.SpriteKind;
+import nl.webser.scrum_escape.audio.AudioService;
+import nl.webser.scrum_escape.audio.SoundCue;
+import nl.webser.scrum_escape.ecs.AnimationSystem;
+import nl.webser.scrum_escape.ecs.CollisionSystem;
+import nl.webser.scrum_escape.ecs.EntityWorld;
+import nl.webser.scrum_escape.ecs.InteractionContext;
+import nl.webser.scrum_escape.ecs.InteractionSystem;
+import nl.webser.scrum_escape.ecs.RenderSystem;
 import nl.webser.scrum_escape.entities.Door;
 import nl.webser.scrum_escape.entities.Kamerinfo;
-import nl.webser.scrum_escape.entities.Monster;
+import nl.webser.scrum_escape.entities.MonsterPool;
 import nl.webser.scrum_escape.entities.Player;
+import nl.webser.scrum_escape.entities.PlayerControls;
+import nl.webser.scrum_escape.entities.Readable;
 import nl.webser.scrum_escape.entities.TIAObject;
-import nl.webser.scrum_escape.hints.HintFactory;
-import nl.webser.scrum_escape.hints.HintProvider;
+import nl.webser.scrum_escape.hints.HintService;
+import nl.webser.scrum_escape.hints.HintTier;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.StringTable;
+import nl.webser.scrum_escape.i18n.TextKey;
 import nl.webser.scrum_escape.jokers.Joker;
+import nl.webser.scrum_escape.jokers.JokerInventory;
 import nl.webser.scrum_escape.jokers.JokerManager;
-import nl.webser.scrum_escape.observer.DoorObserver;
+import nl.webser.scrum_escape.map.FlowField;
+import nl.webser.scrum_escape.map.MapStreamer;
+import nl.webser.scrum_escape.map.RoomStreamListener;
+import nl.webser.scrum_escape.map.StreamedRoom;
+import nl.webser.scrum_escape.map.WorldMap;
+import nl.webser.scrum_escape.observer.EventBus;
+import nl.webser.scrum_escape.observer.GameEvent;
+import nl.webser.scrum_escape.observer.GameEventListener;
+import nl.webser.scrum_escape.questions.QuestionCatalogue;
+import nl.webser.scrum_escape.questions.PlayerModel;
 import nl.webser.scrum_escape.questions.QuestionManager;
 import nl.webser.scrum_escape.questions.QuestionStrategy;
+import nl.webser.scrum_escape.rooms.BaseRoom;
 import nl.webser.scrum_escape.rooms.GameRoom;
+import nl.webser.scrum_escape.rooms.LevelSequence;
+import nl.webser.scrum_escape.rooms.RetrospectiveRoom;
+import nl.webser.scrum_escape.script.ScriptContext;
+import nl.webser.scrum_escape.script.ScriptTable;
+import nl.webser.scrum_escape.ui.CachedLayer;
+import nl.webser.scrum_escape.ui.FontService;
+import nl.webser.scrum_escape.ui.FontStyle;
 import nl.webser.scrum_escape.ui.TypewriterEffect;
 
 
@@ -49,15 +87,19 @@ import nl.webser.scrum_escape.ui.TypewriterEffect;
  * 4. Het renderen van alle spel elementen
  *
  * Design Patterns gebruikt:
- * - Observer Pattern: Voor het monitoren van deur status veranderingen
+ * - Observer Pattern: Spelgebeurtenissen lopen via een EventBus naar alle observers
  * - Strategy Pattern: Voor het afhandelen van verschillende vraag types
  * - Singleton Pattern: Voor GameState en AssetManager
  * - State Pattern: Voor het beheren van verschillende spel states
  */
-public class GameScreen implements Screen, DoorObserver {
+public class GameScreen implements Screen, GameEventListener, RoomStreamListener, InteractionContext,
+    ScriptContext {
     // UI Instellingen
     private static final float UI_PADDING = 20f;              // Padding rond UI elementen
     private static final float CAMERA_ZOOM = 0.5f;            // Zoom niveau van de camera
+    private static final float COOP_MAX_ZOOM = 1f;            // Verste zoom bij samen spelen
+    private static final float COOP_CAMERA_MARGIN = 48f;      // Ruimte rond de spelers bij samen spelen
+    private static final Color[] PLAYER_TINTS = {Color.WHITE, new Color(0.6f, 0.8f, 1f, 1f)};  // Kleur per speler
     private static final float QUESTION_BOX_HEIGHT = 200f;    // Hoogte van het vraagvak
     private static final float QUESTION_BOX_Y = 0f;           // Y-positie van het vraagvak
     private static final float QUESTION_TEXT_X = 50f;         // X-positie van de vraagtekst
@@ -69,9 +111,9 @@ public class GameScreen implements Screen, DoorObserver {
     private static final float MESSAGE_FADE_DURATION = 0.5f;  // Hoe lang het fade effect duurt
     private static final float WARNING_DURATION = 2f;         // Hoe lang een waarschuwing wordt getoond
 
-    // Venster afmetingen
-    private static final int WINDOW_WIDTH = 800;              // Breedte van het spelvenster
-    private static final int WINDOW_HEIGHT = 640;             // Hoogte van het spelvenster
+    // Kamer instellingen
+    private static final String DEFAULT_DOOR_ANSWER_SCRIPT = "message @DOOR_OPENED_CORRECT; open";
+    private static final float ROOM_TRANSITION_DELAY = 2f;    // Wachttijd voor de overgang naar de volgende kamer
 
     // Monster eigenschappen
     private static final float MONSTER_SPEED = 100f;          // Snelheid van het monster
@@ -83,22 +125,38 @@ public class GameScreen implements Screen, DoorObserver {
     private final SpriteBatch batch;                          // Voor het tekenen van sprites
     private final OrthographicCamera camera;                  // Camera voor het spel
     private final OrthographicCamera uiCamera;                // Camera voor de UI
-    private final Player player;                              // De speler
-    private final QuestionManager questionManager;            // Beheert alle vragen
+    private final Viewport worldViewport;                     // Schaalt de wereld naar het venster
+    private final Viewport uiViewport;                        // Schaalt de UI naar het venster
+    private final CachedLayer hudLayer;                       // HUD en berichten, alleen opnieuw getekend bij wijzigingen
+    private final Player[] players;                           // De spelers; bij samen spelen twee
+    private final Rectangle[] playerBounds;                   // Hitboxes van de spelers, voor de systemen
+    private final boolean[] playerBlocked;                    // Welke spelers deze frame iets vasts raken
+    private final QuestionCatalogue questions;                // Vragen van dit spel (vaste versie)
     private final GameState gameState;                        // Houdt de spelstatus bij
-    private final BitmapFont font;                            // Lettertype voor tekst
+    private final StringTable text;                           // Teksten in de taal van de speler
+    private BitmapFont font;                                  // Lettertype voor de HUD, gerasterd voor de schermresolutie
     private final TypewriterEffect typewriterEffect;          // Typewriter effect voor tekst
-    private final TiledMap map;                              // De spelkaart
-    private final OrthogonalTiledMapRenderer mapRenderer;     // Tekent de spelkaart
-    private final List<Door> doors;                          // Alle deuren in het spel
-    private final List<TIAObject> tiaObjects;                // Alle TIA objecten in het spel
+    private final LevelSequence levels;                      // Volgorde van de kamers
+    private MapStreamer mapStreamer;                         // Laadt de kaarten van de huidige kamer in en uit
+    private FlowField flowField;                             // Looprichtingen van monsters naar de speler
+    private final List<Door> doors;                          // Deuren in de geladen kamers
+    private final EntityWorld entityWorld;                   // Alle wereldobjecten als entiteiten
+    private final RenderSystem renderSystem;                 // Tekent de entiteiten
+    private final AnimationSystem animationSystem;           // Speelt animaties van entiteiten af
+    private final CollisionSystem collisionSystem;           // Botsingen tussen speler en entiteiten
+    private final InteractionSystem interactionSystem;       // Interactie tussen speler en entiteiten
+    private final ScriptTable scripts;                       // Gecompileerde kamerscripts uit de kaarten
+    private final EventBus eventBus;                         // Verspreidt spelgebeurtenissen
 
     // Spel status variabelen
     private Door currentDoor;                                // De huidige deur waar de speler mee interacteert
     private QuestionStrategy currentQuestion;                // De huidige vraag die wordt getoond
     private boolean showingQuestion;                         // Of er een vraag wordt getoond
     private boolean waitingForAnswer;                        // Of we wachten op een antwoord
-    private float prevPlayerX, prevPlayerY;                  // Vorige positie van de speler
+    private final float[] prevPlayerX, prevPlayerY;          // Vorige positie per speler
+    private int activePlayer = 0;                            // Speler die als laatste iets raakte of antwoordde
+    private int chasedPlayer = 0;                            // Speler waar de monsters achteraan zitten
+    private float groupMinX, groupMinY, groupMaxX, groupMaxY; // Middelpunten van de spelers: kleinste en grootste
     private String currentMessage;                           // Huidige bericht dat wordt getoond
     private float messageTimer;                              // Timer voor berichten
     private boolean isMessageFading;                         // Of het bericht aan het vervagen is
@@ -120,31 +178,38 @@ public class GameScreen implements Screen, DoorObserver {
     private boolean gameCompleted = false;                   // Of het spel is voltooid
     private float completionTimer = 0;                       // Timer voor transitie naar success screen
     private static final float COMPLETION_DELAY = 5f;        // Hoe lang wachten voor success screen
-    private boolean jokerUsed = false;
-    // Joker mag maar één keer gebruikt worden
-
-    // Add these fields at the top of the class with other fields
-    private com.badlogic.gdx.audio.Sound correctSound;
-    private com.badlogic.gdx.audio.Sound wrongSound;
-    private com.badlogic.gdx.audio.Sound welcomeSound;
-    private com.badlogic.gdx.audio.Sound winnerSound;
-    private TIAObject activeTIAObject = null; // Houdt bij of speler op een TIA-object staat
+
+    private final AudioService audio;                        // Speelt alle geluiden af
+    private Readable activeReadable = null; // Tekst van het object waar de speler op staat
     private static final float MESSAGE_BOX_HEIGHT = 180f; // Vaste hoogte voor alle berichten
-    private Monster monster; // Monster instantie
+    private MonsterPool monsters; // Alle monsters die op de speler afkomen
+
+    // Laatst getekende HUD; bij een verschil wordt de HUD-laag opnieuw getekend
+    private int hudScore = -1;
+    private Joker hudJoker;
+    private int hudJokerCount;
+    private int hudJokerCooldown;
+    private boolean hudShowActivate;
+    private String hudMessage;
+    private String hudHint;
+    private QuestionStrategy questionTextSource;             // Vraag waarvoor questionText is opgebouwd
+    private String questionText;
 
     //hints
+    private final HintService hints;
     private String currentHint;
+    private HintTier usedHintTier;                            // Zwaarste hint bij de huidige vraag (null = geen)
     private boolean canShowHint = false;
+    // Gekozen variant per deurvraag; blijft gelijk zodat fouten bij dezelfde vraag blijven tellen
+    private final Map<String, QuestionStrategy> chosenQuestions = new HashMap<>();
     
     private boolean debugMode = false;
 
     private final JokerManager jokerManager = new JokerManager();
-    private final GameRoom gameRoom;
+    private float roomTransitionTimer = -1f;                  // Aftellen naar de volgende kamer (-1 = geen overgang)
 
     private boolean jokerGekozen = false;
 
-    private Kamerinfo kamerinfo;
-    private Kamerinfo activeKamerinfo = null;
 
 
 
@@ -158,49 +223,74 @@ public class GameScreen implements Screen, DoorObserver {
         // Initialiseer basis componenten
         batch = new SpriteBatch();
         camera = new OrthographicCamera();
-        camera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
         camera.zoom = CAMERA_ZOOM;
+        // Minstens de virtuele afmetingen; bredere of hogere schermen zien meer
+        worldViewport = new ExtendViewport(ScrumEscapeGame.VIRTUAL_WIDTH, ScrumEscapeGame.VIRTUAL_HEIGHT, camera);
 
         uiCamera = new OrthographicCamera();
-        uiCamera.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
+        uiViewport = new ExtendViewport(ScrumEscapeGame.VIRTUAL_WIDTH, ScrumEscapeGame.VIRTUAL_HEIGHT, uiCamera);
+        hudLayer = new CachedLayer();
 
-        // Laad en stel de spelkaart in
-        map = AssetManager.getInstance().getTiledMap("scrum.tmx");
-        mapRenderer = new OrthogonalTiledMapRenderer(map);
+        // Stel de kamers in; de kaarten worden rond de speler in- en uitgeladen
+        levels = new LevelSequence(new GameRoom(this), new RetrospectiveRoom(this));
+        BaseRoom startRoom = levels.getCurrentRoom();
+        mapStreamer = createMapStreamer(startRoom);
+        flowField = new FlowField(mapStreamer);
 
         // Initialiseer speler en managers
-        player = new Player(300, 420, map);
-        questionManager = QuestionManager.getInstance();
+        int playerCount = ScrumEscapeGame.getPlayerCount();
+        players = new Player[playerCount];
+        playerBounds = new Rectangle[playerCount];
+        playerBlocked = new boolean[playerCount];
+        prevPlayerX = new float[playerCount];
+        prevPlayerY = new float[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = new Player(startRoom.getStartX(), startRoom.getStartY(), mapStreamer,
+                PlayerControls.forPlayer(i), PLAYER_TINTS[i]);
+            playerBounds[i] = players[i].getBounds();
+            prevPlayerX[i] = startRoom.getStartX();
+            prevPlayerY[i] = startRoom.getStartY();
+        }
+        questions = QuestionManager.getInstance().getCatalogue();
         gameState = GameState.getInstance();
-        font = new BitmapFont();
+        text = Localization.getInstance().getTable();
+        font = FontService.getInstance().get(FontStyle.BODY);
         typewriterEffect = new TypewriterEffect();
+        // Elk spel een eigen reeks hints; in debug mode staat de seed in de log om het potje na te spelen
+        hints = HintService.getInstance();
+        hints.startSession();
 
-        // Load sound effects
-        correctSound = AssetManager.getInstance().getSound("correct.wav");
-        wrongSound = AssetManager.getInstance().getSound("wrong.wav");
-        welcomeSound = AssetManager.getInstance().getSound("welcome.wav");
-        winnerSound = AssetManager.getInstance().getSound("winner.wav");
+        // Geluiden lopen via de audio service (max. één welkomstgeluid tegelijk)
+        audio = AudioService.getInstance();
 
         // Start welkomsttekst met langzamere typewriter snelheid
         typewriterEffect.setTypingSpeed(0.03f); // Langzamere snelheid voor welkomsttekst
-        welcomeSound.play();
-        typewriterEffect.start("Welkom bij Scrum Escape!\n\n" +
-        "Gebruik de pijltjestoetsen om te bewegen.\n" +
-        "Vind alle TIA objecten en beantwoord de vragen correct.\n" +
-        "Pas op voor het monster als je een vraag fout beantwoordt!\n\n" +
-        "Kies nu je joker:\n" +
-        "Druk op 1 voor een Hint Joker (altijd hints)\n" +
-        "Druk op 2 voor een Key Joker (sleutel voor 1 kamer)");
+        audio.play(SoundCue.WELCOME);
+        if (playerCount > 1) {
+            // De toetsen per speler komen op een eigen regel onder de welkomsttekst
+            typewriterEffect.start(text.get(TextKey.WELCOME_TEXT) + "|||" + text.get(TextKey.COOP_CONTROLS));
+        } else {
+            typewriterEffect.start(text.get(TextKey.WELCOME_TEXT));
+        }
         typewriterEffect.setTypingSpeed(0.015f); // Reset naar normale snelheid
 
-        // Initialiseer lijsten voor deuren en TIA objecten
+        // Initialiseer lijsten voor deuren, TIA objecten en kamerboeken
         doors = new ArrayList<>();
-        tiaObjects = new ArrayList<>();
-
-        // Laad deuren en TIA objecten van de kaart
-        loadDoors();
-        loadTIAObjects();
-        loadKamerinfo();
+        entityWorld = new EntityWorld();
+        renderSystem = new RenderSystem();
+        animationSystem = new AnimationSystem();
+        collisionSystem = new CollisionSystem();
+        interactionSystem = new InteractionSystem();
+        scripts = new ScriptTable();
+        eventBus = new EventBus();
+        eventBus.subscribe(GameEvent.DOOR_OPENED, this);
+        eventBus.subscribe(GameEvent.ANSWER_CORRECT, audio);
+        eventBus.subscribe(GameEvent.ANSWER_WRONG, audio);
+        eventBus.subscribe(GameEvent.GAME_OVER, audio);
+        eventBus.subscribe(GameEvent.GAME_COMPLETED, audio);
+
+        // Laad de startkaart direct; deuren en TIA objecten komen mee via onRoomLoaded
+        mapStreamer.loadRoomAt(startRoom.getStartX(), startRoom.getStartY());
 
         // Initialiseer spel status
         showingQuestion = false;
@@ -210,19 +300,126 @@ public class GameScreen implements Screen, DoorObserver {
         shapeRenderer = new ShapeRenderer();
         monsterX = 0;
         monsterY = 0;
-        monster = new Monster(0, 0); // Startpositie linksboven
-        // Monster NIET activeren bij start
+        monsters = new MonsterPool(ScrumEscapeGame.getMaxMonsters());
+        // Monster NIET activeren bij start, alleen via een fout antwoord
+        monsters.setTarget(players[0]);
+        monsters.setFlowField(flowField);
+        eventBus.subscribe(GameEvent.ANSWER_WRONG, monsters);
+        eventBus.subscribe(GameEvent.ANSWER_CORRECT, monsters);
+    }
+
+    /**
+     * Maakt een streamer voor de kaarten van een kamer.
+     */
+    private MapStreamer createMapStreamer(BaseRoom room) {
+        MapStreamer streamer = new MapStreamer(WorldMap.load(room.getMapFile()), AssetManager.getInstance());
+        streamer.setListener(this);
+        return streamer;
+    }
+
+    /**
+     * Gaat naar de volgende kamer in het level.
+     * De kaart is al vooraf geladen tijdens de laatste deur van de vorige kamer.
+     */
+    private void enterNextRoom() {
+        BaseRoom room = levels.advance();
+        mapStreamer.dispose();
+        doors.clear();
+        entityWorld.clear();
+        currentDoor = null;
+        activeReadable = null;
+
+        mapStreamer = createMapStreamer(room);
+        flowField = new FlowField(mapStreamer);
+        monsters.setFlowField(flowField);
+        mapStreamer.loadRoomAt(room.getStartX(), room.getStartY());
+        levels.releasePreload(AssetManager.getInstance());
+        for (int i = 0; i < players.length; i++) {
+            players[i].setCollisionMap(mapStreamer);
+            players[i].setPosition(room.getStartX(), room.getStartY());
+            prevPlayerX[i] = room.getStartX();
+            prevPlayerY[i] = room.getStartY();
+        }
+        monsters.reset();
+        gameState.setMonsterActive(false);
+        showMessage(text.format(TextKey.ROOM_WELCOME, room.getName()));
+    }
 
-        // Initialize game room
-        gameRoom = new GameRoom(this);
+    /**
+     * Controleert of alle deuren van de huidige kamer open zijn.
+     * Dan gaat de speler door naar de volgende kamer, of is het spel uitgespeeld.
+     */
+    private void checkRoomCompleted() {
+        if (gameCompleted || roomTransitionTimer >= 0f) {
+            return;
+        }
+        for (Door door : doors) {
+            if (!door.isOpen()) {
+                return;
+            }
+        }
+        if (levels.hasNextRoom()) {
+            roomTransitionTimer = ROOM_TRANSITION_DELAY;
+        } else {
+            gameCompleted = true;
+            eventBus.post(GameEvent.GAME_COMPLETED, null, gameState.getScore());
+            showMessage(text.get(TextKey.ALL_ROOMS_ESCAPED));
+        }
     }
 
     /**
-     * Laadt alle deuren van de spelkaart.
+     * Geeft aan of de speler bij de laatste gesloten deur van de kamer staat.
+     */
+    private boolean isLastClosedDoor(Door door) {
+        for (Door other : doors) {
+            if (other != door && !other.isOpen()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wordt aangeroepen wanneer een kamer van de wereld geladen is.
+     * Laadt de deuren, TIA objecten en kamerboeken uit die kamer.
+     */
+    @Override
+    public void onRoomLoaded(StreamedRoom room) {
+        loadDoors(room);
+        loadTIAObjects(room);
+        loadKamerinfo(room);
+        flowField.invalidate();
+    }
+
+    /**
+     * Wordt aangeroepen wanneer een kamer uit het geheugen verdwijnt.
+     * De objecten uit die kamer worden verwijderd; hun status staat in GameState
+     * zodat ze bij opnieuw laden weer kloppen.
+     */
+    @Override
+    public void onRoomUnloaded(StreamedRoom room) {
+        for (Iterator<Door> it = doors.iterator(); it.hasNext();) {
+            Door door = it.next();
+            if (room.contains(door.getX(), door.getY())) {
+                door.despawn();
+                it.remove();
+            }
+        }
+        entityWorld.removeIf(room::contains);
+        activeReadable = null;
+        flowField.invalidate();
+    }
+
+    /**
+     * Laadt alle deuren uit een kamer.
      * Elke deur heeft een unieke ID en is gekoppeld aan een vraag.
      */
-    private void loadDoors() {
-        MapObjects doorObjects = map.getLayers().get("Doors").getObjects();
+    private void loadDoors(StreamedRoom room) {
+        MapLayer doorLayer = room.getMap().getLayers().get("Doors");
+        if (doorLayer == null) {
+            return;
+        }
+        MapObjects doorObjects = doorLayer.getObjects();
         for (MapObject object : doorObjects) {
             if (object instanceof RectangleMapObject) {
                 RectangleMapObject rectObject = (RectangleMapObject) object;
@@ -232,31 +429,26 @@ public class GameScreen implements Screen, DoorObserver {
 
                 if (doorIdInt != null && questionIdInt != null) {
                     String doorId = "door" + doorIdInt;
-                    String questionId;
-
-                    // Zet vraag IDs om naar het juiste formaat
-                    switch (questionIdInt) {
-                        case 1: questionId = "sprint1"; break;
-                        case 2: questionId = "sprint2"; break;
-                        case 3: questionId = "sprint3"; break;
-                        case 4: questionId = "sprint4"; break;
-                        case 5: questionId = "sprint5"; break;
-                        case 6: questionId = "finale"; break;
-                        default: questionId = "sprint1"; // Fallback
-                    }
+                    // Zet het vraagnummer om naar een vraag uit de pool van de kamer
+                    String questionId = levels.getCurrentRoom().resolveQuestionId(questionIdInt);
 
                     // Maak een nieuwe deur aan
                     Door door = new Door(
                         doorId,
                         questionId,
-                        rect.x,
-                        rect.y,
+                        room.getOffsetX() + rect.x,
+                        room.getOffsetY() + rect.y,
                         rect.width,
                         rect.height,
-                        AssetManager.getInstance().getTextureRegion("door_closed.png"),
-                        AssetManager.getInstance().getTextureRegion("door_open.png")
+                        AnimationLibrary.getInstance().get(SpriteKind.DOOR)
                     );
-                    door.setObserver(this);
+                    door.setEventBus(eventBus);
+                    // Scripts uit de kaart, anders het standaardgedrag van een deur
+                    boolean finale = "finale".equals(questionId);
+                    String onEnter = object.getProperties().get("onEnter", finale ? "finale" : "question", String.class);
+                    String onAnswer = object.getProperties().get("onAnswer", finale ? "open" : DEFAULT_DOOR_ANSWER_SCRIPT, String.class);
+                    door.setScripts(scripts.compile(onEnter), scripts.compile(onAnswer));
+                    door.spawn(entityWorld);
                     doors.add(door);
                 }
             }
@@ -264,11 +456,11 @@ public class GameScreen implements Screen, DoorObserver {
     }
 
     /**
-     * Laadt alle TIA objecten van de spelkaart.
+     * Laadt alle TIA objecten uit een kamer.
      * TIA objecten zijn verzamelbare items die nodig zijn voor de finale vragen.
      */
-    private void loadTIAObjects() {
-        MapLayer tiaLayer = map.getLayers().get("TIA");
+    private void loadTIAObjects(StreamedRoom room) {
+        MapLayer tiaLayer = room.getMap().getLayers().get("TIA");
         if (tiaLayer != null) {
             MapObjects tiaObjects = tiaLayer.getObjects();
             for (MapObject object : tiaObjects) {
@@ -283,21 +475,25 @@ public class GameScreen implements Screen, DoorObserver {
                         float height = Math.max(rect.height, 64f);  // Minimale hoogte van 64 pixels
 
                         TIAObject tiaObject = new TIAObject(
-                            rect.x,
-                            rect.y,
+                            room.getOffsetX() + rect.x,
+                            room.getOffsetY() + rect.y,
                             width,
                             height,
                             value
                         );
-                        this.tiaObjects.add(tiaObject);
+                        tiaObject.setFound(gameState.getFoundTIAObjects().contains(value));
+                        // Verzamelen hoort altijd bij een TIA object; de kaart kan er acties aan toevoegen
+                        String onCollect = object.getProperties().get("onCollect", "", String.class);
+                        tiaObject.setOnCollectScript(scripts.compile("collect " + value + ";" + onCollect, false));
+                        tiaObject.spawn(entityWorld);
                     }
                 }
             }
         }
     }
 
-    private void loadKamerinfo() {
-    MapLayer bookLayer = map.getLayers().get("Book"); // Use your actual layer name
+    private void loadKamerinfo(StreamedRoom room) {
+    MapLayer bookLayer = room.getMap().getLayers().get("Book"); // Use your actual layer name
     if (bookLayer != null) {
         MapObjects bookObjects = bookLayer.getObjects();
         for (MapObject object : bookObjects) {
@@ -305,9 +501,12 @@ public class GameScreen implements Screen, DoorObserver {
                 RectangleMapObject rectObject = (RectangleMapObject) object;
                 Rectangle rect = rectObject.getRectangle();
                 String message = object.getProperties().get("message", String.class);
-                if (message == null) message = "Dit is het kamerboek. Hier staat uitleg over deze kamer.";
-                kamerinfo = new Kamerinfo(rect.x, rect.y, rect.width, rect.height, message);
-                // If you only want one book, break after the first
+                if (message == null) message = text.get(TextKey.BOOK_DEFAULT);
+                Kamerinfo kamerinfo = new Kamerinfo(room.getOffsetX() + rect.x, room.getOffsetY() + rect.y,
+                    rect.width, rect.height, message);
+                kamerinfo.setOnEnterScript(scripts.compile(object.getProperties().get("onEnter", String.class), false));
+                kamerinfo.spawn(entityWorld);
+                // Eén boek per kamer
                 break;
             }
         }
@@ -321,7 +520,7 @@ public class GameScreen implements Screen, DoorObserver {
     @Override
     public void show() {
         gameState.reset();
-        monster.reset();
+        monsters.reset();
         // Monster NIET activeren bij nieuw spel
     }
 
@@ -331,30 +530,30 @@ public class GameScreen implements Screen, DoorObserver {
      */
     @Override
     public void render(float delta) {
-        player.setFrozen(showingQuestion || waitingForAnswer);
+        boolean frozen = showingQuestion || waitingForAnswer;
+        for (Player player : players) {
+            player.setFrozen(frozen);
+        }
         Gdx.gl.glClearColor(0.157f, 0.071f, 0.102f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         update(delta);
-        camera.position.set(
-            player.getX() + player.getBounds().width / 2,
-            player.getY() + player.getBounds().height / 2,
-            0
-        );
-        camera.update();
-        player.update(delta);
+        for (Player player : players) {
+            player.update(delta);
+        }
+        keepPlayersTogether();
+        updateCamera();
+        worldViewport.apply();
+        // Statische kaart eerst (alleen zichtbare chunks), daarna de dynamische objecten
+        mapStreamer.render(camera);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        mapRenderer.setView(camera);
-        mapRenderer.render();
-        for (Door door : doors) {
-            door.render(batch);
-        }
-        for (TIAObject tiaObject : tiaObjects) {
-            tiaObject.render(batch);
+        renderSystem.render(entityWorld, batch);
+        // Alle spelers in dezelfde batch; een tweede speler kost alleen een paar vertices
+        for (Player player : players) {
+            player.render(batch);
         }
-        player.render(batch);
         // Monster renderen
-        monster.render(batch);
+        monsters.render(batch);
         batch.end();
 
         if (debugMode) {
@@ -362,29 +561,87 @@ public class GameScreen implements Screen, DoorObserver {
             shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
             shapeRenderer.setColor(1, 0, 0, 1); // Red for hitboxes
         
-            Rectangle playerBounds = player.getBounds();
-            shapeRenderer.rect(playerBounds.x, playerBounds.y, playerBounds.width, playerBounds.height);
-        
-            for (Door door : doors) {
-                Rectangle doorBounds = door.getBounds();
-                shapeRenderer.rect(doorBounds.x, doorBounds.y, doorBounds.width, doorBounds.height);
-            }
-
-            if (activeKamerinfo != null) {
-                Rectangle kamerinfoBounds = activeKamerinfo.getBounds();
-                shapeRenderer.rect(kamerinfoBounds.x, kamerinfoBounds.y, kamerinfoBounds.width, kamerinfoBounds.height);
+            for (Rectangle bounds : playerBounds) {
+                shapeRenderer.rect(bounds.x, bounds.y, bounds.width, bounds.height);
             }
         
+            renderSystem.renderBounds(entityWorld, shapeRenderer);
+        
             shapeRenderer.end();
         }
         renderUI();
     }
 
+    /**
+     * Zoekt de kleinste rechthoek om de middelpunten van alle spelers.
+     */
+    private void updateGroupBounds() {
+        groupMinX = Float.MAX_VALUE;
+        groupMinY = Float.MAX_VALUE;
+        groupMaxX = -Float.MAX_VALUE;
+        groupMaxY = -Float.MAX_VALUE;
+        for (Rectangle bounds : playerBounds) {
+            float centerX = bounds.x + bounds.width / 2;
+            float centerY = bounds.y + bounds.height / 2;
+            groupMinX = Math.min(groupMinX, centerX);
+            groupMinY = Math.min(groupMinY, centerY);
+            groupMaxX = Math.max(groupMaxX, centerX);
+            groupMaxY = Math.max(groupMaxY, centerY);
+        }
+    }
+
+    /**
+     * Houdt bij samen spelen beide spelers in beeld. Wie door een stap verder
+     * uit elkaar komt dan de camera bij de verste zoom kan tonen, gaat terug
+     * naar zijn vorige positie.
+     */
+    private void keepPlayersTogether() {
+        if (players.length < 2) {
+            return;
+        }
+        updateGroupBounds();
+        float maxSpanX = worldViewport.getWorldWidth() * COOP_MAX_ZOOM - 2 * COOP_CAMERA_MARGIN;
+        float maxSpanY = worldViewport.getWorldHeight() * COOP_MAX_ZOOM - 2 * COOP_CAMERA_MARGIN;
+        if (groupMaxX - groupMinX <= maxSpanX && groupMaxY - groupMinY <= maxSpanY) {
+            return;
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i].getX() != prevPlayerX[i] || players[i].getY() != prevPlayerY[i]) {
+                players[i].setPosition(prevPlayerX[i], prevPlayerY[i]);
+            }
+        }
+    }
+
+    /**
+     * Eén gedeelde camera in het midden van de spelers. Bij samen spelen zoomt
+     * die uit tot beide spelers met wat ruimte in beeld zijn, zodat de wereld
+     * maar één keer getekend wordt.
+     */
+    private void updateCamera() {
+        updateGroupBounds();
+        camera.position.set((groupMinX + groupMaxX) / 2, (groupMinY + groupMaxY) / 2, 0);
+        if (players.length > 1) {
+            float zoomX = (groupMaxX - groupMinX + 2 * COOP_CAMERA_MARGIN) / worldViewport.getWorldWidth();
+            float zoomY = (groupMaxY - groupMinY + 2 * COOP_CAMERA_MARGIN) / worldViewport.getWorldHeight();
+            camera.zoom = Math.min(COOP_MAX_ZOOM, Math.max(CAMERA_ZOOM, Math.max(zoomX, zoomY)));
+        }
+        camera.update();
+    }
+
     /**
      * Update de spelstatus.
      * @param delta Tijd sinds de laatste update in seconden
      */
     private void update(float delta) {
+        if (roomTransitionTimer >= 0f) {
+            roomTransitionTimer -= delta;
+            if (roomTransitionTimer < 0f) {
+                enterNextRoom();
+            }
+        }
+        // Kamers worden rond het midden van de spelers geladen
+        updateGroupBounds();
+        mapStreamer.update((groupMinX + groupMaxX) / 2, (groupMinY + groupMaxY) / 2);
         typewriterEffect.update(delta);
         if (!gameCompleted) {
             gameTimer += delta;
@@ -423,93 +680,135 @@ public class GameScreen implements Screen, DoorObserver {
             }
         }
         // Monster alleen updaten als hij actief is
-        if (monster.isActive()) {
-            if (monster.update(delta, player)) {
-                ((ScrumEscapeGame) Gdx.app.getApplicationListener()).showGameOver();
-                monster.reset();
+        if (monsters.isActive()) {
+            // Het flow field rekent alleen opnieuw als de speler van tegel wisselt
+            Rectangle chasedBounds = playerBounds[chasedPlayer];
+            flowField.update(chasedBounds.x + chasedBounds.width * 0.5f, chasedBounds.y + chasedBounds.height * 0.5f);
+            if (monsters.update(delta, players[chasedPlayer], players)) {
+                if (gameState.useExtraLife()) {
+                    showMessage(text.get(TextKey.EXTRA_LIFE_USED));
+                } else {
+                    ((ScrumEscapeGame) Gdx.app.getApplicationListener()).showGameOver();
+                }
+                monsters.reset();
             }
         }
+        jokerManager.update(delta);
         handleInput();
-        checkKamerinfoCollision();
+        animationSystem.update(entityWorld, delta);
         if (!showingQuestion && !waitingForAnswer) {
-            checkDoorCollision();
-            checkTIACollision();
+            // Deuren, TIA objecten en kamerboeken reageren via hun componenten
+            // Eén lus over de entiteiten voor alle spelers
+            interactionSystem.interact(entityWorld, playerBounds, this);
+            activeReadable = interactionSystem.findReadable(entityWorld, playerBounds);
         } else {
-            if (activeTIAObject != null) {
-                activeTIAObject = null;
+            activeReadable = null;
+        }
+        // Vaste entiteiten, zoals gesloten deuren, houden de speler tegen
+        if (collisionSystem.markSolidOverlaps(entityWorld, playerBounds, playerBlocked) > 0) {
+            for (int i = 0; i < players.length; i++) {
+                if (playerBlocked[i]) {
+                    players[i].setPosition(prevPlayerX[i], prevPlayerY[i]);
+                }
             }
         }
+        // Lever de gebeurtenissen van deze frame af
+        eventBus.flush();
     }
 
-    private void checkKamerinfoCollision() {
-    if (kamerinfo != null && player.getBounds().overlaps(kamerinfo.getBounds())) {
-        activeKamerinfo = kamerinfo;
-    } else if (activeKamerinfo != null) {
-        activeKamerinfo = null;
+    /**
+     * Voert een kamerscript uit, bijvoorbeeld wanneer de speler een deur raakt.
+     */
+    @Override
+    public void runScript(int script, Door door) {
+        scripts.execute(script, door, this);
+    }
+
+    @Override
+    public void setInteractingPlayer(int player) {
+        activePlayer = player;
     }
-}
 
     /**
-     * Controleert of de speler met een deur botst.
-     * Als dat zo is, wordt de interactie afgehandeld.
+     * Stelt de vraag van een gesloten deur.
+     * @param door De deur waar de speler mee interacteert
      */
-    private void checkDoorCollision() {
-        for (Door door : doors) {
-            if (door.getBounds().overlaps(player.getBounds())) {
-                if (!door.isOpen()) {
-                    // Terugzetten naar vorige positie als de deur dicht is
-                    player.setPosition(prevPlayerX, prevPlayerY);
-                    if (!showingQuestion && !waitingForAnswer) {
-                        handleDoorInteraction(door);
-                    }
-                }
-                return;
-            }
+    @Override
+    public void askQuestion(Door door) {
+        // Scripts van objecten zonder deur mogen geen vraag stellen; de ScriptTable weigert die al
+        if (door == null) {
+            return;
         }
+        preloadIfLastDoor(door);
+        showQuestion(door);
     }
 
-
     /**
-     * Handelt de interactie met een deur af.
-     * @param door De deur waar de speler mee interacteert
+     * Start de finale vragen bij een deur.
      */
-    private void handleDoorInteraction(Door door) {
-        if (door.isOpen()) {
+    @Override
+    public void askFinalQuestion(Door door) {
+        if (door == null) {
             return;
         }
+        preloadIfLastDoor(door);
+        currentDoor = door;
+        showFinalQuestion();
+    }
 
-        if (door.getQuestionId().equals("finale")) {
-            showFinalQuestion();
-        } else {
-            showQuestion(door);
+    /**
+     * Laadt de volgende kamer alvast terwijl de speler de laatste deur beantwoordt.
+     */
+    private void preloadIfLastDoor(Door door) {
+        if (door != null && isLastClosedDoor(door)) {
+            levels.preloadNextRoom(AssetManager.getInstance());
+        }
+    }
+
+    @Override
+    public void openDoor(Door door) {
+        if (door != null) {
+            door.setOpen(true);
+            gameState.markDoorOpened(door.getDoorId());
         }
     }
 
+    @Override
+    public void addScore(int points) {
+        gameState.addScore(activePlayer, points);
+    }
+
+    @Override
+    public void playSound(SoundCue cue) {
+        audio.play(cue);
+    }
+
+    @Override
+    public void collectTIA(int tiaType) {
+        gameState.addFoundTIAObject(tiaType);
+        eventBus.post(GameEvent.TIA_FOUND, null, tiaType);
+    }
+
+    @Override
+    public void spawnMonster() {
+        chasePlayer(activePlayer);
+        monsters.spawn(players[activePlayer]);
+        gameState.setMonsterActive(true);
+    }
+
     /**
      * Toont een vraag voor de gegeven deur.
      * @param door De deur waar de vraag bij hoort
      */
     private void showQuestion(Door door) {
         if (gameState.isQuestionActive()) {
-            showMessage("Je moet eerst de huidige vraag afmaken!");
+            showMessage(text.get(TextKey.FINISH_CURRENT_QUESTION));
             return;
         }
         currentDoor = door;
-
-        if (door.getQuestionId().equals("finale")) {
-            currentQuestion = QuestionManager.getFinalQuestion(finalQuestionIndex);
-            showingFinalQuestion = true;
-        } else {
-            currentQuestion = questionManager.getQuestion(door.getQuestionId());
-            showingFinalQuestion = false;
-        }
+        currentQuestion = chooseQuestion(door.getQuestionId());
+        showingFinalQuestion = false;
         if (currentQuestion == null) {
-            if (showingFinalQuestion) {
-                showMessage("Gefeliciteerd! Je hebt alle vragen correct beantwoord!");
-                showingQuestion = false;
-                waitingForAnswer = false;
-                showingFinalQuestion = false;
-            }
             return;
         }
         showingQuestion = true;
@@ -530,51 +829,46 @@ public class GameScreen implements Screen, DoorObserver {
         waitingForAnswer = false;
         boolean isCorrect = currentQuestion.checkAnswer(selectedOption);
         int failedAttempts = gameState.getFailedAttempts(currentQuestion.getQuestionId());
+        gameState.getPlayerModel().recordAnswer(currentQuestion.getTopic(), isCorrect, failedAttempts, usedHintTier);
 
         if (isCorrect) {
-            correctSound.play();
-            gameState.addScore(10);
+            // De speler die het antwoord gaf krijgt de punten
+            gameState.addScore(activePlayer, 10);
             gameState.markQuestionAnswered(currentQuestion.getQuestionId());
             gameState.setMonsterActive(false);
             gameState.resetFailedQuestion(currentQuestion.getQuestionId());
-            // Reset monster als deze actief was (dus na een fout antwoord)
-            if (monster.isActive()) {
-                monster.reset();
-            }
+            // Het monster verdwijnt via de event bus als deze actief was
+            eventBus.post(GameEvent.ANSWER_CORRECT, currentQuestion.getQuestionId(), failedAttempts);
             if (showingFinalQuestion) {
                 finalQuestionIndex++;
-                if (finalQuestionIndex >= 3) {
-                    // Alle finale vragen zijn beantwoord
-                    gameCompleted = true;
-                    winnerSound.play();
-                    showMessage("Gefeliciteerd! Je hebt alle vragen correct beantwoord!");
-                    // Zorg ervoor dat de finale deur open gaat
-                    for (Door door : doors) {
-                        if (door.getQuestionId().equals("finale")) {
-                            door.setOpen(true);
-                            gameState.markDoorOpened(door.getDoorId());
-                            break;
-                        }
+                if (finalQuestionIndex >= questions.getFinalQuestionCount()) {
+                    // Alle finale vragen zijn beantwoord; de kamer is klaar zodra de deur open is
+                    showMessage(text.get(TextKey.ALL_QUESTIONS_CORRECT));
+                    // Het onAnswer script van de finale deur zet hem open
+                    if (currentDoor != null) {
+                        scripts.execute(currentDoor.getOnAnswerScript(), currentDoor, this);
                     }
                 } else {
-                    showMessage("Correct! Ga door naar de volgende vraag.");
+                    showMessage(text.get(TextKey.CORRECT_NEXT_QUESTION));
                 }
             } else {
-                showMessage("Correct! De deur is nu open.");
-                currentDoor.setOpen(true);
-                gameState.markDoorOpened(currentDoor.getDoorId());
+                // Standaard: bericht tonen en de deur openen
+                scripts.execute(currentDoor.getOnAnswerScript(), currentDoor, this);
             }
         } else {
-            // Check of dit de tweede fout is
-            if (failedAttempts >= 1) {
+            // Check of dit de tweede fout is; een extra leven geeft nog een kans
+            if (failedAttempts >= 1 && !gameState.useExtraLife()) {
                 // Direct game over
-                wrongSound.play();
                 gameState.markQuestionFailed(currentQuestion.getQuestionId());
+                eventBus.post(GameEvent.GAME_OVER, currentQuestion.getQuestionId(), gameState.getScore());
                 ((ScrumEscapeGame) Gdx.app.getApplicationListener()).showGameOver();
-                monster.reset();
+                monsters.reset();
                 return;
             }
             handleWrongAnswer();
+            if (failedAttempts >= 1) {
+                showMessage(text.get(TextKey.EXTRA_LIFE_USED));
+            }
         }
 
         showingQuestion = false;
@@ -585,26 +879,58 @@ public class GameScreen implements Screen, DoorObserver {
     }
 
     private void handleWrongAnswer() {
-        wrongSound.play();
+        int failedAttempts = gameState.getFailedAttempts(currentQuestion.getQuestionId());
         gameState.markQuestionFailed(currentQuestion.getQuestionId());
         gameState.setMonsterActive(true);
-        showMessage("Fout! Het monster komt eraan!");
+        showMessage(text.get(TextKey.WRONG_ANSWER_MONSTER));
         showingWarning = true;
         warningTimer = WARNING_DURATION;
         waitingForAnswer = false;
         canShowHint = true;
-        monster.activate(player);
+        // Het monster luistert naar deze gebeurtenis en komt op de speler af die fout antwoordde
+        chasePlayer(activePlayer);
+        eventBus.post(GameEvent.ANSWER_WRONG, currentQuestion.getQuestionId(), failedAttempts);
+    }
+
+    /**
+     * Stuurt de monsters voortaan op deze speler af.
+     */
+    private void chasePlayer(int index) {
+        chasedPlayer = index;
+        monsters.setTarget(players[index]);
     }
 
     public void showHint() {
         if (currentQuestion == null) {
-            currentHint = "Geen vraag actief";
+            currentHint = text.get(TextKey.NO_ACTIVE_QUESTION);
             return;
         }
         
-        HintProvider hintProvider = HintFactory.createHintProvider();
-        currentHint = hintProvider.getHintForQuestion(currentQuestion.getQuestionId(), currentQuestion.getQuestion());
-        System.out.println("Hint: " + currentHint);
+        // Elke fout maakt meer hulp vrij; het model geeft extra hulp bij een lastig onderwerp
+        String questionId = currentQuestion.getQuestionId();
+        HintTier tier = gameState.getPlayerModel().chooseHintTier(currentQuestion.getTopic(), gameState.getFailedAttempts(questionId));
+        currentHint = hints.getHint(currentQuestion, questions.getBaseId(questionId), tier);
+        if (usedHintTier == null || tier.compareTo(usedHintTier) > 0) {
+            usedHintTier = tier;
+        }
+    }
+
+    /**
+     * Kiest de vraag achter een deur. De eerste keer bepaalt het spelersmodel de
+     * moeilijkheid; daarna krijgt de speler bij die deur steeds dezelfde vraag.
+     */
+    private QuestionStrategy chooseQuestion(String questionId) {
+        QuestionStrategy chosen = chosenQuestions.get(questionId);
+        if (chosen == null) {
+            QuestionStrategy base = questions.getQuestion(questionId);
+            if (base == null) {
+                return null;
+            }
+            PlayerModel model = gameState.getPlayerModel();
+            chosen = questions.selectQuestion(questionId, model.chooseDifficulty(base.getTopic()));
+            chosenQuestions.put(questionId, chosen);
+        }
+        return chosen;
     }
 
     /**
@@ -612,6 +938,7 @@ public class GameScreen implements Screen, DoorObserver {
      */
     public void clearHint() {
         currentHint = null;
+        usedHintTier = null;
     }
 
     public void addEducationalAid(String aid) {
@@ -619,42 +946,112 @@ public class GameScreen implements Screen, DoorObserver {
     }
 
     public void openDoorWithKeyJoker() {
-        correctSound.play();
+        audio.play(SoundCue.CORRECT);
         gameState.markQuestionAnswered(currentQuestion.getQuestionId());
         currentDoor.setOpen(true);
         gameState.markDoorOpened(currentDoor.getDoorId());
         gameState.clearActiveQuestion();
-        monster.reset();
+        monsters.reset();
         showingQuestion = false;
         waitingForAnswer = false;
         clearHint();
-        showMessage("Je hebt de Key Joker gebruikt! De deur is nu open zonder straf.");
+        showMessage(text.get(TextKey.KEY_JOKER_USED));
     }
 
     /**
-     * Gebruikt de joker om een vraag over te slaan zonder straf.
-     * De deur gaat direct open en het monster wordt gereset.
+     * Houdt van de antwoorden alleen het goede en één fout antwoord over (50/50 joker).
+     */
+    public boolean showFiftyFifty() {
+        if (currentQuestion == null || currentQuestion.getOptions().length < 3) {
+            return false;
+        }
+        String questionId = currentQuestion.getQuestionId();
+        currentHint = hints.getHint(currentQuestion, questions.getBaseId(questionId), HintTier.NEAR_ANSWER);
+        usedHintTier = HintTier.NEAR_ANSWER;
+        return true;
+    }
+
+    /**
+     * Zet alle monsters een tijd stil (bevries joker).
+     * @return false als er geen monster is om te bevriezen
+     */
+    public boolean freezeMonsters(float seconds) {
+        if (!monsters.isActive()) {
+            return false;
+        }
+        monsters.freeze(seconds);
+        showMessage(text.format(TextKey.FREEZE_JOKER_USED, Math.round(seconds)));
+        return true;
+    }
+
+    /**
+     * Geeft de speler een extra leven (extra leven joker).
+     */
+    public boolean grantExtraLife() {
+        gameState.addExtraLife();
+        showMessage(text.get(TextKey.EXTRA_LIFE_GAINED));
+        return true;
+    }
+
+    /**
+     * Sluit de huidige vraag zonder straf (overslaan joker). De deur blijft dicht
+     * en kiest bij de volgende poging opnieuw een vraag.
+     */
+    public boolean skipQuestion() {
+        if (currentQuestion == null || showingFinalQuestion || currentDoor == null) {
+            return false;
+        }
+        chosenQuestions.remove(currentDoor.getQuestionId());
+        gameState.clearActiveQuestion();
+        showingQuestion = false;
+        waitingForAnswer = false;
+        currentQuestion = null;
+        clearHint();
+        showMessage(text.get(TextKey.SKIP_JOKER_USED));
+        return true;
+    }
+
+    /**
+     * Zet de gekozen joker in. Of dat kan, staat in de inventaris van de
+     * joker manager; het effect zelf komt van de joker via de kamer.
      */
     private void useJoker() {
         if (!jokerGekozen) {
-            showMessage("Je hebt nog geen joker gekozen!");
+            showMessage(text.get(TextKey.JOKER_NOT_CHOSEN));
             return;
         }
 
         Joker joker = jokerManager.getGekozenJoker();
         if (joker == null) {
-            showMessage("Je hebt geen joker geselecteerd!");
+            showMessage(text.get(TextKey.JOKER_NOT_SELECTED));
             return;
         }
 
-        if (joker.getType() == Joker.JokerType.KEY_JOKER && jokerUsed) {
-            showMessage("Je hebt de Key Joker al gebruikt!");
+        String jokerName = text.get(joker.getNameKey());
+        JokerInventory inventory = jokerManager.getInventory();
+        if (!inventory.has(joker.getId())) {
+            showMessage(text.format(TextKey.JOKER_USED_UP, jokerName));
+            return;
+        }
+        if (inventory.getCooldown(joker.getId()) > 0f) {
+            showMessage(text.format(TextKey.JOKER_COOLDOWN, jokerName, (int) Math.ceil(inventory.getCooldown(joker.getId()))));
+            return;
+        }
+        if (joker.requiresQuestion() && !waitingForAnswer) {
+            showMessage(text.format(TextKey.JOKER_NEEDS_QUESTION, jokerName));
             return;
         }
 
-        GameRoom room = getRoomForDoor(currentDoor);
-        joker.gebruik(room);
-        jokerUsed = true;
+        BaseRoom room = getRoomForDoor(currentDoor);
+        String questionId = currentQuestion != null ? currentQuestion.getQuestionId() : null;
+        if (joker.gebruik(room)) {
+            jokerManager.gebruikJoker(joker);
+            gameState.markJokerUsed();
+            eventBus.post(GameEvent.JOKER_USED, questionId, joker.getId());
+        } else {
+            // Niet verbruikt: de speler houdt de joker voor een beter moment
+            showMessage(text.format(TextKey.JOKER_NO_EFFECT, jokerName));
+        }
     }
     /**
      * Verwerkt speler input.
@@ -662,61 +1059,75 @@ public class GameScreen implements Screen, DoorObserver {
      */
     private void handleInput() {
         if (!jokerGekozen && showingWelcome) {
-            player.setFrozen(true);
-            if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
-                jokerManager.chooseJoker(0); // Hint Joker
-                jokerGekozen = true;
-                showMessage("Hint Joker geselecteerd!");
-                player.setFrozen(false);
-            } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
-                jokerManager.chooseJoker(1); // Key Joker
-                jokerGekozen = true;
-                showMessage("Key Joker geselecteerd!");
-                player.setFrozen(false);
+            for (Player player : players) {
+                player.setFrozen(true);
+            }
+            // Toets 1 kiest joker 0, toets 2 joker 1, enzovoort
+            int choices = Math.min(jokerManager.getJokerCount(), 9);
+            for (int i = 0; i < choices; i++) {
+                if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1 + i) && jokerManager.chooseJoker(i)) {
+                    jokerGekozen = true;
+                    showMessage(text.format(TextKey.JOKER_SELECTED, text.get(jokerManager.getJoker(i).getNameKey())));
+                    for (Player player : players) {
+                        player.setFrozen(false);
+                    }
+                    break;
+                }
             }
             return; // Wacht tot er gekozen is
         }
 
-        // Bewaar huidige positie voor botsingsdetectie
-        prevPlayerX = player.getX();
-        prevPlayerY = player.getY();
-
-        // Verwerk beweging
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            player.moveLeft();
-            hasMoved = true;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            player.moveRight();
-            hasMoved = true;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.UP)) {
-            player.moveUp();
-            hasMoved = true;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            player.moveDown();
-            hasMoved = true;
+        for (int i = 0; i < players.length; i++) {
+            Player player = players[i];
+            PlayerControls controls = player.getControls();
+            // Bewaar huidige positie voor botsingsdetectie
+            prevPlayerX[i] = player.getX();
+            prevPlayerY[i] = player.getY();
+
+            // Verwerk beweging
+            if (controls.isLeftPressed()) {
+                player.moveLeft();
+                hasMoved = true;
+            }
+            if (controls.isRightPressed()) {
+                player.moveRight();
+                hasMoved = true;
+            }
+            if (controls.isUpPressed()) {
+                player.moveUp();
+                hasMoved = true;
+            }
+            if (controls.isDownPressed()) {
+                player.moveDown();
+                hasMoved = true;
+            }
         }
         
-        // Verwerk antwoorden
+        // Verwerk antwoorden; elke speler kan de vraag beantwoorden
         if (waitingForAnswer) {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) handleAnswer(0);
-            if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) handleAnswer(1);
-            if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) handleAnswer(2);
-            if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) handleAnswer(3);
-
-            if (Gdx.input.isKeyJustPressed(Input.Keys.J)) {
-                useJoker();
+            for (int i = 0; i < players.length && waitingForAnswer; i++) {
+                int option = players[i].getControls().getAnswerPressed();
+                if (option >= 0) {
+                    activePlayer = i;
+                    handleAnswer(option);
+                }
             }
+
             if (Gdx.input.isKeyJustPressed(Input.Keys.A)) {
-                GameRoom room = getRoomForDoor(currentDoor);
+                BaseRoom room = getRoomForDoor(currentDoor);
                 room.activateAssistant();
             }
         }
+        // Niet elke joker hoort bij een vraag; de bevries joker helpt juist tijdens de achtervolging
+        if (Gdx.input.isKeyJustPressed(Input.Keys.J)) {
+            useJoker();
+        }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.D)) {
             debugMode = !debugMode;
+            if (debugMode) {
+                System.out.println("Hint seed: " + hints.getSeed());
+            }
         }
         
     }
@@ -740,12 +1151,12 @@ public class GameScreen implements Screen, DoorObserver {
         List<String> lines = new ArrayList<>();
        
         if (currentHint != null) {
-            lines.add("Hint: " + currentHint);
+            lines.add(text.format(TextKey.HUD_HINT, currentHint));
             lines.add("");
         }
 
         for (String logicalLine : logicalLines) {
-            lines.addAll(wrapText(logicalLine.trim(), font, WINDOW_WIDTH - 2 * QUESTION_TEXT_X));
+            lines.addAll(wrapText(logicalLine.trim(), font, uiViewport.getWorldWidth() - 2 * QUESTION_TEXT_X));
         }
         float totalTextHeight = lines.size() * QUESTION_LINE_SPACING;
         float boxHeight = MESSAGE_BOX_HEIGHT;
@@ -753,7 +1164,7 @@ public class GameScreen implements Screen, DoorObserver {
         shapeRenderer.setProjectionMatrix(uiCamera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         shapeRenderer.setColor(0, 0, 0, 0.85f);
-        shapeRenderer.rect(0, boxY, WINDOW_WIDTH, boxHeight);
+        shapeRenderer.rect(0, boxY, uiViewport.getWorldWidth(), boxHeight);
         shapeRenderer.end();
         batch.begin();
         float y = boxY + (boxHeight + totalTextHeight) / 2;
@@ -766,113 +1177,124 @@ public class GameScreen implements Screen, DoorObserver {
 
     /**
      * Rendert de UI elementen.
-     * Toont score en alle berichten via één generieke renderer.
+     * De HUD en het bericht worden in een eigen laag getekend, en alleen
+     * opnieuw als er iets veranderd is. Elk frame wordt de laag als één
+     * textuur over de wereld gezet.
      */
     private void renderUI() {
+        String message = getUiMessage();
+        Joker joker = jokerManager.getGekozenJoker();
+        JokerInventory inventory = jokerManager.getInventory();
+        int jokerCount = joker == null ? 0 : inventory.getCount(joker.getId());
+        // Hele seconden, zodat de HUD tijdens een cooldown maar één keer per seconde opnieuw getekend wordt
+        int jokerCooldown = joker == null ? 0 : (int) Math.ceil(inventory.getCooldown(joker.getId()));
+        boolean showActivate = jokerManager.isReady() && (waitingForAnswer || !joker.requiresQuestion());
+        int score = gameState.getScore();
+        if (score != hudScore || joker != hudJoker || jokerCount != hudJokerCount || jokerCooldown != hudJokerCooldown
+            || showActivate != hudShowActivate
+            || !Objects.equals(message, hudMessage) || !Objects.equals(currentHint, hudHint)) {
+            hudScore = score;
+            hudJoker = joker;
+            hudJokerCount = jokerCount;
+            hudJokerCooldown = jokerCooldown;
+            hudShowActivate = showActivate;
+            hudMessage = message;
+            hudHint = currentHint;
+            hudLayer.invalidate();
+        }
+
         batch.setProjectionMatrix(uiCamera.combined);
+        if (hudLayer.isDirty()) {
+            hudLayer.begin(batch);
+            renderHud(score, joker, jokerCount, jokerCooldown, showActivate, message);
+            hudLayer.end(batch);
+        }
+        uiViewport.apply();
+        batch.begin();
+        hudLayer.draw(batch, 0, 0, uiViewport.getWorldWidth(), uiViewport.getWorldHeight());
+        batch.end();
+    }
+
+    /**
+     * Tekent score, joker en het bericht van dit moment.
+     */
+    private void renderHud(int score, Joker joker, int jokerCount, int jokerCooldown, boolean showActivate, String message) {
+        float top = uiViewport.getWorldHeight() - UI_PADDING;
         batch.begin();
         
         // Score bovenaan
-        font.draw(batch, "Score: " + gameState.getScore(), UI_PADDING, WINDOW_HEIGHT - UI_PADDING);
+        if (players.length > 1) {
+            font.draw(batch, text.format(TextKey.HUD_SCORE_COOP, score, gameState.getScore(0), gameState.getScore(1)), UI_PADDING, top);
+        } else {
+            font.draw(batch, text.format(TextKey.HUD_SCORE, score), UI_PADDING, top);
+        }
         
         // Joker tekst eronder
-        if (jokerManager.getGekozenJoker() != null) {
-            String jokerText = "Joker: " + (jokerManager.getGekozenJoker().getType() == Joker.JokerType.HINT_JOKER ? "Hint Joker" : "Key Joker");
-            font.draw(batch, jokerText, UI_PADDING, WINDOW_HEIGHT - UI_PADDING - 25);
+        if (joker != null) {
+            String jokerName = text.get(joker.getNameKey());
+            String jokerText;
+            if (jokerCooldown > 0) {
+                jokerText = text.format(TextKey.HUD_JOKER_COOLDOWN, jokerName, jokerCooldown);
+            } else if (jokerCount == JokerInventory.UNLIMITED) {
+                jokerText = text.format(TextKey.HUD_JOKER, jokerName);
+            } else {
+                jokerText = text.format(TextKey.HUD_JOKER_COUNT, jokerName, jokerCount);
+            }
+            font.draw(batch, jokerText, UI_PADDING, top - 25);
         } else {
-            font.draw(batch, "Joker: Geen gekozen", UI_PADDING, WINDOW_HEIGHT - UI_PADDING - 25);
+            font.draw(batch, text.get(TextKey.HUD_JOKER_NONE), UI_PADDING, top - 25);
         }
 
-        if (waitingForAnswer && !jokerUsed) {
-            font.draw(batch, "Druk op J om een joker te activeren", UI_PADDING, WINDOW_HEIGHT - UI_PADDING - 40);
+        if (showActivate) {
+            font.draw(batch, text.get(TextKey.HUD_JOKER_ACTIVATE), UI_PADDING, top - 40);
         }
         batch.end();
+        if (message != null) {
+            renderGenericMessage(message);
+        }
+    }
+
+    /**
+     * Geeft het bericht dat nu onderin beeld hoort, of null.
+     */
+    private String getUiMessage() {
         if (showingWelcome) {
-            renderGenericMessage(typewriterEffect.getCurrentText());
-            return;
+            return typewriterEffect.getCurrentText();
         }
-        if (activeTIAObject != null) {
-            renderGenericMessage(formatTIAMessage(activeTIAObject.getTiaType()));
-            return;
+        if (activeReadable != null) {
+            return activeReadable.getMessage();
         }
         if (currentMessage != null) {
-            renderGenericMessage(currentMessage);
-            return;
+            return currentMessage;
         }
         if (showingQuestion && currentQuestion != null && !showingWarning) {
-            StringBuilder vraag = new StringBuilder();
-            vraag.append(currentQuestion.getQuestion()).append("|||\n|||"); // extra lege regel
-            String[] options = currentQuestion.getOptions();
-            for (int i = 0; i < options.length; i++) {
-                vraag.append((i + 1)).append(") ").append(options[i]).append("|||");
-            }
-            renderGenericMessage(vraag.toString());
-        }
-        if (activeKamerinfo != null) {
-            renderGenericMessage(activeKamerinfo.getMessage());
-        }
-    }
-
-    /**
-     * Controleert of de speler met een TIA object botst.
-     * Toont bericht zolang speler op het object staat, verwijdert als speler eraf gaat.
-     */
-    private void checkTIACollision() {
-        boolean found = false;
-        for (TIAObject tiaObject : tiaObjects) {
-            if (player.getBounds().overlaps(tiaObject.getBounds())) {
-                if (!tiaObject.isFound()) {
-                    tiaObject.setFound(true);
-                    gameState.addFoundTIAObject(tiaObject.getTiaType());
+            // Alleen opbouwen als er een andere vraag gesteld wordt
+            if (currentQuestion != questionTextSource) {
+                StringBuilder vraag = new StringBuilder();
+                vraag.append(currentQuestion.getQuestion()).append("|||\n|||"); // extra lege regel
+                String[] options = currentQuestion.getOptions();
+                for (int i = 0; i < options.length; i++) {
+                    vraag.append((i + 1)).append(") ").append(options[i]).append("|||");
                 }
-                activeTIAObject = tiaObject;
-                found = true;
-                break;
+                questionText = vraag.toString();
+                questionTextSource = currentQuestion;
             }
+            return questionText;
         }
-        if (!found && activeTIAObject != null) {
-            // Speler is van het object af
-            activeTIAObject = null;
-        }
-    }
-
-    /**
-     * Formatteert een bericht voor een gevonden TIA object.
-     * @param tiaType Het type TIA object (1=T, 2=I, 3=A)
-     * @return Het geformatteerde bericht
-     */
-    private String formatTIAMessage(int tiaType) {
-        String tiaName;
-        String explanation;
-        switch (tiaType) {
-            case 1:
-                tiaName = "Transparantie";
-                explanation = "Transparantie betekent dat iedereen dezelfde waarheid ziet. In Scrum is dit cruciaal zodat beslissingen worden genomen op basis van gedeelde informatie. Denk aan zichtbare burndown charts, duidelijke Definition of Done, en open communicatie.";
-                break;
-            case 2:
-                tiaName = "Inspectie";
-                explanation = "Inspectie houdt in dat het team regelmatig het werk en het proces beoordeelt. Hierdoor kunnen ze op tijd afwijkingen ontdekken. Inspectie gebeurt bijvoorbeeld tijdens de Daily Scrum, Sprint Review en Retrospective.";
-                break;
-            case 3:
-                tiaName = "Aanpassing";
-                explanation = "Aanpassing betekent dat het team bereid is koers te wijzigen op basis van wat uit inspectie blijkt. Scrum-teams passen hun aanpak aan om beter te presteren. Dit kan een procesaanpassing zijn, een nieuwe manier van samenwerken, of een technische verandering.";
-                break;
-            default:
-                tiaName = "Onbekend";
-                explanation = "";
-        }
-
-        return "Je hebt het " + tiaName + " TIA object gevonden!" + "\n" + explanation;
+        return null;
     }
 
     /**
-     * Wordt aangeroepen wanneer een deur wordt geopend.
-     * @param doorId De ID van de geopende deur
+     * Wordt aangeroepen wanneer een gebeurtenis van de event bus wordt afgeleverd.
+     * Het scherm luistert alleen naar geopende deuren.
      */
     @Override
-    public void onDoorOpened(String doorId) {
-        // Update de spelstatus wanneer een deur wordt geopend
-        gameState.markDoorOpened(doorId);
+    public void onEvent(GameEvent event, String subjectId, int value) {
+        if (event == GameEvent.DOOR_OPENED) {
+            // Update de spelstatus wanneer een deur wordt geopend
+            gameState.markDoorOpened(subjectId);
+            checkRoomCompleted();
+        }
     }
 
     /**
@@ -882,15 +1304,13 @@ public class GameScreen implements Screen, DoorObserver {
      */
     @Override
     public void resize(int width, int height) {
-        // Update camera viewport
-        camera.viewportWidth = width;
-        camera.viewportHeight = height;
-        camera.update();
-
-        // Update UI camera viewport
-        uiCamera.viewportWidth = width;
-        uiCamera.viewportHeight = height;
-        uiCamera.update();
+        // De wereldcamera volgt de speler; alleen de UI wordt gecentreerd
+        worldViewport.update(width, height);
+        uiViewport.update(width, height, true);
+        hudLayer.resize(uiViewport.getScreenWidth(), uiViewport.getScreenHeight());
+        // De laag heeft schermpixels; het font moet daar scherp op staan en niet worden uitvergroot
+        font = FontService.getInstance().get(FontStyle.BODY, uiViewport.getScreenHeight() / uiViewport.getWorldHeight());
+        hudLayer.invalidate();
     }
 
     /**
@@ -920,14 +1340,10 @@ public class GameScreen implements Screen, DoorObserver {
         batch.dispose();
         effectBatch.dispose();
         shapeRenderer.dispose();
-        font.dispose();
-        map.dispose();
-        mapRenderer.dispose();
-        correctSound.dispose();
-        wrongSound.dispose();
-        welcomeSound.dispose();
-        winnerSound.dispose();
-        monster.dispose();
+        hudLayer.dispose();
+        mapStreamer.dispose();
+        monsters.dispose();
+        eventBus.clear();
     }
 
     /**
@@ -965,26 +1381,25 @@ public class GameScreen implements Screen, DoorObserver {
         return lines;
     }
 
-    private GameRoom getRoomForDoor(Door door) {
-        return gameRoom;
+    private BaseRoom getRoomForDoor(Door door) {
+        return levels.getCurrentRoom();
     }
 
     private void showFinalQuestion() {
         if (!gameState.hasFoundAllTIAObjects()) {
-            player.setPosition(prevPlayerX, prevPlayerY);
-            showMessage("Je hebt nog niet alle TIA items gevonden!");
+            players[activePlayer].setPosition(prevPlayerX[activePlayer], prevPlayerY[activePlayer]);
+            showMessage(text.get(TextKey.TIA_NOT_ALL_FOUND));
             return;
         }
 
-        if (finalQuestionIndex >= 3) {
-            // Alle finale vragen zijn beantwoord
-            gameCompleted = true;
-            winnerSound.play();
-            showMessage("Gefeliciteerd! Je hebt alle vragen correct beantwoord!");
+        if (finalQuestionIndex >= questions.getFinalQuestionCount()) {
+            // Alle finale vragen zijn beantwoord; de kamer bepaalt of het spel klaar is
+            showMessage(text.get(TextKey.ALL_QUESTIONS_CORRECT));
+            checkRoomCompleted();
             return;
         }
 
-        QuestionStrategy question = questionManager.getFinalQuestion(finalQuestionIndex);
+        QuestionStrategy question = questions.getFinalQuestion(finalQuestionIndex);
         if (question != null) {
             currentQuestion = question;
             showingQuestion = true;
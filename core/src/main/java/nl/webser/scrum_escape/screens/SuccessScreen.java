@@ -6,44 +6,79 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.Input.Keys;
+import java.util.List;
 
 import nl.webser.scrum_escape.GameState;
 import nl.webser.scrum_escape.ScrumEscapeGame;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.StringTable;
+import nl.webser.scrum_escape.i18n.TextKey;
+import nl.webser.scrum_escape.leaderboard.Leaderboard;
+import nl.webser.scrum_escape.leaderboard.RunRecord;
+import nl.webser.scrum_escape.ui.FontService;
+import nl.webser.scrum_escape.ui.FontStyle;
 
+/**
+ * Scherm na het uitspelen: score, tijd en de plaats op de ranglijst.
+ * Het potje wordt bij het openen van het scherm één keer op de ranglijst gezet.
+ */
 public class SuccessScreen implements Screen {
+    private static final int TOP_COUNT = 5;
+
     private final ScrumEscapeGame game;
     private final OrthographicCamera camera;
+    private final Viewport viewport;
     private final SpriteBatch batch;
     private final BitmapFont titleFont;
     private final BitmapFont scoreFont;
     private final BitmapFont timeFont;
     private final BitmapFont exitFont;
+    private final BitmapFont listFont;
     private final GameState gameState;
+    private final StringTable text;
     private float timeElapsed;
+    private final String rankText;
+    private final String[] topTexts;
 
     public SuccessScreen(ScrumEscapeGame game, float timeElapsed) {
         this.game = game;
         this.gameState = GameState.getInstance();
+        this.text = Localization.getInstance().getTable();
         this.timeElapsed = timeElapsed;
         
         camera = new OrthographicCamera();
-        camera.setToOrtho(false, 800, 640);
+        // Vaste virtuele afmetingen, met randen als de verhouding van het venster afwijkt
+        viewport = new FitViewport(ScrumEscapeGame.VIRTUAL_WIDTH, ScrumEscapeGame.VIRTUAL_HEIGHT, camera);
         
         batch = new SpriteBatch();
         
-        // Create larger fonts
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(2.0f);
-        
-        scoreFont = new BitmapFont();
-        scoreFont.getData().setScale(1.5f);
-        
-        timeFont = new BitmapFont();
-        timeFont.getData().setScale(1.5f);
-        
-        exitFont = new BitmapFont();
-        exitFont.getData().setScale(1.2f);
+        // Gedeelde fonts op de juiste grootte, zonder opschalen
+        FontService fonts = FontService.getInstance();
+        titleFont = fonts.get(FontStyle.TITLE);
+        scoreFont = fonts.get(FontStyle.SUBTITLE);
+        timeFont = fonts.get(FontStyle.SUBTITLE);
+        exitFont = fonts.get(FontStyle.BUTTON);
+        listFont = fonts.get(FontStyle.BODY);
+
+        // De teksten staan vast zodra het potje op de ranglijst staat
+        Leaderboard leaderboard = Leaderboard.getInstance();
+        long rank = leaderboard.record(new RunRecord(System.currentTimeMillis(), Math.round(timeElapsed * 1000f),
+            gameState.getScore(), gameState.getTotalFailedAttempts(), gameState.getJokersUsed()));
+        rankText = rank >= 0 ? text.format(TextKey.SUCCESS_RANK, rank + 1, leaderboard.getRunCount()) : null;
+        List<RunRecord> top = leaderboard.getTop(TOP_COUNT);
+        topTexts = new String[top.size()];
+        for (int i = 0; i < topTexts.length; i++) {
+            RunRecord run = top.get(i);
+            topTexts[i] = text.format(TextKey.SUCCESS_TOP_ENTRY, i + 1, run.getScore(),
+                formatTime(run.getTimeMillis() / 1000f), run.getFailedAttempts(), run.getJokersUsed());
+        }
+    }
+
+    private static String formatTime(float seconds) {
+        return String.format("%02d:%02d", (int) (seconds / 60), (int) (seconds % 60));
     }
 
     @Override
@@ -51,24 +86,33 @@ public class SuccessScreen implements Screen {
         Gdx.gl.glClearColor(0.2f, 0.8f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        camera.update();
+        viewport.apply();
         batch.setProjectionMatrix(camera.combined);
 
         batch.begin();
         
         // Draw title
-        titleFont.draw(batch, "Gefeliciteerd!", 250, 500);
+        titleFont.draw(batch, text.get(TextKey.SUCCESS_TITLE), 250, 560);
         
         // Draw final score
-        scoreFont.draw(batch, "Final Score: " + gameState.getScore(), 300, 400);
+        scoreFont.draw(batch, text.format(TextKey.SUCCESS_SCORE, gameState.getScore()), 300, 490);
         
         // Draw time
-        int minutes = (int)(timeElapsed / 60);
-        int seconds = (int)(timeElapsed % 60);
-        timeFont.draw(batch, String.format("Tijd: %02d:%02d", minutes, seconds), 300, 350);
+        timeFont.draw(batch, text.format(TextKey.SUCCESS_TIME, formatTime(timeElapsed)), 300, 450);
+
+        // Plaats van dit potje en de beste potjes tot nu toe
+        if (rankText != null) {
+            timeFont.draw(batch, rankText, 300, 410);
+        }
+        if (topTexts.length > 0) {
+            listFont.draw(batch, text.get(TextKey.SUCCESS_TOP), 250, 350);
+            for (int i = 0; i < topTexts.length; i++) {
+                listFont.draw(batch, topTexts[i], 250, 320 - i * 24);
+            }
+        }
         
         // Draw exit text
-        exitFont.draw(batch, "Druk op ESC om af te sluiten", 250, 200);
+        exitFont.draw(batch, text.get(TextKey.SUCCESS_EXIT), 250, 120);
         
         batch.end();
 
@@ -80,9 +124,7 @@ public class SuccessScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        camera.viewportWidth = width;
-        camera.viewportHeight = height;
-        camera.update();
+        viewport.update(width, height, true);
     }
 
     @Override
@@ -100,9 +142,6 @@ public class SuccessScreen implements Screen {
     @Override
     public void dispose() {
         batch.dispose();
-        titleFont.dispose();
-        scoreFont.dispose();
-        timeFont.dispose();
-        exitFont.dispose();
+        // De fonts horen bij de FontService
     }
 } 
\ No newline at end of file
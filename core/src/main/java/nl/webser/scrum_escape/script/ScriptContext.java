@@ -0,0 +1,43 @@
+package nl.webser.scrum_escape.script;
+
+import nl.webser.scrum_escape.audio.SoundCue;
+import nl.webser.scrum_escape.entities.Door;
+
+/**
+ * De acties die een kamerscript in het spel kan uitvoeren.
+ * Wordt geïmplementeerd door het spelscherm.
+ */
+public interface ScriptContext {
+    /**
+     * Stelt de vraag van een deur.
+     */
+    void askQuestion(Door door);
+
+    /**
+     * Start de finale vragen bij een deur.
+     */
+    void askFinalQuestion(Door door);
+
+    /**
+     * Opent een deur.
+     */
+    void openDoor(Door door);
+
+    void showMessage(String message);
+
+    void addScore(int points);
+
+    void playSound(SoundCue cue);
+
+    /**
+     * Markeert een TIA object als gevonden.
+     *
+     * @param tiaType Het type TIA object (1=T, 2=I, 3=A)
+     */
+    void collectTIA(int tiaType);
+
+    /**
+     * Laat een monster op de speler afkomen.
+     */
+    void spawnMonster();
+}
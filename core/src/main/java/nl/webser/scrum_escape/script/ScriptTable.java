@@ -0,0 +1,213 @@
+package nl.webser.scrum_escape.script;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import nl.webser.scrum_escape.audio.SoundCue;
+import nl.webser.scrum_escape.entities.Door;
+import nl.webser.scrum_escape.i18n.Localization;
+import nl.webser.scrum_escape.i18n.TextKey;
+
+/**
+ * ScriptTable bevat de gecompileerde kamerscripts.
+ *
+ * Level designers zetten scripts als eigenschappen op objecten in Tiled, bijvoorbeeld
+ * {@code onAnswer = "message Goed zo!; score 5; open"}. Bij het laden van de kaart wordt
+ * elk script één keer vertaald naar paren van (opcode, argument) in één int-array.
+ * Tekst staat in een aparte tabel en wordt via een index aangewezen. Tijdens het spel
+ * wordt alleen nog op opcode geschakeld, zonder stringvergelijkingen.
+ *
+ * Beschikbare opdrachten, gescheiden door ';':
+ * <ul>
+ *   <li>{@code question} - stel de vraag van de deur</li>
+ *   <li>{@code finale} - start de finale vragen</li>
+ *   <li>{@code open} - open de deur</li>
+ *   <li>{@code message <tekst>} - toon een bericht; {@code message @SLEUTEL} toont een vertaalde {@link TextKey}</li>
+ *   <li>{@code score <punten>} - geef punten</li>
+ *   <li>{@code sound <naam>} - speel een {@link SoundCue}</li>
+ *   <li>{@code collect <type>} - markeer een TIA object als gevonden</li>
+ *   <li>{@code monster} - laat een monster op de speler afkomen</li>
+ * </ul>
+ *
+ * De eerste drie horen bij een deur en mogen niet in scripts van andere objecten.
+ * Een fout in een script (een tikfout in Tiled) wordt gemeld en het script doet
+ * dan niets, zodat één verkeerde eigenschap het laden van een kamer niet stopt.
+ */
+public class ScriptTable {
+    /** Geen script. */
+    public static final int NONE = -1;
+
+    // Opcodes
+    static final int END = 0;
+    static final int ASK_QUESTION = 1;
+    static final int ASK_FINAL_QUESTION = 2;
+    static final int OPEN_DOOR = 3;
+    static final int MESSAGE = 4;
+    static final int SCORE = 5;
+    static final int SOUND = 6;
+    static final int COLLECT_TIA = 7;
+    static final int SPAWN_MONSTER = 8;
+
+    private static final SoundCue[] SOUND_CUES = SoundCue.values();
+
+    private int[] code = new int[64];
+    private int size = 0;
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> compiled = new HashMap<>();  // Bron -> begin van het script
+
+    /**
+     * Compileert een script van een deur en geeft het begin in de tabel terug.
+     * Gelijke scripts worden maar één keer opgeslagen.
+     *
+     * @param source De tekst van het script, of null
+     * @return Het begin van het script, of {@link #NONE} als het script leeg of fout is
+     */
+    public int compile(String source) {
+        return compile(source, true);
+    }
+
+    /**
+     * Compileert een script en geeft het begin in de tabel terug.
+     *
+     * @param source De tekst van het script, of null
+     * @param forDoor false voor objecten zonder deur; dan zijn question, finale en open niet toegestaan
+     * @return Het begin van het script, of {@link #NONE} als het script leeg of fout is
+     */
+    public int compile(String source, boolean forDoor) {
+        if (source == null || source.trim().isEmpty()) {
+            return NONE;
+        }
+        String key = (forDoor ? "door:" : "object:") + source;
+        Integer existing = compiled.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        int start = size;
+        try {
+            emitStatements(source, forDoor);
+        } catch (IllegalArgumentException e) {
+            // Half gecompileerde code weer weghalen; het script doet niets
+            System.err.println("Script genegeerd: " + e.getMessage());
+            size = start;
+            compiled.put(key, NONE);
+            return NONE;
+        }
+        emit(END, 0);
+        compiled.put(key, start);
+        return start;
+    }
+
+    private void emitStatements(String source, boolean forDoor) {
+        for (String statement : source.split(";")) {
+            statement = statement.trim();
+            if (statement.isEmpty()) {
+                continue;
+            }
+            int space = statement.indexOf(' ');
+            String name = space < 0 ? statement : statement.substring(0, space);
+            String argument = space < 0 ? "" : statement.substring(space + 1).trim();
+            name = name.toLowerCase();
+            if (!forDoor && (name.equals("question") || name.equals("finale") || name.equals("open"))) {
+                throw new IllegalArgumentException("Opdracht '" + name + "' kan alleen bij een deur, in script: " + source);
+            }
+            switch (name) {
+                case "question": emit(ASK_QUESTION, 0); break;
+                case "finale": emit(ASK_FINAL_QUESTION, 0); break;
+                case "open": emit(OPEN_DOOR, 0); break;
+                case "message": emit(MESSAGE, intern(resolveText(argument, source))); break;
+                case "score": emit(SCORE, parseNumber(argument, source)); break;
+                case "sound": emit(SOUND, parseSound(argument, source)); break;
+                case "collect": emit(COLLECT_TIA, parseNumber(argument, source)); break;
+                case "monster": emit(SPAWN_MONSTER, 0); break;
+                default:
+                    throw new IllegalArgumentException("Onbekende opdracht '" + name + "' in script: " + source);
+            }
+        }
+    }
+
+    /**
+     * Voert een gecompileerd script uit.
+     *
+     * @param script Het begin van het script, of {@link #NONE}
+     * @param door De deur waar het script bij hoort, of null
+     * @param context Het spel waarin de acties worden uitgevoerd
+     */
+    public void execute(int script, Door door, ScriptContext context) {
+        if (script == NONE) {
+            return;
+        }
+        for (int pc = script; code[pc] != END; pc += 2) {
+            int argument = code[pc + 1];
+            switch (code[pc]) {
+                case ASK_QUESTION: context.askQuestion(door); break;
+                case ASK_FINAL_QUESTION: context.askFinalQuestion(door); break;
+                case OPEN_DOOR: context.openDoor(door); break;
+                case MESSAGE: context.showMessage(strings.get(argument)); break;
+                case SCORE: context.addScore(argument); break;
+                case SOUND: context.playSound(SOUND_CUES[argument]); break;
+                case COLLECT_TIA: context.collectTIA(argument); break;
+                case SPAWN_MONSTER: context.spawnMonster(); break;
+                default: break;
+            }
+        }
+    }
+
+    /**
+     * Geeft de grootte van de tabel in ints.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void emit(int opcode, int argument) {
+        if (size + 2 > code.length) {
+            code = Arrays.copyOf(code, code.length * 2);
+        }
+        code[size++] = opcode;
+        code[size++] = argument;
+    }
+
+    private int intern(String text) {
+        int index = strings.indexOf(text);
+        if (index < 0) {
+            strings.add(text);
+            index = strings.size() - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Vertaalt een tekst die met '@' begint via de geladen taal. Dit gebeurt bij
+     * het compileren, zodat het uitvoeren een gewone tekst toont.
+     */
+    private static String resolveText(String argument, String source) {
+        if (!argument.startsWith("@")) {
+            return argument;
+        }
+        try {
+            return Localization.getInstance().get(TextKey.valueOf(argument.substring(1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Onbekende tekst '" + argument + "' in script: " + source, e);
+        }
+    }
+
+    private static int parseNumber(String argument, String source) {
+        try {
+            return Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geen geldig getal '" + argument + "' in script: " + source, e);
+        }
+    }
+
+    private static int parseSound(String argument, String source) {
+        for (SoundCue cue : SOUND_CUES) {
+            if (cue.name().equalsIgnoreCase(argument)) {
+                return cue.ordinal();
+            }
+        }
+        throw new IllegalArgumentException("Onbekend geluid '" + argument + "' in script: " + source);
+    }
+}
@@ -0,0 +1,91 @@
+package nl.webser.scrum_escape.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+/**
+ * Een laag die in een framebuffer wordt getekend en daarna elk frame als één
+ * textuur op het scherm wordt gezet.
+ *
+ * De inhoud wordt alleen opnieuw getekend als de laag ongeldig is gemaakt,
+ * bijvoorbeeld omdat de score of het bericht veranderd is. Zo kost veel tekst
+ * op een scherm met hoge resolutie per frame maar één quad.
+ *
+ * De framebuffer bevat kleuren die al met hun alpha vermenigvuldigd zijn;
+ * {@link #draw} zet daarom zelf de juiste blend functie.
+ */
+public class CachedLayer {
+    private FrameBuffer frameBuffer;
+    private TextureRegion region;
+    private boolean dirty = true;
+
+    /**
+     * Past de framebuffer aan op het aantal pixels dat de laag op het scherm beslaat.
+     */
+    public void resize(int width, int height) {
+        if (frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) {
+            return;
+        }
+        dispose();
+        if (width <= 0 || height <= 0) {
+            return; // Geminimaliseerd venster
+        }
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        region = new TextureRegion(frameBuffer.getColorBufferTexture());
+        region.flip(false, true); // Framebuffers staan ondersteboven
+        dirty = true;
+    }
+
+    /**
+     * Markeert de inhoud als verouderd; bij de volgende aanroep van
+     * {@link #isDirty()} wordt de laag opnieuw getekend.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty && frameBuffer != null;
+    }
+
+    /**
+     * Start het tekenen in de laag. De batch schrijft alpha zo weg dat de
+     * laag later correct over de wereld valt.
+     */
+    public void begin(SpriteBatch batch) {
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    public void end(SpriteBatch batch) {
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        frameBuffer.end();
+        dirty = false;
+    }
+
+    /**
+     * Tekent de laag. Moet tussen batch.begin() en batch.end() worden aangeroepen.
+     */
+    public void draw(SpriteBatch batch, float x, float y, float width, float height) {
+        if (region == null) {
+            return;
+        }
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.draw(region, x, y, width, height);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+            region = null;
+        }
+    }
+}
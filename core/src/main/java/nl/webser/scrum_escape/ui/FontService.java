@@ -0,0 +1,324 @@
+package nl.webser.scrum_escape.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Array;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import nl.webser.scrum_escape.i18n.Localization;
+
+/**
+ * FontService levert de lettertypes van het spel.
+ *
+ * Elke {@link FontStyle} wordt één keer met FreeType op de juiste grootte
+ * gegenereerd, in plaats van het standaardfont op te schalen. Alle schermen
+ * krijgen dezelfde instantie; de service ruimt ze op bij het afsluiten.
+ *
+ * De gegenereerde glyphpagina's en glyphgegevens worden in {@link #CACHE_DIR}
+ * bewaard. Bij een volgende start wordt het font uit de cache geladen en hoeft
+ * FreeType niets te rasteren. De naam van het cachebestand bevat de grootte
+ * en een hash van de tekens, zodat een andere taal een eigen cache krijgt.
+ *
+ * Voor een scherm dat groter is dan de virtuele resolutie levert
+ * {@link #get(FontStyle, float)} hetzelfde font op meer pixels. De maten van
+ * dat font zijn teruggeschaald, zodat tekst in virtuele eenheden even groot
+ * blijft maar op het scherm scherp is.
+ */
+public class FontService {
+    public static final String FONT_FILE = "fonts/DejaVuSans.ttf";
+    public static final String CACHE_DIR = "cache/fonts/";
+
+    // Ophogen als de opbouw van het cachebestand verandert
+    private static final int CACHE_VERSION = 1;
+    private static final int PAGE_SIZE = 512;
+    // Schaal in stappen van een kwart: een venster slepen maakt zo maar een paar groottes
+    private static final float SCALE_STEP = 0.25f;
+
+    private static FontService instance;
+    private final Map<String, BitmapFont> fonts = new HashMap<>();   // Per stijl en grootte in pixels
+    private FreeTypeFontGenerator generator;
+
+    private FontService() {
+    }
+
+    public static FontService getInstance() {
+        if (instance == null) {
+            instance = new FontService();
+        }
+        return instance;
+    }
+
+    /**
+     * Geeft het font voor een stijl. Het font wordt bij de eerste aanvraag
+     * uit de cache geladen of gegenereerd. Roep nooit dispose() aan op het
+     * resultaat; het font wordt gedeeld.
+     */
+    public BitmapFont get(FontStyle style) {
+        return get(style, 1f);
+    }
+
+    /**
+     * Geeft het font voor een stijl, gerasterd voor een scherm met zoveel
+     * pixels per virtuele eenheid. Het font tekent in virtuele eenheden even
+     * groot als {@link #get(FontStyle)}.
+     *
+     * @param scale Pixels per virtuele eenheid; kleiner dan 1 telt als 1
+     */
+    public BitmapFont get(FontStyle style, float scale) {
+        float step = Math.max(1f, Math.round(scale / SCALE_STEP) * SCALE_STEP);
+        int pixels = Math.round(style.getSize() * step);
+        String key = style.name() + "_" + pixels;
+        BitmapFont font = fonts.get(key);
+        if (font == null) {
+            font = load(pixels);
+            if (pixels != style.getSize()) {
+                font.getData().setScale((float) style.getSize() / pixels);
+                // Posities niet op hele virtuele eenheden afronden, en glyphs vloeiend
+                // samplen als het scherm niet precies op een stap van de schaal valt
+                font.setUseIntegerPositions(false);
+                for (TextureRegion region : font.getRegions()) {
+                    region.getTexture().setFilter(TextureFilter.Linear, TextureFilter.Linear);
+                }
+            }
+            fonts.put(key, font);
+        }
+        return font;
+    }
+
+    private BitmapFont load(int pixels) {
+        String characters = getCharacters();
+        String key = "dejavu_" + pixels + "_" + Integer.toHexString(characters.hashCode());
+        FileHandle dataFile = Gdx.files.local(CACHE_DIR + key + ".bin");
+        if (dataFile.exists()) {
+            try {
+                return readCache(dataFile, key);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Fontcache " + dataFile.path() + " niet bruikbaar: " + e.getMessage());
+            }
+        }
+        return generate(pixels, characters, dataFile, key);
+    }
+
+    /**
+     * Tekens van de geladen taal, aangevuld met de standaardset van FreeType
+     * voor teksten die niet uit de taalbestanden komen, zoals de vragen.
+     */
+    private static String getCharacters() {
+        StringBuilder characters = new StringBuilder(FreeTypeFontGenerator.DEFAULT_CHARS);
+        String glyphs = Localization.getInstance().getTable().getGlyphs();
+        for (int i = 0; i < glyphs.length(); i++) {
+            char c = glyphs.charAt(i);
+            if (characters.indexOf(String.valueOf(c)) < 0) {
+                characters.append(c);
+            }
+        }
+        return characters.toString();
+    }
+
+    private BitmapFont generate(int pixels, String characters, FileHandle dataFile, String key) {
+        if (generator == null) {
+            generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_FILE));
+        }
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = pixels;
+        parameter.characters = characters;
+        parameter.packer = packer;
+        BitmapFont font = generator.generateFont(parameter);
+        // De pagina's horen bij dit font; met een eigen packer moet dat expliciet
+        font.setOwnsTexture(true);
+
+        try {
+            writeCache(font, packer, dataFile, key);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Fontcache " + dataFile.path() + " niet geschreven: " + e.getMessage());
+        }
+        packer.dispose();
+        return font;
+    }
+
+    private static void writeCache(BitmapFont font, PixmapPacker packer, FileHandle dataFile, String key) throws IOException {
+        Array<PixmapPacker.Page> pages = packer.getPages();
+        for (int i = 0; i < pages.size; i++) {
+            PixmapIO.writePNG(dataFile.sibling(key + "_" + i + ".png"), pages.get(i).getPixmap());
+        }
+
+        BitmapFontData data = font.getData();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(dataFile.write(false)))) {
+            out.writeInt(CACHE_VERSION);
+            out.writeInt(pages.size);
+            out.writeBoolean(data.flipped);
+            out.writeFloat(data.padTop);
+            out.writeFloat(data.padRight);
+            out.writeFloat(data.padBottom);
+            out.writeFloat(data.padLeft);
+            out.writeFloat(data.lineHeight);
+            out.writeFloat(data.capHeight);
+            out.writeFloat(data.ascent);
+            out.writeFloat(data.descent);
+            out.writeFloat(data.down);
+            out.writeFloat(data.spaceXadvance);
+            out.writeFloat(data.xHeight);
+
+            int count = 0;
+            for (Glyph[] page : data.glyphs) {
+                if (page == null) continue;
+                for (Glyph glyph : page) {
+                    if (glyph != null) count++;
+                }
+            }
+            out.writeInt(count);
+            for (Glyph[] page : data.glyphs) {
+                if (page == null) continue;
+                for (Glyph glyph : page) {
+                    if (glyph != null) writeGlyph(out, glyph);
+                }
+            }
+            out.writeBoolean(data.missingGlyph != null);
+            if (data.missingGlyph != null) {
+                writeGlyph(out, data.missingGlyph);
+            }
+        }
+    }
+
+    private static void writeGlyph(DataOutputStream out, Glyph glyph) throws IOException {
+        out.writeInt(glyph.id);
+        out.writeInt(glyph.srcX);
+        out.writeInt(glyph.srcY);
+        out.writeInt(glyph.width);
+        out.writeInt(glyph.height);
+        out.writeInt(glyph.xoffset);
+        out.writeInt(glyph.yoffset);
+        out.writeInt(glyph.xadvance);
+        out.writeInt(glyph.page);
+        out.writeBoolean(glyph.fixedWidth);
+
+        // Kerning als lijst van (teken, waarde) paren
+        int pairs = 0;
+        if (glyph.kerning != null) {
+            for (byte[] page : glyph.kerning) {
+                if (page == null) continue;
+                for (byte value : page) {
+                    if (value != 0) pairs++;
+                }
+            }
+        }
+        out.writeInt(pairs);
+        if (pairs > 0) {
+            for (int high = 0; high < glyph.kerning.length; high++) {
+                byte[] page = glyph.kerning[high];
+                if (page == null) continue;
+                for (int low = 0; low < page.length; low++) {
+                    if (page[low] != 0) {
+                        out.writeChar(high * page.length + low);
+                        out.writeByte(page[low]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static BitmapFont readCache(FileHandle dataFile, String key) throws IOException {
+        BitmapFontData data = new BitmapFontData();
+        Array<TextureRegion> regions = new Array<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(dataFile.read()))) {
+            if (in.readInt() != CACHE_VERSION) {
+                throw new IOException("verouderde versie");
+            }
+            int pageCount = in.readInt();
+            for (int i = 0; i < pageCount; i++) {
+                FileHandle pageFile = dataFile.sibling(key + "_" + i + ".png");
+                if (!pageFile.exists()) {
+                    disposeRegions(regions);
+                    throw new IOException("pagina " + pageFile.name() + " ontbreekt");
+                }
+                regions.add(new TextureRegion(new Texture(pageFile)));
+            }
+            try {
+                data.flipped = in.readBoolean();
+                data.padTop = in.readFloat();
+                data.padRight = in.readFloat();
+                data.padBottom = in.readFloat();
+                data.padLeft = in.readFloat();
+                data.lineHeight = in.readFloat();
+                data.capHeight = in.readFloat();
+                data.ascent = in.readFloat();
+                data.descent = in.readFloat();
+                data.down = in.readFloat();
+                data.spaceXadvance = in.readFloat();
+                data.xHeight = in.readFloat();
+
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    Glyph glyph = readGlyph(in);
+                    data.setGlyph(glyph.id, glyph);
+                }
+                if (in.readBoolean()) {
+                    data.missingGlyph = readGlyph(in);
+                }
+            } catch (IOException e) {
+                disposeRegions(regions);
+                throw e;
+            }
+        }
+
+        BitmapFont font = new BitmapFont(data, regions, true);
+        font.setOwnsTexture(true);
+        return font;
+    }
+
+    private static Glyph readGlyph(DataInputStream in) throws IOException {
+        Glyph glyph = new Glyph();
+        glyph.id = in.readInt();
+        glyph.srcX = in.readInt();
+        glyph.srcY = in.readInt();
+        glyph.width = in.readInt();
+        glyph.height = in.readInt();
+        glyph.xoffset = in.readInt();
+        glyph.yoffset = in.readInt();
+        glyph.xadvance = in.readInt();
+        glyph.page = in.readInt();
+        glyph.fixedWidth = in.readBoolean();
+        int pairs = in.readInt();
+        for (int i = 0; i < pairs; i++) {
+            glyph.setKerning(in.readChar(), in.readByte());
+        }
+        return glyph;
+    }
+
+    private static void disposeRegions(Array<TextureRegion> regions) {
+        for (TextureRegion region : regions) {
+            region.getTexture().dispose();
+        }
+    }
+
+    /**
+     * Ruimt alle fonts en de FreeType generator op.
+     */
+    public void dispose() {
+        for (BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+        if (generator != null) {
+            generator.dispose();
+            generator = null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package nl.webser.scrum_escape.ui;
+
+/**
+ * De lettergroottes die in het spel gebruikt worden.
+ * Elke grootte wordt één keer gegenereerd en door alle schermen gedeeld.
+ */
+public enum FontStyle {
+    BODY(15),       // Gewone tekst, HUD en berichten
+    BUTTON(18),     // Uitleg onderaan de eindschermen
+    SUBTITLE(22),   // Score en tijd
+    TITLE(30);      // Titels van de eindschermen
+
+    private final int size;
+
+    FontStyle(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Grootte in pixels.
+     */
+    public int getSize() {
+        return size;
+    }
+}
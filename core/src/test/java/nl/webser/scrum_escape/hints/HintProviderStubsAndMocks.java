@@ -1,13 +1,30 @@
 package nl.webser.scrum_escape.hints;
 
+import java.util.Collections;
+import java.util.Map;
+import nl.webser.scrum_escape.i18n.TextKey;
+
 /**
  * Demonstratie van stubs en mocks voor HintProvider.
  * Bevat vier klassen en voorbeeldcode voor gebruik.
  */
 public class HintProviderStubsAndMocks {
 
+    // Geen eigen hints per vraag; de klassen hieronder geven zelf hun hint
+    private abstract static class GenericOnlyHintProvider implements HintProvider {
+        @Override
+        public TextKey getGenericHintKey() {
+            return TextKey.HINT_HELP_GENERIC;
+        }
+
+        @Override
+        public Map<String, TextKey> getQuestionHints() {
+            return Collections.emptyMap();
+        }
+    }
+
     // --- Stub 1 ---
-    public static class AlwaysSameHintStub implements HintProvider {
+    public static class AlwaysSameHintStub extends GenericOnlyHintProvider {
         @Override
         public String getHint() {
             return "Altijd dezelfde hint";
@@ -15,7 +32,7 @@ public class HintProviderStubsAndMocks {
     }
 
     // --- Stub 2 ---
-    public static class EmptyHintStub implements HintProvider {
+    public static class EmptyHintStub extends GenericOnlyHintProvider {
         @Override
         public String getHint() {
             return "";
@@ -23,7 +40,7 @@ public class HintProviderStubsAndMocks {
     }
 
     // --- Mock 1 ---
-    public static class HintProviderMock implements HintProvider {
+    public static class HintProviderMock extends GenericOnlyHintProvider {
         public boolean wasCalled = false;
 
         @Override
@@ -34,7 +51,7 @@ public class HintProviderStubsAndMocks {
     }
 
     // --- Mock 2 ---
-    public static class CountingHintProviderMock implements HintProvider {
+    public static class CountingHintProviderMock extends GenericOnlyHintProvider {
         public int callCount = 0;
 
         @Override
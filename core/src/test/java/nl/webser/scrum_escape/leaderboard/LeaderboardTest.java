@@ -0,0 +1,148 @@
+package nl.webser.scrum_escape.leaderboard;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test de ranglijst, vooral het opnieuw opbouwen van de index uit het runbestand.
+ */
+public class LeaderboardTest {
+    // Meer dan één blok van de opbouw en meer dan één blad van de index
+    private static final int RUNS = 2_500;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private final List<RunRecord> recorded = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        directory = new File(folder.getRoot(), "leaderboard");
+    }
+
+    @Test
+    public void recordReturnsPlace() {
+        Leaderboard leaderboard = new Leaderboard(directory);
+        assertEquals(0, leaderboard.record(run(1000, 60_000)));
+        assertEquals(0, leaderboard.record(run(2000, 90_000)));
+        assertEquals(1, leaderboard.record(run(2000, 95_000)));
+        // Gelijke score en tijd: de eerdere run blijft voor
+        assertEquals(2, leaderboard.record(run(2000, 95_000)));
+        assertEquals(4, leaderboard.record(run(0, 10_000)));
+        assertEquals(5, leaderboard.getRunCount());
+        leaderboard.dispose();
+    }
+
+    @Test
+    public void topIsOrderedByScoreThenTime() {
+        Leaderboard leaderboard = new Leaderboard(directory);
+        recordRandomRuns(leaderboard);
+        assertTop(leaderboard);
+        leaderboard.dispose();
+    }
+
+    @Test
+    public void rebuildsMissingIndex() throws IOException {
+        Leaderboard leaderboard = new Leaderboard(directory);
+        recordRandomRuns(leaderboard);
+        leaderboard.dispose();
+
+        Files.delete(indexFile());
+        assertEquals(RUNS, leaderboard.getRunCount());
+        assertTop(leaderboard);
+        leaderboard.dispose();
+    }
+
+    @Test
+    public void rebuildsIndexThatFallsBehind() throws IOException {
+        // Alsof het spel stopte tussen het runbestand en de index
+        Leaderboard leaderboard = new Leaderboard(directory);
+        recordRandomRuns(leaderboard);
+        leaderboard.dispose();
+        Path stale = folder.getRoot().toPath().resolve("stale.bin");
+        Files.copy(indexFile(), stale);
+
+        RunRecord best = run(5000, 1);
+        leaderboard.record(best);
+        recorded.add(best);
+        leaderboard.dispose();
+        Files.copy(stale, indexFile(), StandardCopyOption.REPLACE_EXISTING);
+
+        Leaderboard reopened = new Leaderboard(directory);
+        assertEquals(RUNS + 1, reopened.getRunCount());
+        assertEquals(5000, reopened.getTop(1).get(0).getScore());
+        assertTop(reopened);
+        reopened.dispose();
+    }
+
+    @Test
+    public void rebuildsUnreadableIndex() throws IOException {
+        Leaderboard leaderboard = new Leaderboard(directory);
+        recordRandomRuns(leaderboard);
+        leaderboard.dispose();
+
+        Files.write(indexFile(), new byte[100]);
+        Leaderboard reopened = new Leaderboard(directory);
+        assertTop(reopened);
+        // De opgebouwde index werkt ook voor nieuwe runs
+        assertEquals(0, reopened.record(run(9000, 1)));
+        reopened.dispose();
+    }
+
+    private void recordRandomRuns(Leaderboard leaderboard) {
+        Random random = new Random(42);
+        for (int i = 0; i < RUNS; i++) {
+            RunRecord run = run(random.nextInt(50) * 100, 30_000 + random.nextInt(200) * 500);
+            assertEquals(expectedPlace(run), leaderboard.record(run));
+            recorded.add(run);
+        }
+        assertEquals(RUNS, leaderboard.getRunCount());
+    }
+
+    // Plaats van een nieuwe run: alle eerdere runs met een even goede of betere sleutel komen ervoor
+    private long expectedPlace(RunRecord run) {
+        long place = 0;
+        for (RunRecord earlier : recorded) {
+            if (earlier.getRankKey() <= run.getRankKey()) {
+                place++;
+            }
+        }
+        return place;
+    }
+
+    private void assertTop(Leaderboard leaderboard) {
+        List<RunRecord> expected = new ArrayList<>(recorded);
+        // Stabiel sorteren: bij gelijke sleutel blijft de eerdere run voor
+        expected.sort((a, b) -> Long.compare(a.getRankKey(), b.getRankKey()));
+
+        List<RunRecord> top = leaderboard.getTop(expected.size() + 10);
+        assertEquals(expected.size(), top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(expected.get(i).getFinishedAt(), top.get(i).getFinishedAt());
+            assertEquals(expected.get(i).getScore(), top.get(i).getScore());
+            assertEquals(expected.get(i).getTimeMillis(), top.get(i).getTimeMillis());
+        }
+    }
+
+    private Path indexFile() {
+        return new File(directory, "index.bin").toPath();
+    }
+
+    // Elke run krijgt een eigen moment van uitspelen, zodat runs te onderscheiden zijn
+    private RunRecord run(int score, int timeMillis) {
+        return new RunRecord(1_700_000_000_000L + recorded.size(), timeMillis, score, 0, 0);
+    }
+}
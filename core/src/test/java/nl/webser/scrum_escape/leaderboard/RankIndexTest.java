@@ -0,0 +1,166 @@
+package nl.webser.scrum_escape.leaderboard;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test de index op schijf tegen een gesorteerde array als orakel.
+ *
+ * Er gaan zoveel entries in dat er meer bladeren zijn dan één binnenknoop kan
+ * bevatten, dus zowel bladeren als binnenknopen zijn gesplitst. De sleutels
+ * komen uit een klein bereik, zodat veel entries alleen op runnummer verschillen.
+ */
+public class RankIndexTest {
+    private static final int ENTRIES = 80_000;
+    private static final int KEYS = 5_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Orakel: (sleutel << 32) | run, gesorteerd zoals de index
+    private long[] expected;
+
+    @Test
+    public void insertSplitsLeavesAndInnerPages() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("index.bin");
+        try (RankIndex index = fill(file, ENTRIES)) {
+            assertEquals(ENTRIES, index.size());
+            assertArrayEquals(expectedRuns(0, ENTRIES), readAll(index));
+        }
+        // Meer bladeren dan in één binnenknoop passen: de wortel moet gesplitst zijn
+        long pages = Files.size(file) / RankIndex.PAGE_SIZE;
+        assertTrue("Te weinig pagina's voor een gesplitste binnenknoop: " + pages,
+            pages > RankIndex.INNER_CAPACITY + 2);
+    }
+
+    @Test
+    public void rankCountsEntriesBefore() throws IOException {
+        try (RankIndex index = fill(folder.getRoot().toPath().resolve("index.bin"), ENTRIES)) {
+            for (int i = 0; i < ENTRIES; i += 97) {
+                assertEquals(i, index.rank(key(expected[i]), run(expected[i])));
+            }
+            assertEquals(ENTRIES - 1, index.rank(key(expected[ENTRIES - 1]), run(expected[ENTRIES - 1])));
+
+            // Entries die niet in de index staan: alles met een kleinere sleutel komt ervoor
+            for (long key = 0; key <= KEYS; key += 250) {
+                assertEquals(lowerBound(key << 32), index.rank(key, Integer.MIN_VALUE));
+                assertEquals(lowerBound((key << 32) | Integer.MAX_VALUE), index.rank(key, Integer.MAX_VALUE));
+            }
+        }
+    }
+
+    @Test
+    public void readFromOffset() throws IOException {
+        try (RankIndex index = fill(folder.getRoot().toPath().resolve("index.bin"), ENTRIES)) {
+            int[] runs = new int[500];
+            for (long offset : new long[] {0, 1, 339, 340, 12_345, 41_000, ENTRIES - 500}) {
+                assertEquals(runs.length, index.read(offset, runs));
+                assertArrayEquals(expectedRuns((int) offset, runs.length), runs);
+            }
+
+            // Aan het eind minder dan gevraagd, voorbij het eind niets
+            assertEquals(10, index.read(ENTRIES - 10, runs));
+            assertArrayEquals(expectedRuns(ENTRIES - 10, 10), Arrays.copyOf(runs, 10));
+            assertEquals(0, index.read(ENTRIES, runs));
+            assertEquals(0, index.read(-1, runs));
+        }
+    }
+
+    @Test
+    public void reopenKeepsEntries() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("index.bin");
+        fill(file, ENTRIES / 2).close();
+
+        try (RankIndex index = new RankIndex(file)) {
+            assertEquals(ENTRIES / 2, index.size());
+            assertArrayEquals(expectedRuns(0, ENTRIES / 2), readAll(index));
+
+            // Na het openen verder invoegen in de bestaande boom
+            Random random = new Random(7);
+            long[] all = Arrays.copyOf(expected, ENTRIES);
+            for (int run = ENTRIES / 2; run < ENTRIES; run++) {
+                long key = random.nextInt(KEYS);
+                index.insert(key, run);
+                all[run] = (key << 32) | run;
+            }
+            Arrays.sort(all);
+            expected = all;
+        }
+
+        try (RankIndex index = new RankIndex(file)) {
+            assertEquals(ENTRIES, index.size());
+            assertArrayEquals(expectedRuns(0, ENTRIES), readAll(index));
+            assertEquals(ENTRIES / 3, index.rank(key(expected[ENTRIES / 3]), run(expected[ENTRIES / 3])));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void refusesOtherFiles() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("index.bin");
+        Files.write(file, new byte[RankIndex.PAGE_SIZE]);
+        new RankIndex(file).close();
+    }
+
+    /**
+     * Vult een nieuwe index in willekeurige volgorde en zet het orakel klaar.
+     */
+    private RankIndex fill(Path file, int count) throws IOException {
+        Random random = new Random(42);
+        expected = new long[count];
+        RankIndex index = new RankIndex(file);
+        for (int run = 0; run < count; run++) {
+            long key = random.nextInt(KEYS);
+            index.insert(key, run);
+            expected[run] = (key << 32) | run;
+        }
+        Arrays.sort(expected);
+        return index;
+    }
+
+    private int[] readAll(RankIndex index) throws IOException {
+        int[] runs = new int[(int) index.size()];
+        assertEquals(runs.length, index.read(0, runs));
+        return runs;
+    }
+
+    private int[] expectedRuns(int from, int count) {
+        int[] runs = new int[count];
+        for (int i = 0; i < count; i++) {
+            runs[i] = run(expected[from + i]);
+        }
+        return runs;
+    }
+
+    // Aantal entries in het orakel die voor deze entry komen
+    private long lowerBound(long entry) {
+        int low = 0;
+        int high = expected.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (expected[middle] < entry) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long key(long entry) {
+        return entry >>> 32;
+    }
+
+    private static int run(long entry) {
+        return (int) entry;
+    }
+}
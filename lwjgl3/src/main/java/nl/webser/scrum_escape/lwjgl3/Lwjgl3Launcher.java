@@ -2,16 +2,29 @@ package nl.webser.scrum_escape.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3NativesLoader;
+import java.lang.management.ManagementFactory;
 
 import nl.webser.scrum_escape.ScrumEscapeGame;
+import nl.webser.scrum_escape.SmokeRun;
+import nl.webser.scrum_escape.StartupTrace;
 
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
+        StartupTrace.start(ManagementFactory.getRuntimeMXBean().getUptime());
+        if (StartupHelper.startNewJvmIfRequired()) return; // Start opnieuw met -XstartOnFirstThread op macOS
+        StartupTrace.mark("startup helper");
+        Lwjgl3NativesLoader.load();
+        StartupTrace.mark("natives");
+
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         config.setTitle("Scrum Escape");
-        config.setWindowedMode(800, 640);
+        config.setWindowedMode(ScrumEscapeGame.VIRTUAL_WIDTH, ScrumEscapeGame.VIRTUAL_HEIGHT);
         config.useVsync(true);
         config.setForegroundFPS(60);
+        if (SmokeRun.isEnabled()) {
+            config.setInitialVisible(false); // De smoke run heeft geen speler
+        }
         new Lwjgl3Application(new ScrumEscapeGame(), config);
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package nl.webser.scrum_escape.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Belastingtest voor de {@link ClassroomServer}: een hele klas nepstudenten.
+ *
+ * Alle bots draaien op één thread met niet-blokkerende kanalen. Elke bot drukt
+ * willekeurige knoppen en beantwoordt af en toe een willekeurige deur, en houdt
+ * met een eigen {@link StateMirror} de toestand van de server bij. Na afloop
+ * staat er hoeveel frames en bytes er binnenkwamen en of de kopieën bij zijn.
+ *
+ * Starten met {@code gradle server:runBots} terwijl de server draait; aantal,
+ * adres en duur met {@code -Dscrumescape.bots}, {@code -Dscrumescape.server.host},
+ * {@code -Dscrumescape.server.port} en {@code -Dscrumescape.bots.seconds}.
+ */
+public class ClassroomBots {
+    public static final String BOTS_PROPERTY = "scrumescape.bots";
+    public static final String HOST_PROPERTY = "scrumescape.server.host";
+    public static final String SECONDS_PROPERTY = "scrumescape.bots.seconds";
+
+    // Hoe vaak een bot nieuwe invoer stuurt en hoe vaak daar een antwoord bij zit
+    private static final long INPUT_INTERVAL = 100_000_000L;
+    private static final float ANSWER_CHANCE = 0.05f;
+
+    private static class Bot {
+        final SocketChannel channel;
+        final ByteBuffer readBuffer = ByteBuffer.allocateDirect(ClassroomSimulation.getMaxFrameSize() * 4);
+        final StateMirror mirror = new StateMirror();
+        long frames;
+        long bytes;
+
+        Bot(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = Integer.getInteger(BOTS_PROPERTY, ClassroomSimulation.MAX_STUDENTS);
+        String host = System.getProperty(HOST_PROPERTY, "localhost");
+        int port = Integer.getInteger(ClassroomServer.PORT_PROPERTY, Protocol.DEFAULT_PORT);
+        int seconds = Integer.getInteger(SECONDS_PROPERTY, 30);
+
+        Random random = new Random();
+        ByteBuffer input = ByteBuffer.allocateDirect(Protocol.INPUT_SIZE);
+        Bot[] bots = new Bot[count];
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < count; i++) {
+                SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port));
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.configureBlocking(false);
+                bots[i] = new Bot(channel);
+                channel.register(selector, SelectionKey.OP_READ, bots[i]);
+            }
+            System.out.println(count + " bots verbonden met " + host + ":" + port);
+
+            long end = System.nanoTime() + seconds * 1_000_000_000L;
+            long nextInput = System.nanoTime();
+            while (System.nanoTime() < end) {
+                selector.select(10);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isReadable()) {
+                        receive((Bot) key.attachment(), key);
+                    }
+                }
+                if (System.nanoTime() >= nextInput) {
+                    for (Bot bot : bots) {
+                        if (bot.channel.isOpen()) {
+                            sendInput(bot, input, random);
+                        }
+                    }
+                    nextInput += INPUT_INTERVAL;
+                }
+            }
+        } finally {
+            for (Bot bot : bots) {
+                if (bot != null) {
+                    bot.channel.close();
+                }
+            }
+        }
+        printResults(bots, seconds);
+    }
+
+    private static void receive(Bot bot, SelectionKey key) throws IOException {
+        int read = bot.channel.read(bot.readBuffer);
+        if (read < 0) {
+            key.cancel();
+            bot.channel.close();
+            return;
+        }
+        bot.bytes += read;
+        bot.readBuffer.flip();
+        bot.frames += bot.mirror.read(bot.readBuffer);
+        bot.readBuffer.compact();
+    }
+
+    private static void sendInput(Bot bot, ByteBuffer input, Random random) throws IOException {
+        boolean answering = random.nextFloat() < ANSWER_CHANCE;
+        input.clear();
+        input.put(Protocol.INPUT);
+        input.put((byte) random.nextInt(16));
+        input.put((byte) (answering ? random.nextInt(ClassroomSimulation.DOOR_QUESTIONS.length) : Protocol.NO_DOOR));
+        input.put((byte) random.nextInt(4));
+        input.flip();
+        // Vier bytes passen altijd in de zendbuffer; lukt het niet, dan vervalt deze invoer
+        bot.channel.write(input);
+    }
+
+    private static void printResults(Bot[] bots, int seconds) {
+        long frames = 0;
+        long bytes = 0;
+        int synced = 0;
+        int rejected = 0;
+        int maxScore = 0;
+        for (Bot bot : bots) {
+            frames += bot.frames;
+            bytes += bot.bytes;
+            if (bot.mirror.isSynced()) {
+                synced++;
+            }
+            if (bot.mirror.isRejected()) {
+                rejected++;
+            }
+            int id = bot.mirror.getStudentId();
+            if (id >= 0) {
+                maxScore = Math.max(maxScore, bot.mirror.getScore(id));
+            }
+        }
+        System.out.printf("Frames: %d (%.1f per bot per seconde), ontvangen: %d bytes (%.1f KB/s per bot)%n",
+            frames, frames / (double) bots.length / seconds, bytes, bytes / 1024.0 / bots.length / seconds);
+        System.out.println("Bij: " + synced + ", geweigerd: " + rejected
+            + ", studenten volgens de eerste bot: " + bots[0].mirror.getStudentCount()
+            + ", hoogste score: " + maxScore);
+    }
+}
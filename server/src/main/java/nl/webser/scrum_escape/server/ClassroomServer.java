@@ -0,0 +1,334 @@
+package nl.webser.scrum_escape.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import nl.webser.scrum_escape.ScrumEscapeGame;
+import nl.webser.scrum_escape.questions.QuestionManager;
+
+/**
+ * Server voor een klassikale sessie: een trainer start hem, de studenten verbinden.
+ *
+ * Alles draait op één thread met een niet-blokkerende {@link Selector}: nieuwe
+ * verbindingen, invoer van studenten en het versturen van de toestand. Met een
+ * vaste tickrate rekent de {@link ClassroomSimulation} een stap door. Daarna
+ * wordt de delta één keer in een direct buffer gezet en naar alle studenten
+ * gekopieerd; studenten die net binnen zijn of achterliepen krijgen een
+ * volledige toestand, die ook maar één keer per tick wordt opgebouwd.
+ *
+ * Starten met {@code gradle server:run}; poort en tickrate met
+ * {@code -Dscrumescape.server.port} en {@code -Dscrumescape.server.tickRate}.
+ * Het {@link TrainerDashboard} draait ernaast op localhost
+ * ({@code -Dscrumescape.dashboard.port}).
+ */
+public class ClassroomServer {
+    public static final String PORT_PROPERTY = "scrumescape.server.port";
+    public static final String TICK_RATE_PROPERTY = "scrumescape.server.tickRate";
+
+    // Afmetingen en startpunt van de Scrum kamer; de kaart vult precies het virtuele scherm
+    private static final float WORLD_WIDTH = ScrumEscapeGame.VIRTUAL_WIDTH;
+    private static final float WORLD_HEIGHT = ScrumEscapeGame.VIRTUAL_HEIGHT;
+    private static final float START_X = 300f;
+    private static final float START_Y = 420f;
+
+    private static final int READ_BUFFER_SIZE = 256;
+    // Ruimte voor een paar volledige frames; meer achterstand wordt een nieuwe volledige toestand
+    private static final int WRITE_BUFFER_SIZE = ClassroomSimulation.getMaxFrameSize() * 4;
+    private static final long STATS_INTERVAL = 10_000_000_000L;
+
+    private final int port;
+    private final int tickRate;
+    private final ClassroomSimulation simulation;
+    private final StudentConnection[] connections = new StudentConnection[ClassroomSimulation.MAX_STUDENTS];
+    private final DirectBufferPool readBuffers = new DirectBufferPool(READ_BUFFER_SIZE, ClassroomSimulation.MAX_STUDENTS);
+    private final DirectBufferPool writeBuffers = new DirectBufferPool(WRITE_BUFFER_SIZE, ClassroomSimulation.MAX_STUDENTS);
+    private final ByteBuffer deltaFrame = ByteBuffer.allocateDirect(ClassroomSimulation.getMaxFrameSize());
+    private final ByteBuffer snapshotFrame = ByteBuffer.allocateDirect(ClassroomSimulation.getMaxFrameSize());
+    private final ByteBuffer controlFrame = ByteBuffer.allocateDirect(16);
+
+    private Selector selector;
+    private TrainerDashboard dashboard;
+    private volatile boolean running;
+
+    // Statistieken over de laatste periode
+    private long tickNanos;
+    private long bytesSent;
+    private int ticks;
+    private int resyncs;
+
+    public ClassroomServer(int port, int tickRate) {
+        this.port = port;
+        this.tickRate = tickRate;
+        this.simulation = new ClassroomSimulation(QuestionManager.getInstance().getCatalogue(),
+            WORLD_WIDTH, WORLD_HEIGHT, START_X, START_Y);
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Zelfde vragenbestand als het spel, zodat een trainer eigen vragen kan gebruiken
+        QuestionManager.getInstance().startWatching(new File(QuestionManager.CATALOGUE_FILE));
+        int port = Integer.getInteger(PORT_PROPERTY, Protocol.DEFAULT_PORT);
+        int tickRate = Integer.getInteger(TICK_RATE_PROPERTY, Protocol.DEFAULT_TICK_RATE);
+        try {
+            new ClassroomServer(port, tickRate).run();
+        } finally {
+            QuestionManager.getInstance().stopWatching();
+        }
+    }
+
+    /**
+     * Draait de server tot {@link #stop()} wordt aangeroepen.
+     */
+    public void run() throws IOException {
+        selector = Selector.open();
+        ServerSocketChannel server = ServerSocketChannel.open();
+        try {
+            server.bind(new InetSocketAddress(port));
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            running = true;
+            System.out.println("Klassikale server op poort " + port + ", " + tickRate + " ticks per seconde");
+            startDashboard();
+
+            long tickInterval = 1_000_000_000L / tickRate;
+            float tickDelta = 1f / tickRate;
+            long nextTick = System.nanoTime();
+            long nextStats = nextTick + STATS_INTERVAL;
+            while (running) {
+                long waitMillis = (nextTick - System.nanoTime()) / 1_000_000L;
+                if (waitMillis > 0) {
+                    selector.select(waitMillis);
+                } else {
+                    selector.selectNow();
+                }
+                handleSelectedKeys(server);
+
+                long now = System.nanoTime();
+                if (now >= nextTick) {
+                    tick(tickDelta);
+                    tickNanos += System.nanoTime() - now;
+                    ticks++;
+                    nextTick += tickInterval;
+                    if (now - nextTick > tickInterval * 5) {
+                        // Te ver achter (bijvoorbeeld na een pauze van de JVM): niet alles inhalen
+                        nextTick = now + tickInterval;
+                    }
+                }
+                if (now >= nextStats) {
+                    printStats();
+                    nextStats = now + STATS_INTERVAL;
+                }
+            }
+        } finally {
+            if (dashboard != null) {
+                dashboard.stop();
+            }
+            for (StudentConnection connection : connections) {
+                if (connection != null) {
+                    disconnect(connection);
+                }
+            }
+            server.close();
+            selector.close();
+        }
+    }
+
+    /**
+     * Start het dashboard voor de trainer. Lukt dat niet, dan draait de sessie gewoon zonder.
+     */
+    private void startDashboard() {
+        try {
+            dashboard = new TrainerDashboard(simulation.getStats(), ClassroomSimulation.DOOR_QUESTIONS,
+                Integer.getInteger(TrainerDashboard.PORT_PROPERTY, TrainerDashboard.DEFAULT_PORT));
+            dashboard.start();
+        } catch (IOException e) {
+            System.err.println("Dashboard voor de trainer niet gestart: " + e.getMessage());
+        }
+    }
+
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private void handleSelectedKeys(ServerSocketChannel server) {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (key.isAcceptable()) {
+                accept(server);
+                continue;
+            }
+            StudentConnection connection = (StudentConnection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    read(connection);
+                }
+                if (key.isValid() && key.isWritable()) {
+                    bytesSent += connection.flush();
+                }
+            } catch (IOException e) {
+                disconnect(connection);
+            }
+        }
+    }
+
+    private void accept(ServerSocketChannel server) {
+        SocketChannel channel;
+        try {
+            channel = server.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch (IOException e) {
+            System.err.println("Verbinding niet aangenomen: " + e.getMessage());
+            return;
+        }
+
+        int studentId = simulation.join();
+        if (studentId < 0) {
+            reject(channel);
+            return;
+        }
+        try {
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            StudentConnection connection = new StudentConnection(channel, key,
+                readBuffers.acquire(), writeBuffers.acquire(), studentId);
+            key.attach(connection);
+            connections[studentId] = connection;
+
+            controlFrame.clear();
+            int start = Protocol.beginFrame(controlFrame, Protocol.WELCOME);
+            controlFrame.putShort((short) studentId);
+            controlFrame.put((byte) tickRate);
+            controlFrame.put((byte) ClassroomSimulation.DOOR_QUESTIONS.length);
+            controlFrame.putShort((short) ClassroomSimulation.MAX_STUDENTS);
+            Protocol.endFrame(controlFrame, start);
+            controlFrame.flip();
+            connection.enqueue(controlFrame);
+            bytesSent += connection.flush();
+        } catch (IOException e) {
+            simulation.leave(studentId);
+            connections[studentId] = null;
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Laat weten dat de sessie vol is en sluit de verbinding. Het frame is zo
+     * klein dat het in één keer in de zendbuffer van het kanaal past.
+     */
+    private void reject(SocketChannel channel) {
+        controlFrame.clear();
+        Protocol.endFrame(controlFrame, Protocol.beginFrame(controlFrame, Protocol.REJECT));
+        controlFrame.flip();
+        try {
+            channel.write(controlFrame);
+        } catch (IOException e) {
+            // De verbinding gaat toch dicht
+        }
+        closeQuietly(channel);
+    }
+
+    private void read(StudentConnection connection) throws IOException {
+        ByteBuffer buffer = connection.readBuffer;
+        if (connection.channel.read(buffer) < 0) {
+            throw new IOException("Verbinding gesloten");
+        }
+        buffer.flip();
+        while (buffer.remaining() >= Protocol.INPUT_SIZE) {
+            byte type = buffer.get();
+            int buttons = buffer.get() & 0xFF;
+            int door = buffer.get() & 0xFF;
+            int option = buffer.get() & 0xFF;
+            if (type != Protocol.INPUT) {
+                throw new IOException("Onbekend bericht " + type);
+            }
+            simulation.setButtons(connection.studentId, buttons);
+            if (door != Protocol.NO_DOOR) {
+                simulation.answer(connection.studentId, door, option);
+            }
+        }
+        buffer.compact();
+    }
+
+    /**
+     * Rekent een stap door en zet de nieuwe toestand klaar voor alle studenten.
+     */
+    private void tick(float delta) {
+        simulation.tick(delta);
+
+        deltaFrame.clear();
+        simulation.writeDelta(deltaFrame);
+        deltaFrame.flip();
+        boolean snapshotReady = false;
+
+        for (StudentConnection connection : connections) {
+            if (connection == null) {
+                continue;
+            }
+            if (connection.needsSnapshot) {
+                if (!snapshotReady) {
+                    snapshotFrame.clear();
+                    simulation.writeSnapshot(snapshotFrame);
+                    snapshotFrame.flip();
+                    snapshotReady = true;
+                }
+                connection.needsSnapshot = !connection.enqueue(snapshotFrame);
+            } else if (!connection.enqueue(deltaFrame)) {
+                // Loopt achter: deze delta overslaan en straks alles opnieuw sturen
+                connection.needsSnapshot = true;
+                resyncs++;
+            }
+            try {
+                bytesSent += connection.flush();
+            } catch (IOException e) {
+                disconnect(connection);
+            }
+        }
+    }
+
+    private void disconnect(StudentConnection connection) {
+        connections[connection.studentId] = null;
+        simulation.leave(connection.studentId);
+        connection.key.cancel();
+        closeQuietly(connection.channel);
+        readBuffers.release(connection.readBuffer);
+        writeBuffers.release(connection.writeBuffer);
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Niets meer aan te doen
+        }
+    }
+
+    private void printStats() {
+        if (ticks == 0) {
+            return;
+        }
+        System.out.printf("Studenten: %d, tick: %.3f ms, verstuurd: %d bytes per tick, opnieuw gestuurd: %d, buffers aangemaakt: %d%n",
+            simulation.getStudentCount(), tickNanos / 1_000_000.0 / ticks, bytesSent / ticks, resyncs,
+            readBuffers.getAllocated() + writeBuffers.getAllocated());
+        tickNanos = 0;
+        bytesSent = 0;
+        ticks = 0;
+        resyncs = 0;
+    }
+}
@@ -0,0 +1,251 @@
+package nl.webser.scrum_escape.server;
+
+import java.nio.ByteBuffer;
+import nl.webser.scrum_escape.questions.QuestionCatalogue;
+import nl.webser.scrum_escape.questions.QuestionStrategy;
+
+/**
+ * De spelregels van een klassikale sessie, zonder scherm of kaart.
+ *
+ * De server is de baas: studenten sturen alleen welke knoppen ze indrukken
+ * en welk antwoord ze bij een deur kiezen. De simulatie beweegt ze, controleert
+ * de antwoorden met de vragencatalogus en houdt deuren en score bij.
+ *
+ * De gegevens staan per eigenschap in een eigen array, op het nummer van de
+ * student (net als de {@code MonsterPool}). Per student houdt een byte bij
+ * welke velden sinds de vorige tick veranderd zijn, zodat een delta alleen
+ * die velden bevat.
+ */
+public class ClassroomSimulation {
+    /** Maximaal aantal studenten in één sessie. */
+    public static final int MAX_STUDENTS = 200;
+
+    /** Deuren van de sessie, in volgorde; het nummer is het bit in de deuren-bitset. */
+    public static final String[] DOOR_QUESTIONS = {
+        "sprint1", "sprint2", "sprint3", "sprint4", "sprint5", "retro1", "retro2"
+    };
+
+    // Zelfde snelheid als de speler in het spel (pixels per seconde)
+    private static final float MOVEMENT_SPEED = 60f;
+    private static final int POINTS_CORRECT = 10;
+    private static final int NO_ANSWER = -1;
+
+    private final QuestionCatalogue questions;
+    private final SessionStats stats = new SessionStats(DOOR_QUESTIONS.length);
+    private final float worldWidth;
+    private final float worldHeight;
+    private final float startX;
+    private final float startY;
+
+    // Gegevens per student
+    private final boolean[] active = new boolean[MAX_STUDENTS];
+    private final float[] x = new float[MAX_STUDENTS];
+    private final float[] y = new float[MAX_STUDENTS];
+    private final int[] doors = new int[MAX_STUDENTS];
+    private final int[] score = new int[MAX_STUDENTS];
+    private final byte[] buttons = new byte[MAX_STUDENTS];
+    private final int[] answer = new int[MAX_STUDENTS];   // (deur << 8) | antwoord, of NO_ANSWER
+    private final byte[] dirty = new byte[MAX_STUDENTS];
+    private int highestId = -1;                           // Hoogste nummer dat ooit in gebruik was
+    private int studentCount;
+    private int tick;
+
+    /**
+     * @param questions De vragen waarmee antwoorden worden gecontroleerd
+     * @param worldWidth Breedte van de wereld in pixels
+     * @param worldHeight Hoogte van de wereld in pixels
+     * @param startX Waar nieuwe studenten beginnen
+     * @param startY Waar nieuwe studenten beginnen
+     */
+    public ClassroomSimulation(QuestionCatalogue questions, float worldWidth, float worldHeight, float startX, float startY) {
+        if (DOOR_QUESTIONS.length > 32) {
+            throw new IllegalStateException("De deuren passen niet in een bitset van 32 bits");
+        }
+        this.questions = questions;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.startX = startX;
+        this.startY = startY;
+        for (int i = 0; i < MAX_STUDENTS; i++) {
+            answer[i] = NO_ANSWER;
+        }
+    }
+
+    /**
+     * Voegt een student toe.
+     *
+     * @return Het nummer van de student, of -1 als de sessie vol is
+     */
+    public int join() {
+        for (int id = 0; id < MAX_STUDENTS; id++) {
+            // Een plek die deze tick vrijkwam, wordt pas na de delta hergebruikt
+            if (!active[id] && dirty[id] == 0) {
+                active[id] = true;
+                x[id] = startX;
+                y[id] = startY;
+                doors[id] = 0;
+                score[id] = 0;
+                buttons[id] = 0;
+                answer[id] = NO_ANSWER;
+                dirty[id] = (byte) Protocol.FIELD_ALL;
+                highestId = Math.max(highestId, id);
+                studentCount++;
+                stats.joined(id);
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    public void leave(int id) {
+        if (active[id]) {
+            active[id] = false;
+            dirty[id] = (byte) Protocol.FIELD_LEFT;
+            studentCount--;
+            stats.left(id);
+        }
+    }
+
+    /**
+     * Slaat de knoppen van een student op; ze gelden tot de volgende invoer.
+     */
+    public void setButtons(int id, int pressed) {
+        buttons[id] = (byte) pressed;
+    }
+
+    /**
+     * Slaat een antwoord op; het wordt bij de volgende tick gecontroleerd.
+     */
+    public void answer(int id, int door, int option) {
+        if (door >= 0 && door < DOOR_QUESTIONS.length) {
+            answer[id] = (door << 8) | (option & 0xFF);
+        }
+    }
+
+    /**
+     * Eén stap van de simulatie.
+     *
+     * @param delta Tijd van een tick in seconden
+     */
+    public void tick(float delta) {
+        tick++;
+        float step = MOVEMENT_SPEED * delta;
+        for (int id = 0; id <= highestId; id++) {
+            if (!active[id]) {
+                continue;
+            }
+            int pressed = buttons[id];
+            if (pressed != 0) {
+                float dx = ((pressed & Protocol.BUTTON_RIGHT) != 0 ? step : 0f) - ((pressed & Protocol.BUTTON_LEFT) != 0 ? step : 0f);
+                float dy = ((pressed & Protocol.BUTTON_UP) != 0 ? step : 0f) - ((pressed & Protocol.BUTTON_DOWN) != 0 ? step : 0f);
+                float newX = Math.max(0f, Math.min(worldWidth, x[id] + dx));
+                float newY = Math.max(0f, Math.min(worldHeight, y[id] + dy));
+                if (newX != x[id] || newY != y[id]) {
+                    x[id] = newX;
+                    y[id] = newY;
+                    dirty[id] |= Protocol.FIELD_POSITION;
+                }
+            }
+            if (answer[id] != NO_ANSWER) {
+                checkAnswer(id, answer[id] >> 8, answer[id] & 0xFF);
+                answer[id] = NO_ANSWER;
+            }
+        }
+    }
+
+    private void checkAnswer(int id, int door, int option) {
+        int bit = 1 << door;
+        if ((doors[id] & bit) != 0) {
+            return; // Deur is al open
+        }
+        QuestionStrategy question = questions.getQuestion(DOOR_QUESTIONS[door]);
+        if (question == null) {
+            return;
+        }
+        // Een fout antwoord kost niets; de deur blijft gewoon dicht
+        // Alleen nakijken: checkAnswer zou de GameState van het spel aanpassen
+        boolean correct = question.isCorrectAnswer(option);
+        if (correct) {
+            doors[id] |= bit;
+            score[id] += POINTS_CORRECT;
+            dirty[id] |= Protocol.FIELD_DOORS | Protocol.FIELD_SCORE;
+        }
+        stats.answered(id, door, correct, doors[id], score[id]);
+    }
+
+    /**
+     * Schrijft een DELTA frame met alles wat sinds de vorige delta veranderd is
+     * en markeert daarna alles als verstuurd.
+     */
+    public void writeDelta(ByteBuffer buffer) {
+        int start = Protocol.beginFrame(buffer, Protocol.DELTA);
+        buffer.putInt(tick);
+        int countPosition = buffer.position();
+        buffer.putShort((short) 0);
+        int count = 0;
+        for (int id = 0; id <= highestId; id++) {
+            int fields = dirty[id] & 0xFF;
+            if (fields != 0) {
+                writeStudent(buffer, id, fields);
+                dirty[id] = 0;
+                count++;
+            }
+        }
+        buffer.putShort(countPosition, (short) count);
+        Protocol.endFrame(buffer, start);
+    }
+
+    /**
+     * Schrijft een FULL frame met de volledige toestand van alle studenten.
+     * Verandert niets aan wat er nog in de volgende delta moet.
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        int start = Protocol.beginFrame(buffer, Protocol.FULL);
+        buffer.putInt(tick);
+        buffer.putShort((short) studentCount);
+        for (int id = 0; id <= highestId; id++) {
+            if (active[id]) {
+                writeStudent(buffer, id, Protocol.FIELD_ALL);
+            }
+        }
+        Protocol.endFrame(buffer, start);
+    }
+
+    private void writeStudent(ByteBuffer buffer, int id, int fields) {
+        buffer.putShort((short) id);
+        buffer.put((byte) fields);
+        if ((fields & Protocol.FIELD_POSITION) != 0) {
+            buffer.putShort(Protocol.encodePosition(x[id]));
+            buffer.putShort(Protocol.encodePosition(y[id]));
+        }
+        if ((fields & Protocol.FIELD_DOORS) != 0) {
+            buffer.putInt(doors[id]);
+        }
+        if ((fields & Protocol.FIELD_SCORE) != 0) {
+            buffer.putShort((short) score[id]);
+        }
+    }
+
+    /**
+     * De grootte van het grootste frame dat de simulatie kan schrijven, voor het kiezen van buffergroottes.
+     */
+    public static int getMaxFrameSize() {
+        // tick en aantal, plus per student id, velden, positie, deuren en score
+        return Protocol.FRAME_HEADER + 6 + MAX_STUDENTS * (2 + 1 + 4 + 4 + 2);
+    }
+
+    /**
+     * De tellers voor het dashboard; die mogen vanaf elke thread gelezen worden.
+     */
+    public SessionStats getStats() {
+        return stats;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+}
@@ -0,0 +1,51 @@
+package nl.webser.scrum_escape.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Hergebruikt direct buffers van één vaste grootte.
+ *
+ * Direct buffers zijn duur om te maken en worden pas laat door de garbage
+ * collector opgeruimd. De server vraagt ze daarom bij een nieuwe verbinding
+ * aan de pool en geeft ze terug als de verbinding dicht gaat. Alleen de
+ * thread van de selector gebruikt de pool, dus er is geen synchronisatie.
+ */
+public class DirectBufferPool {
+    private final int bufferSize;
+    private final int maxIdle;
+    private final ArrayDeque<ByteBuffer> idle = new ArrayDeque<>();
+    private int allocated;
+
+    /**
+     * @param bufferSize Grootte van elke buffer in bytes
+     * @param maxIdle Hoeveel vrije buffers de pool maximaal bewaart
+     */
+    public DirectBufferPool(int bufferSize, int maxIdle) {
+        this.bufferSize = bufferSize;
+        this.maxIdle = maxIdle;
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+            allocated++;
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() == bufferSize && idle.size() < maxIdle) {
+            idle.push(buffer);
+        }
+    }
+
+    /**
+     * Hoeveel buffers de pool in totaal heeft gemaakt.
+     */
+    public int getAllocated() {
+        return allocated;
+    }
+}
@@ -0,0 +1,80 @@
+package nl.webser.scrum_escape.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Het binaire protocol tussen de klassikale server en de spelers.
+ *
+ * Client naar server: berichten van vaste lengte ({@link #INPUT_SIZE} bytes),
+ * {@code [type][knoppen][deur][antwoord]}. Er hoeft dus niets ingepakt of
+ * gezocht te worden; de server leest ze direct uit de leesbuffer.
+ *
+ * Server naar client: frames {@code [lengte u16][type u8][inhoud]}, waarbij de
+ * lengte het type en de inhoud telt. Een {@link #FULL} of {@link #DELTA} frame
+ * is {@code [tick u32][aantal u16]} gevolgd door per student
+ * {@code [id u16][velden u8]} en alleen de velden die in die byte staan:
+ * positie (x en y als i16 in kwart pixels), deuren (i32 bitset) en score (u16).
+ * Een FULL frame bevat alle studenten; een DELTA alleen wat sinds de vorige
+ * tick veranderd is.
+ */
+public final class Protocol {
+    public static final int DEFAULT_PORT = 7777;
+    public static final int DEFAULT_TICK_RATE = 20;
+
+    // Client naar server
+    public static final byte INPUT = 1;
+    public static final int INPUT_SIZE = 4;
+    public static final int NO_DOOR = 0xFF;
+
+    // Knoppen in een INPUT bericht
+    public static final int BUTTON_LEFT = 1;
+    public static final int BUTTON_RIGHT = 2;
+    public static final int BUTTON_UP = 4;
+    public static final int BUTTON_DOWN = 8;
+
+    // Server naar client
+    public static final byte WELCOME = 1;   // [student u16][tickrate u8][deuren u8][max studenten u16]
+    public static final byte FULL = 2;
+    public static final byte DELTA = 3;
+    public static final byte REJECT = 4;    // De sessie is vol; daarna gaat de verbinding dicht
+
+    // Velden per student in een FULL of DELTA frame
+    public static final int FIELD_POSITION = 1;
+    public static final int FIELD_DOORS = 2;
+    public static final int FIELD_SCORE = 4;
+    public static final int FIELD_LEFT = 0x80;  // De student is weg; er volgen geen velden
+    public static final int FIELD_ALL = FIELD_POSITION | FIELD_DOORS | FIELD_SCORE;
+
+    /** Posities gaan als kwart pixels over de lijn. */
+    public static final float POSITION_SCALE = 4f;
+
+    /** Grootte van de lengte en het type aan het begin van een frame. */
+    public static final int FRAME_HEADER = 3;
+
+    private Protocol() {
+    }
+
+    /**
+     * Begint een frame; de lengte wordt door {@link #endFrame} ingevuld.
+     *
+     * @return De positie van het frame in de buffer
+     */
+    public static int beginFrame(ByteBuffer buffer, byte type) {
+        int start = buffer.position();
+        buffer.putShort((short) 0);
+        buffer.put(type);
+        return start;
+    }
+
+    public static void endFrame(ByteBuffer buffer, int start) {
+        buffer.putShort(start, (short) (buffer.position() - start - 2));
+    }
+
+    public static short encodePosition(float value) {
+        return (short) Math.round(value * POSITION_SCALE);
+    }
+
+    public static float decodePosition(short value) {
+        return value / POSITION_SCALE;
+    }
+}
@@ -0,0 +1,109 @@
+package nl.webser.scrum_escape.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Tellers per student voor het dashboard van de trainer.
+ *
+ * De simulatie schrijft erin op de thread van de server, het dashboard leest
+ * op een eigen thread. Alles staat in atomaire arrays, zodat geen van beide
+ * ooit op de ander hoeft te wachten. Een uitlezing is per teller correct maar
+ * niet als geheel: een antwoord dat precies tijdens het uitlezen binnenkomt,
+ * staat er bij de volgende uitlezing in.
+ *
+ * Alleen gebeurtenissen die de trainer wil zien verhogen de versie; lopen
+ * doet dat niet. Zo weet het dashboard zonder alles te vergelijken of er iets
+ * te melden is.
+ */
+public class SessionStats {
+    /** Waarde van {@link #getDoorAt} voor een plek zonder student. */
+    public static final int ABSENT = -1;
+
+    private final int doorCount;
+    private final AtomicIntegerArray doorAt = new AtomicIntegerArray(ClassroomSimulation.MAX_STUDENTS);
+    private final AtomicIntegerArray score = new AtomicIntegerArray(ClassroomSimulation.MAX_STUDENTS);
+    private final AtomicIntegerArray wrong;          // [student * deuren + deur]
+    private final AtomicIntegerArray wrongPerDoor;
+    private final AtomicIntegerArray correctPerDoor;
+    private final AtomicInteger version = new AtomicInteger();
+
+    public SessionStats(int doorCount) {
+        this.doorCount = doorCount;
+        wrong = new AtomicIntegerArray(ClassroomSimulation.MAX_STUDENTS * doorCount);
+        wrongPerDoor = new AtomicIntegerArray(doorCount);
+        correctPerDoor = new AtomicIntegerArray(doorCount);
+        for (int id = 0; id < ClassroomSimulation.MAX_STUDENTS; id++) {
+            doorAt.set(id, ABSENT);
+        }
+    }
+
+    void joined(int id) {
+        for (int door = 0; door < doorCount; door++) {
+            wrong.set(id * doorCount + door, 0);
+        }
+        score.set(id, 0);
+        doorAt.set(id, 0);
+        version.incrementAndGet();
+    }
+
+    void left(int id) {
+        doorAt.set(id, ABSENT);
+        version.incrementAndGet();
+    }
+
+    /**
+     * @param doors De open deuren van de student na dit antwoord
+     */
+    void answered(int id, int door, boolean correct, int doors, int points) {
+        if (correct) {
+            correctPerDoor.incrementAndGet(door);
+            score.set(id, points);
+            doorAt.set(id, firstClosedDoor(doors));
+        } else {
+            wrong.incrementAndGet(id * doorCount + door);
+            wrongPerDoor.incrementAndGet(door);
+        }
+        version.incrementAndGet();
+    }
+
+    // De deur waar de student nu voor staat: de eerste die nog dicht is
+    private int firstClosedDoor(int doors) {
+        int door = 0;
+        while (door < doorCount && (doors & (1 << door)) != 0) {
+            door++;
+        }
+        return door;
+    }
+
+    public int getVersion() {
+        return version.get();
+    }
+
+    public int getDoorCount() {
+        return doorCount;
+    }
+
+    /**
+     * @return Nummer van de deur, {@link #getDoorCount()} als alle deuren open zijn, of {@link #ABSENT}
+     */
+    public int getDoorAt(int id) {
+        return doorAt.get(id);
+    }
+
+    public int getScore(int id) {
+        return score.get(id);
+    }
+
+    public int getWrong(int id, int door) {
+        return wrong.get(id * doorCount + door);
+    }
+
+    public int getWrongPerDoor(int door) {
+        return wrongPerDoor.get(door);
+    }
+
+    public int getCorrectPerDoor(int door) {
+        return correctPerDoor.get(door);
+    }
+}
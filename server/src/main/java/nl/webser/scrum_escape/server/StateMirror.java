@@ -0,0 +1,148 @@
+package nl.webser.scrum_escape.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * De kant van de client: houdt een kopie bij van de toestand op de server.
+ *
+ * Een FULL frame vervangt de hele kopie, een DELTA past alleen de velden aan
+ * die erin staan. Zolang er nog geen FULL frame is geweest worden delta's
+ * overgeslagen, want die gaan uit van een toestand die de client nog niet heeft.
+ */
+public class StateMirror {
+    private final boolean[] active = new boolean[ClassroomSimulation.MAX_STUDENTS];
+    private final float[] x = new float[ClassroomSimulation.MAX_STUDENTS];
+    private final float[] y = new float[ClassroomSimulation.MAX_STUDENTS];
+    private final int[] doors = new int[ClassroomSimulation.MAX_STUDENTS];
+    private final int[] score = new int[ClassroomSimulation.MAX_STUDENTS];
+    private int studentId = -1;
+    private int tickRate;
+    private int tick;
+    private boolean synced;
+    private boolean rejected;
+
+    /**
+     * Verwerkt alle complete frames in de buffer. Een half frame blijft staan
+     * tot de rest binnen is.
+     *
+     * @param buffer Ontvangen bytes, klaar om te lezen
+     * @return Aantal verwerkte frames
+     */
+    public int read(ByteBuffer buffer) {
+        int frames = 0;
+        while (buffer.remaining() >= 2) {
+            int length = buffer.getShort(buffer.position()) & 0xFFFF;
+            if (buffer.remaining() < length + 2) {
+                break;
+            }
+            int end = buffer.position() + 2 + length;
+            buffer.position(buffer.position() + 2);
+            readFrame(buffer, buffer.get());
+            buffer.position(end);
+            frames++;
+        }
+        return frames;
+    }
+
+    private void readFrame(ByteBuffer buffer, byte type) {
+        switch (type) {
+            case Protocol.WELCOME:
+                studentId = buffer.getShort() & 0xFFFF;
+                tickRate = buffer.get() & 0xFF;
+                break;
+            case Protocol.REJECT:
+                rejected = true;
+                break;
+            case Protocol.FULL:
+                for (int id = 0; id < active.length; id++) {
+                    active[id] = false;
+                }
+                synced = true;
+                readStudents(buffer);
+                break;
+            case Protocol.DELTA:
+                if (synced) {
+                    readStudents(buffer);
+                }
+                break;
+            default:
+                System.err.println("Onbekend frame van de server: " + type);
+                break;
+        }
+    }
+
+    private void readStudents(ByteBuffer buffer) {
+        tick = buffer.getInt();
+        int count = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int id = buffer.getShort() & 0xFFFF;
+            int fields = buffer.get() & 0xFF;
+            if ((fields & Protocol.FIELD_LEFT) != 0) {
+                active[id] = false;
+                continue;
+            }
+            active[id] = true;
+            if ((fields & Protocol.FIELD_POSITION) != 0) {
+                x[id] = Protocol.decodePosition(buffer.getShort());
+                y[id] = Protocol.decodePosition(buffer.getShort());
+            }
+            if ((fields & Protocol.FIELD_DOORS) != 0) {
+                doors[id] = buffer.getInt();
+            }
+            if ((fields & Protocol.FIELD_SCORE) != 0) {
+                score[id] = buffer.getShort() & 0xFFFF;
+            }
+        }
+    }
+
+    public int getStudentCount() {
+        int count = 0;
+        for (boolean present : active) {
+            if (present) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean isActive(int id) {
+        return active[id];
+    }
+
+    public float getX(int id) {
+        return x[id];
+    }
+
+    public float getY(int id) {
+        return y[id];
+    }
+
+    public int getDoors(int id) {
+        return doors[id];
+    }
+
+    public int getScore(int id) {
+        return score[id];
+    }
+
+    /** Het eigen nummer uit het WELCOME frame, of -1 als dat er nog niet is. */
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public boolean isRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,68 @@
+package nl.webser.scrum_escape.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Eén verbonden student: het kanaal, de buffers uit de pool en of de student
+ * een volledige toestand nodig heeft.
+ *
+ * De schrijfbuffer staat altijd in vulstand. Past een nieuw frame er niet meer
+ * in, dan loopt de student achter; dat frame wordt overgeslagen en de student
+ * krijgt een volledige toestand zodra er weer ruimte is. Zo groeit er geen
+ * wachtrij en blokkeert één trage verbinding de rest van de klas niet.
+ */
+class StudentConnection {
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ByteBuffer readBuffer;
+    final ByteBuffer writeBuffer;
+    final int studentId;
+    boolean needsSnapshot = true;
+
+    StudentConnection(SocketChannel channel, SelectionKey key, ByteBuffer readBuffer, ByteBuffer writeBuffer, int studentId) {
+        this.channel = channel;
+        this.key = key;
+        this.readBuffer = readBuffer;
+        this.writeBuffer = writeBuffer;
+        this.studentId = studentId;
+    }
+
+    /**
+     * Zet een kant-en-klaar frame achter de wachtende bytes.
+     *
+     * @param frame Het frame, klaar om te lezen; de positie blijft staan
+     * @return false als het frame niet past
+     */
+    boolean enqueue(ByteBuffer frame) {
+        if (writeBuffer.remaining() < frame.remaining()) {
+            return false;
+        }
+        int position = frame.position();
+        writeBuffer.put(frame);
+        frame.position(position);
+        return true;
+    }
+
+    /**
+     * Schrijft zoveel mogelijk naar het kanaal zonder te blokkeren. Blijft er
+     * iets over, dan luistert de selector ook naar OP_WRITE.
+     *
+     * @return Aantal geschreven bytes
+     */
+    int flush() throws IOException {
+        if (writeBuffer.position() == 0) {
+            return 0;
+        }
+        writeBuffer.flip();
+        int written = channel.write(writeBuffer);
+        writeBuffer.compact();
+        int interest = writeBuffer.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        if (key.interestOps() != interest) {
+            key.interestOps(interest);
+        }
+        return written;
+    }
+}
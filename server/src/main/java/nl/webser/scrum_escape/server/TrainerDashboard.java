@@ -0,0 +1,216 @@
+package nl.webser.scrum_escape.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live overzicht voor de trainer: bij welke deur elke student staat en welke
+ * vragen fout gaan.
+ *
+ * Een kleine HTTP server op localhost levert een pagina en een stroom
+ * server-sent events. Eén eigen thread kijkt een paar keer per seconde of de
+ * versie van de {@link SessionStats} veranderd is, bouwt dan één JSON bericht
+ * en stuurt dat naar alle open pagina's. Hoeveel er ook gebeurt, er gaan nooit
+ * meer dan {@link #UPDATES_PER_SECOND} berichten per seconde uit, en de thread
+ * van de server merkt niets van het dashboard.
+ *
+ * Alleen die ene thread schrijft naar de open verbindingen. Nieuwe pagina's
+ * komen via een wachtrij binnen en krijgen bij de volgende ronde de huidige stand.
+ */
+public class TrainerDashboard {
+    public static final String PORT_PROPERTY = "scrumescape.dashboard.port";
+    public static final int DEFAULT_PORT = 7780;
+    public static final int UPDATES_PER_SECOND = 4;
+
+    // Een leeg commentaar af en toe, zodat gesloten pagina's opvallen
+    private static final long KEEP_ALIVE_MILLIS = 15_000L;
+    private static final byte[] KEEP_ALIVE = ": ping\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final String PAGE = "<!DOCTYPE html>\n"
+        + "<html lang=\"nl\"><head><meta charset=\"utf-8\"><title>Scrum Escape - trainer</title>\n"
+        + "<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;margin-bottom:2em}"
+        + "td,th{border:1px solid #ccc;padding:4px 10px;text-align:left}.fout{color:#b00}</style></head>\n"
+        + "<body><h1>Scrum Escape</h1><p id=\"status\">Verbinden...</p>\n"
+        + "<h2>Deuren</h2><table id=\"doors\"></table><h2>Studenten</h2><table id=\"students\"></table>\n"
+        + "<script>\n"
+        + "function row(cells, tag) { return '<tr>' + cells.map(function (c) { return '<' + tag + '>' + c + '</' + tag + '>'; }).join('') + '</tr>'; }\n"
+        + "new EventSource('/events').onmessage = function (e) {\n"
+        + "  var s = JSON.parse(e.data);\n"
+        + "  document.getElementById('status').textContent = s.students + ' studenten, ' + s.finished + ' klaar';\n"
+        + "  document.getElementById('doors').innerHTML = row(['Deur', 'Studenten', 'Goed', 'Fout'], 'th')\n"
+        + "    + s.doors.map(function (d) { return row([d.id, d.students, d.correct, d.wrong], 'td'); }).join('');\n"
+        + "  document.getElementById('students').innerHTML = row(['Student', 'Bij deur', 'Score', 'Fout bij'], 'th')\n"
+        + "    + s.list.map(function (p) { return row([p.id, p.door < s.doors.length ? s.doors[p.door].id : 'klaar', p.score,\n"
+        + "      '<span class=\"fout\">' + p.failing.join(', ') + '</span>'], 'td'); }).join('');\n"
+        + "};\n"
+        + "</script></body></html>\n";
+
+    private final SessionStats stats;
+    private final String[] doorIds;
+    private final HttpServer http;
+    private final ScheduledExecutorService updater;
+    private final ConcurrentLinkedQueue<HttpExchange> joining = new ConcurrentLinkedQueue<>();
+    private final List<HttpExchange> clients = new ArrayList<>();   // Alleen op de thread van de updater
+    private final StringBuilder json = new StringBuilder();
+    private byte[] event;
+    private int sentVersion = -1;
+    private long lastWrite;
+
+    /**
+     * @param stats De tellers van de sessie
+     * @param doorIds Vraag ID per deur, in de volgorde van de tellers
+     * @param port Poort op localhost
+     */
+    public TrainerDashboard(SessionStats stats, String[] doorIds, int port) throws IOException {
+        this.stats = stats;
+        this.doorIds = doorIds;
+        http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        http.createContext("/", this::handlePage);
+        http.createContext("/events", this::handleEvents);
+        updater = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trainer-dashboard");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        http.start();
+        long interval = 1000L / UPDATES_PER_SECOND;
+        updater.scheduleAtFixedRate(this::update, interval, interval, TimeUnit.MILLISECONDS);
+        System.out.println("Dashboard voor de trainer op http://localhost:" + http.getAddress().getPort() + "/");
+    }
+
+    public void stop() {
+        updater.shutdownNow();
+        http.stop(0);
+    }
+
+    private void handlePage(HttpExchange exchange) throws IOException {
+        byte[] page = PAGE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, page.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(page);
+        }
+    }
+
+    private void handleEvents(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        // De verbinding blijft open; de updater schrijft er voortaan naar
+        joining.add(exchange);
+    }
+
+    /**
+     * Eén ronde van de updater: een nieuw bericht als er iets veranderd is,
+     * en de huidige stand voor pagina's die net verbonden zijn.
+     */
+    private void update() {
+        // Versie eerst lezen: verandert er iets tijdens het bouwen, dan volgt er nog een bericht
+        int version = stats.getVersion();
+        boolean changed = version != sentVersion;
+        if (changed) {
+            event = buildEvent();
+            sentVersion = version;
+            sendToAll(event);
+        } else if (System.currentTimeMillis() - lastWrite > KEEP_ALIVE_MILLIS) {
+            sendToAll(KEEP_ALIVE);
+        }
+
+        HttpExchange exchange;
+        while ((exchange = joining.poll()) != null) {
+            if (send(exchange, event)) {
+                clients.add(exchange);
+            }
+        }
+    }
+
+    private void sendToAll(byte[] data) {
+        Iterator<HttpExchange> iterator = clients.iterator();
+        while (iterator.hasNext()) {
+            if (!send(iterator.next(), data)) {
+                iterator.remove();
+            }
+        }
+        lastWrite = System.currentTimeMillis();
+    }
+
+    private static boolean send(HttpExchange exchange, byte[] data) {
+        try {
+            OutputStream body = exchange.getResponseBody();
+            body.write(data);
+            body.flush();
+            return true;
+        } catch (IOException e) {
+            // Pagina gesloten
+            exchange.close();
+            return false;
+        }
+    }
+
+    /**
+     * Zet de tellers om in één server-sent event met JSON.
+     */
+    private byte[] buildEvent() {
+        int doorCount = stats.getDoorCount();
+        int[] studentsAtDoor = new int[doorCount];
+        int students = 0;
+        int finished = 0;
+
+        json.setLength(0);
+        json.append("data: {\"list\":[");
+        for (int id = 0; id < ClassroomSimulation.MAX_STUDENTS; id++) {
+            int door = stats.getDoorAt(id);
+            if (door == SessionStats.ABSENT) {
+                continue;
+            }
+            if (door < doorCount) {
+                studentsAtDoor[door]++;
+            } else {
+                finished++;
+            }
+            if (students++ > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(id)
+                .append(",\"door\":").append(door)
+                .append(",\"score\":").append(stats.getScore(id))
+                .append(",\"failing\":[");
+            boolean first = true;
+            for (int d = 0; d < doorCount; d++) {
+                if (stats.getWrong(id, d) > 0) {
+                    json.append(first ? "" : ",").append('"').append(doorIds[d]).append('"');
+                    first = false;
+                }
+            }
+            json.append("]}");
+        }
+        json.append("],\"doors\":[");
+        for (int d = 0; d < doorCount; d++) {
+            json.append(d > 0 ? "," : "")
+                .append("{\"id\":\"").append(doorIds[d])
+                .append("\",\"students\":").append(studentsAtDoor[d])
+                .append(",\"correct\":").append(stats.getCorrectPerDoor(d))
+                .append(",\"wrong\":").append(stats.getWrongPerDoor(d))
+                .append('}');
+        }
+        json.append("],\"students\":").append(students)
+            .append(",\"finished\":").append(finished)
+            .append("}\n\n");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}